@@ -0,0 +1,116 @@
+package com.cMall.feedShop.common.benchmark;
+
+import com.cMall.feedShop.annotation.CustomEncryption;
+import com.cMall.feedShop.common.aop.PasswordEncryptionAspect;
+import com.cMall.feedShop.user.application.dto.request.UserLoginRequest;
+import com.cMall.feedShop.user.application.dto.request.UserSignUpRequest;
+import com.cMall.feedShop.user.domain.service.PasswordEncryptionService;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Modifier;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PasswordEncryptionAspect 필드 암호화 비용 비교
+ * - reflection*: 기존 구현 (호출마다 FieldUtils 로 전체 필드 탐색 + 애노테이션 확인 + 리플렉션 읽기/쓰기)
+ * - cached*: 클래스별 캐시된 MethodHandle 접근자 (현재 구현)
+ * 암호화 자체 비용을 빼고 필드 접근 비용만 보도록 암호화는 입력을 그대로 돌려줍니다.
+ * 실행: ./gradlew jmh -PjmhIncludes=PasswordEncryptionAspectBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class PasswordEncryptionAspectBenchmark {
+
+    private static final PasswordEncryptionService IDENTITY = new PasswordEncryptionService() {
+        @Override
+        public String encrypt(String rawPassword) {
+            return rawPassword;
+        }
+
+        @Override
+        public boolean matches(String rawPassword, String encodedPassword) {
+            return rawPassword.equals(encodedPassword);
+        }
+    };
+
+    private PasswordEncryptionAspect aspect;
+    private UserSignUpRequest signUpRequest;
+    private UserLoginRequest loginRequest;
+
+    @Setup
+    public void setUp() throws IllegalAccessException {
+        aspect = new PasswordEncryptionAspect(IDENTITY);
+        signUpRequest = new UserSignUpRequest();
+        FieldUtils.writeField(signUpRequest, "loginId", "benchmark-user", true);
+        FieldUtils.writeField(signUpRequest, "password", "benchmark-password", true);
+        FieldUtils.writeField(signUpRequest, "email", "bench@example.com", true);
+        loginRequest = new UserLoginRequest();
+        loginRequest.setEmail("bench@example.com");
+        loginRequest.setPassword("benchmark-password");
+    }
+
+    // 암호화 대상 필드가 있는 DTO (회원가입)
+
+    @Benchmark
+    public Object reflectionAnnotatedDto() {
+        reflectionFieldEncryption(signUpRequest);
+        return signUpRequest;
+    }
+
+    @Benchmark
+    public Object cachedAnnotatedDto() {
+        aspect.fieldEncryption(signUpRequest);
+        return signUpRequest;
+    }
+
+    // 암호화 대상 필드가 없는 DTO (대부분의 user.presentation 호출)
+
+    @Benchmark
+    public Object reflectionPlainDto() {
+        reflectionFieldEncryption(loginRequest);
+        return loginRequest;
+    }
+
+    @Benchmark
+    public Object cachedPlainDto() {
+        aspect.fieldEncryption(loginRequest);
+        return loginRequest;
+    }
+
+    /**
+     * 기존 PasswordEncryptionAspect.fieldEncryption 구현 (비교 기준)
+     */
+    private void reflectionFieldEncryption(Object object) {
+        FieldUtils.getAllFieldsList(object.getClass())
+                .stream()
+                .filter(field -> !(Modifier.isFinal(field.getModifiers()) && Modifier.isStatic(field.getModifiers())))
+                .forEach(field -> {
+                    try {
+                        if (!field.isAnnotationPresent(CustomEncryption.class)) {
+                            return;
+                        }
+                        Object fieldValue = FieldUtils.readField(field, object, true);
+                        if (!(fieldValue instanceof String rawString)) {
+                            return;
+                        }
+                        FieldUtils.writeField(field, object, IDENTITY.encrypt(rawString), true);
+                    } catch (Exception e) {
+                        throw new RuntimeException("Error during field encryption: " + field.getName(), e);
+                    }
+                });
+    }
+}
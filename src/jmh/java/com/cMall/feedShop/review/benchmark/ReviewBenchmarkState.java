@@ -0,0 +1,88 @@
+package com.cMall.feedShop.review.benchmark;
+
+import com.cMall.feedShop.FeedShopApplication;
+import com.cMall.feedShop.review.application.ReviewService;
+import com.cMall.feedShop.review.application.ReviewStatisticsService;
+import com.cMall.feedShop.review.application.dto.request.ReviewCreateRequest;
+import com.cMall.feedShop.review.fixture.SampleReviewData;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 벤치마크 공용 상태 - 애플리케이션 컨텍스트(H2)를 띄우고 data/sample-data.json 으로 리뷰를 시드합니다.
+ */
+@State(Scope.Benchmark)
+public class ReviewBenchmarkState {
+
+    static final String[] BENCHMARK_PROPERTIES = {
+            "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+            "spring.datasource.driver-class-name=org.h2.Driver",
+            "spring.datasource.username=sa",
+            "spring.jpa.hibernate.ddl-auto=create-drop",
+            "spring.flyway.enabled=false",
+            "spring.main.banner-mode=off",
+            "server.port=0",
+            "logging.level.root=WARN",
+            "review.stats.rebuild-cron=-",
+            "jwt.secret=benchmark_jwt_secret_key_which_should_be_at_least_256_bit_long_string_for_hs256_signing"
+    };
+
+    @Param({"50"})
+    public int productCount;
+
+    @Param({"2000"})
+    public int reviewCount;
+
+    ConfigurableApplicationContext context;
+    ReviewService reviewService;
+    ReviewStatisticsService reviewStatisticsService;
+
+    private List<ReviewCreateRequest> templates;
+    private long[] reviewIds;
+    // 작성 벤치마크용 - 시드 사용자와 겹치지 않는 사용자 ID
+    private final AtomicLong newUserId = new AtomicLong(1_000_000L);
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(FeedShopApplication.class)
+                .properties(BENCHMARK_PROPERTIES)
+                .run();
+        reviewService = context.getBean(ReviewService.class);
+        reviewStatisticsService = context.getBean(ReviewStatisticsService.class);
+
+        templates = SampleReviewData.load();
+        reviewIds = new long[reviewCount];
+        for (int i = 0; i < reviewCount; i++) {
+            ReviewCreateRequest request = SampleReviewData.request(templates, i, i + 1L, i % productCount + 1L);
+            reviewIds[i] = reviewService.createReview(request).getReviewId();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    ReviewCreateRequest nextNewReview() {
+        long userId = newUserId.incrementAndGet();
+        return SampleReviewData.request(templates, (int) (userId % templates.size()), userId, randomProductId());
+    }
+
+    long randomProductId() {
+        return ThreadLocalRandom.current().nextLong(productCount) + 1;
+    }
+
+    long randomReviewId() {
+        return reviewIds[ThreadLocalRandom.current().nextInt(reviewIds.length)];
+    }
+}
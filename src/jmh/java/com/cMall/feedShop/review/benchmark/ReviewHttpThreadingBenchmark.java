@@ -0,0 +1,130 @@
+package com.cMall.feedShop.review.benchmark;
+
+import com.cMall.feedShop.FeedShopApplication;
+import com.cMall.feedShop.review.application.ReviewService;
+import com.cMall.feedShop.review.application.dto.request.ReviewCreateRequest;
+import com.cMall.feedShop.review.fixture.SampleReviewData;
+import com.cMall.feedShop.user.infrastructure.security.JwtTokenProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리뷰 조회 API 부하 비교 - Tomcat 플랫폼 스레드 풀(기본 200) vs 가상 스레드 (spring.threads.virtual.enabled)
+ * - 실제 포트로 띄운 애플리케이션에 JMH 스레드 256개가 동시에 HTTP 요청을 보내 처리량을 측정합니다.
+ * - 동시 요청 수가 Tomcat 스레드 수보다 많아 platform 모드에서는 요청이 스레드 대기열에 쌓이고,
+ *   virtual 모드에서는 Hikari 커넥션 풀이 동시 실행 상한이 됩니다.
+ * - virtual 모드는 Java 21 이상에서만 실행됩니다. 기본(Java 17) 빌드에서는 build.gradle 이 threading=platform 만 넘깁니다.
+ * 실행: ./gradlew jmh -PjavaVersion=21 -PjmhIncludes=ReviewHttpThreadingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Threads(256)
+@Fork(1)
+public class ReviewHttpThreadingBenchmark {
+
+    @Param({"platform", "virtual"})
+    public String threading;
+
+    @Param({"50"})
+    public int productCount;
+
+    @Param({"2000"})
+    public int reviewCount;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private String baseUrl;
+    private String authorization;
+    private long[] reviewIds;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        boolean virtual = "virtual".equals(threading);
+        if (virtual && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("virtual 모드는 Java 21 이상이 필요합니다 (-PjavaVersion=21)");
+        }
+        context = new SpringApplicationBuilder(FeedShopApplication.class)
+                .properties(ReviewBenchmarkState.BENCHMARK_PROPERTIES)
+                .properties("spring.datasource.url=jdbc:h2:mem:http-benchmark;DB_CLOSE_DELAY=-1",
+                        "spring.threads.virtual.enabled=" + virtual,
+                        "spring.datasource.hikari.maximum-pool-size=20",
+                        "logging-aspect.payload-sample-rate=0")
+                .run();
+
+        ReviewService reviewService = context.getBean(ReviewService.class);
+        List<ReviewCreateRequest> templates = SampleReviewData.load();
+        reviewIds = new long[reviewCount];
+        for (int i = 0; i < reviewCount; i++) {
+            ReviewCreateRequest request = SampleReviewData.request(templates, i, i + 1L, i % productCount + 1L);
+            reviewIds[i] = reviewService.createReview(request).getReviewId();
+        }
+
+        String token = context.getBean(JwtTokenProvider.class)
+                .generateAccessToken(1L, "benchmark@example.com", "ROLE_USER", null);
+        authorization = "Bearer " + token;
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public int getProductReviews() throws IOException, InterruptedException {
+        return get("/api/products/" + randomProductId() + "/reviews?page=0&size=20");
+    }
+
+    @Benchmark
+    public int getProductReviewsByCursor() throws IOException, InterruptedException {
+        return get("/api/products/" + randomProductId() + "/reviews/cursor?size=20");
+    }
+
+    @Benchmark
+    public int getReviewDetail() throws IOException, InterruptedException {
+        return get("/api/reviews/" + reviewIds[ThreadLocalRandom.current().nextInt(reviewIds.length)]);
+    }
+
+    private int get(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", authorization)
+                .GET()
+                .build();
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET " + path + " -> " + response.statusCode());
+        }
+        return response.body().length;
+    }
+
+    private long randomProductId() {
+        return ThreadLocalRandom.current().nextLong(productCount) + 1;
+    }
+}
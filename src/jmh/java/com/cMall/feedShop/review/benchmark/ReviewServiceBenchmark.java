@@ -0,0 +1,55 @@
+package com.cMall.feedShop.review.benchmark;
+
+import com.cMall.feedShop.review.application.dto.response.ProductReviewSummaryResponse;
+import com.cMall.feedShop.review.application.dto.response.ReviewCreateResponse;
+import com.cMall.feedShop.review.application.dto.response.ReviewDetailResponse;
+import com.cMall.feedShop.review.application.dto.response.ReviewStatisticsResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리뷰 읽기/쓰기 경로 벤치마크
+ * 실행: ./gradlew jmh  (결과: build/reports/jmh/results-{version}.json)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ReviewServiceBenchmark {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20);
+
+    /**
+     * 리뷰 작성 (리뷰 + 이미지 저장, 상품 집계 갱신)
+     * 측정 중 작성된 리뷰는 데이터셋에 누적됩니다.
+     */
+    @Benchmark
+    public ReviewCreateResponse createReview(ReviewBenchmarkState state) {
+        return state.reviewService.createReview(state.nextNewReview());
+    }
+
+    @Benchmark
+    public ProductReviewSummaryResponse getProductReviews(ReviewBenchmarkState state) {
+        return state.reviewService.getProductReviews(state.randomProductId(), FIRST_PAGE);
+    }
+
+    @Benchmark
+    public ReviewDetailResponse getReviewDetail(ReviewBenchmarkState state) {
+        return state.reviewService.getReviewDetail(state.randomReviewId());
+    }
+
+    @Benchmark
+    public ReviewStatisticsResponse getProductStatistics(ReviewBenchmarkState state) {
+        return state.reviewStatisticsService.getProductStatistics(state.randomProductId());
+    }
+}
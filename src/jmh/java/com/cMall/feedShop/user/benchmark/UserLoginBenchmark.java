@@ -0,0 +1,134 @@
+package com.cMall.feedShop.user.benchmark;
+
+import com.cMall.feedShop.FeedShopApplication;
+import com.cMall.feedShop.user.application.dto.request.UserLoginRequest;
+import com.cMall.feedShop.user.application.dto.response.UserLoginResponse;
+import com.cMall.feedShop.user.application.service.UserAuthService;
+import com.cMall.feedShop.user.domain.enums.UserRole;
+import com.cMall.feedShop.user.domain.model.User;
+import com.cMall.feedShop.user.domain.repository.UserRepository;
+import com.cMall.feedShop.user.infrastructure.security.JwtTokenProvider;
+import com.cMall.feedShop.user.infrastructure.security.RefreshTokenManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 처리량 벤치마크
+ * - login: 인증 시 fetch join 으로 조회한 User 를 그대로 사용 (SELECT 1회)
+ * - loginWithSecondLookup: 인증 후 이메일로 User 를 다시 조회하던 이전 방식 (SELECT 2회)
+ * BCrypt 비용이 DB 조회 차이를 가리지 않도록 strength 를 4 로 낮춰 측정합니다.
+ * 실행: ./gradlew jmh -PjmhIncludes=UserLoginBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(4)
+@Fork(1)
+public class UserLoginBenchmark {
+
+    private static final String PASSWORD = "password1234!";
+
+    private static final String[] BENCHMARK_PROPERTIES = {
+            "spring.datasource.url=jdbc:h2:mem:login-benchmark;DB_CLOSE_DELAY=-1",
+            "spring.datasource.driver-class-name=org.h2.Driver",
+            "spring.datasource.username=sa",
+            "spring.jpa.hibernate.ddl-auto=create-drop",
+            "spring.flyway.enabled=false",
+            "spring.main.banner-mode=off",
+            "server.port=0",
+            "logging.level.root=WARN",
+            "review.stats.rebuild-cron=-",
+            "password-hashing.bcrypt-strength=4",
+            "jwt.secret=benchmark_jwt_secret_key_which_should_be_at_least_256_bit_long_string_for_hs256_signing"
+    };
+
+    @Param({"1000"})
+    public int userCount;
+
+    private ConfigurableApplicationContext context;
+    private UserAuthService userAuthService;
+    private AuthenticationManager authenticationManager;
+    private UserRepository userRepository;
+    private JwtTokenProvider jwtTokenProvider;
+    private RefreshTokenManager refreshTokenManager;
+    private UserLoginRequest[] requests;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(FeedShopApplication.class)
+                .properties(BENCHMARK_PROPERTIES)
+                .run();
+        userAuthService = context.getBean(UserAuthService.class);
+        authenticationManager = context.getBean(AuthenticationManager.class);
+        userRepository = context.getBean(UserRepository.class);
+        jwtTokenProvider = context.getBean(JwtTokenProvider.class);
+        refreshTokenManager = context.getBean(RefreshTokenManager.class);
+
+        String encoded = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+        requests = new UserLoginRequest[userCount];
+        for (int i = 0; i < userCount; i++) {
+            String email = "bench" + i + "@example.com";
+            User user = new User("bench" + i, encoded, email, "010-0000-0000", UserRole.ROLE_USER);
+            user.setCreatedAt(LocalDateTime.now());
+            user.setUpdatedAt(LocalDateTime.now());
+            userRepository.save(user);
+
+            UserLoginRequest request = new UserLoginRequest();
+            request.setEmail(email);
+            request.setPassword(PASSWORD);
+            requests[i] = request;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public UserLoginResponse login() {
+        return userAuthService.login(randomRequest());
+    }
+
+    /**
+     * 비교 기준 - 인증 후 findByEmail 로 한 번 더 조회하고 지연 로딩 프로필에 접근 (토큰 발급은 login 과 동일)
+     */
+    @Benchmark
+    public UserLoginResponse loginWithSecondLookup() {
+        UserLoginRequest request = randomRequest();
+        authenticationManager.authenticate(
+                new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword()));
+        User user = userRepository.findByEmail(request.getEmail()).orElseThrow();
+        String nickname = user.getUserProfile() != null ? user.getUserProfile().getNickname() : null;
+        String token = jwtTokenProvider.generateAccessToken(user.getId(), user.getEmail(), user.getRole().name(), nickname);
+        String refreshToken = refreshTokenManager.issue(user.getId());
+        return new UserLoginResponse(user.getLoginId(), user.getRole(), token, nickname, refreshToken);
+    }
+
+    private UserLoginRequest randomRequest() {
+        return requests[ThreadLocalRandom.current().nextInt(requests.length)];
+    }
+}
@@ -0,0 +1,161 @@
+package com.cMall.feedShop.common.aop;
+
+import com.cMall.feedShop.common.trace.TraceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.slf4j.event.Level;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LoggingAspect 용 비동기 로그 전송기
+ * - 요청 스레드: 레벨 확인 후 이벤트를 큐에 넣기만 함 (가득 차면 버리고 개수만 기록)
+ * - 에러: 같은 큐로 보내 같은 요청의 START/END 로그와 순서를 유지합니다. 버리지 않으며, 큐가 가득 차면
+ *   error-offer-timeout-ms 동안 기다린 뒤에도 자리가 없을 때만 요청 스레드에서 바로 기록합니다.
+ * - 워커 스레드: 큐에서 최대 batch-size 건씩 한 번에 꺼내(drainTo, 큐 잠금 1회) 메시지 포맷팅/마스킹 후
+ *   이벤트마다 로거에 기록합니다. (어펜더 쪽 묶음 기록은 로그 설정의 AsyncAppender 등에 맡김)
+ * 로거 이름은 기존과 같이 LoggingAspect 를 사용합니다.
+ */
+@Component
+public class AsyncLogDispatcher implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingAspect.class);
+    private static final long POLL_TIMEOUT_MS = 500;
+    private static final long SHUTDOWN_TIMEOUT_MS = 5000;
+
+    private final BlockingQueue<LogEvent> queue;
+    private final int batchSize;
+    private final long errorOfferTimeoutMs;
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong droppedTotal = new AtomicLong();
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    public AsyncLogDispatcher(@Value("${logging-aspect.queue-capacity:10000}") int queueCapacity,
+                              @Value("${logging-aspect.batch-size:256}") int batchSize,
+                              @Value("${logging-aspect.error-offer-timeout-ms:100}") long errorOfferTimeoutMs) {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.errorOfferTimeoutMs = errorOfferTimeoutMs;
+        this.worker = new Thread(this::drainLoop, "logging-aspect-writer");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    public boolean isEnabled(Level level) {
+        return log.isEnabledForLevel(level);
+    }
+
+    /**
+     * 로그 이벤트를 큐에 넣습니다. 레벨이 꺼져 있으면 아무것도 하지 않습니다.
+     * 현재 스레드의 traceId 는 워커에서 MDC 로 복원됩니다.
+     */
+    public void dispatch(Level level, String format, Object... args) {
+        if (!log.isEnabledForLevel(level)) {
+            return;
+        }
+        if (!queue.offer(new LogEvent(level, MDC.get(TraceContext.TRACE_ID_KEY), format, args))) {
+            dropped.incrementAndGet();
+            droppedTotal.incrementAndGet();
+        }
+    }
+
+    /**
+     * 에러 로그를 큐에 넣습니다. 마지막 인자가 Throwable 이면 스택 트레이스와 함께 기록됩니다.
+     * 큐에 자리가 없으면 잠시 기다리고, 그래도 없거나 종료 중이면 현재 스레드에서 바로 기록합니다.
+     */
+    public void dispatchError(String format, Object... args) {
+        if (!log.isErrorEnabled()) {
+            return;
+        }
+        LogEvent event = new LogEvent(Level.ERROR, MDC.get(TraceContext.TRACE_ID_KEY), format, args);
+        boolean queued = false;
+        if (running) {
+            try {
+                queued = queue.offer(event, errorOfferTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (!queued) {
+            write(event);
+        }
+    }
+
+    /**
+     * 큐가 가득 차 버려진 로그 수 (누적)
+     */
+    public long getDroppedCount() {
+        return droppedTotal.get();
+    }
+
+    private void drainLoop() {
+        List<LogEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                LogEvent first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                    batch.forEach(this::write);
+                    batch.clear();
+                }
+                reportDropped();
+            } catch (InterruptedException e) {
+                // 종료 요청 - 남은 이벤트는 루프 조건에 따라 모두 기록
+                running = false;
+            }
+        }
+    }
+
+    private void write(LogEvent event) {
+        // 에러를 요청 스레드에서 직접 기록하는 경우에도 요청의 MDC 를 되돌리도록 이전 값 보관
+        String previousTraceId = MDC.get(TraceContext.TRACE_ID_KEY);
+        if (event.traceId() != null) {
+            MDC.put(TraceContext.TRACE_ID_KEY, event.traceId());
+        }
+        try {
+            switch (event.level()) {
+                case ERROR -> log.error(event.format(), event.args());
+                case WARN -> log.warn(event.format(), event.args());
+                case INFO -> log.info(event.format(), event.args());
+                case DEBUG -> log.debug(event.format(), event.args());
+                case TRACE -> log.trace(event.format(), event.args());
+            }
+        } catch (RuntimeException e) {
+            log.warn("로그 기록 실패 - format: {}, error: {}", event.format(), e.getMessage());
+        } finally {
+            if (previousTraceId != null) {
+                MDC.put(TraceContext.TRACE_ID_KEY, previousTraceId);
+            } else {
+                MDC.remove(TraceContext.TRACE_ID_KEY);
+            }
+        }
+    }
+
+    private void reportDropped() {
+        long count = dropped.getAndSet(0);
+        if (count > 0) {
+            log.warn("⚠️ [LOG-DROPPED] 로그 큐가 가득 차 {}건의 로그를 버렸습니다.", count);
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(SHUTDOWN_TIMEOUT_MS);
+    }
+
+    private record LogEvent(Level level, String traceId, String format, Object[] args) {
+    }
+}
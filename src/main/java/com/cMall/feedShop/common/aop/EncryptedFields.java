@@ -0,0 +1,100 @@
+package com.cMall.feedShop.common.aop;
+
+import com.cMall.feedShop.annotation.CustomEncryption;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * 클래스별 @CustomEncryption 필드 접근자 캐시
+ * 클래스마다 처음 한 번만 상위 클래스까지 필드를 훑어 getter/setter MethodHandle 로 만들어 두고,
+ * 이후 호출은 리플렉션 탐색 없이 캐시된 핸들만 사용합니다. 대상 필드가 없는 클래스는 빈 목록을 공유합니다.
+ */
+final class EncryptedFields {
+
+    private static final EncryptedFields NONE = new EncryptedFields(List.of());
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<EncryptedFields> CACHE = new ClassValue<>() {
+        @Override
+        protected EncryptedFields computeValue(Class<?> type) {
+            return resolve(type);
+        }
+    };
+
+    private final List<Accessor> accessors;
+
+    private EncryptedFields(List<Accessor> accessors) {
+        this.accessors = accessors;
+    }
+
+    static EncryptedFields of(Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    boolean isEmpty() {
+        return accessors.isEmpty();
+    }
+
+    /**
+     * 대상 필드 중 문자열 값이 들어 있는 필드만 변환한 값으로 바꿉니다.
+     */
+    void transform(Object target, UnaryOperator<String> encryptor) {
+        for (Accessor accessor : accessors) {
+            accessor.transform(target, encryptor);
+        }
+    }
+
+    private static EncryptedFields resolve(Class<?> type) {
+        List<Accessor> accessors = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (isTarget(field)) {
+                    accessors.add(Accessor.of(field));
+                }
+            }
+        }
+        return accessors.isEmpty() ? NONE : new EncryptedFields(List.copyOf(accessors));
+    }
+
+    // 인스턴스 필드이면서 String 을 대입할 수 있는 타입만 대상
+    private static boolean isTarget(Field field) {
+        return field.isAnnotationPresent(CustomEncryption.class)
+                && !Modifier.isStatic(field.getModifiers())
+                && field.getType().isAssignableFrom(String.class);
+    }
+
+    private record Accessor(String name, MethodHandle getter, MethodHandle setter) {
+
+        static Accessor of(Field field) {
+            try {
+                field.setAccessible(true);
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                return new Accessor(field.getName(),
+                        lookup.unreflectGetter(field).asType(GETTER_TYPE),
+                        lookup.unreflectSetter(field).asType(SETTER_TYPE));
+            } catch (IllegalAccessException | RuntimeException e) {
+                throw new IllegalStateException("암호화 대상 필드에 접근할 수 없습니다: "
+                        + field.getDeclaringClass().getName() + "." + field.getName(), e);
+            }
+        }
+
+        void transform(Object target, UnaryOperator<String> encryptor) {
+            try {
+                Object value = (Object) getter.invokeExact(target);
+                if (value instanceof String rawString) {
+                    setter.invokeExact(target, (Object) encryptor.apply(rawString));
+                }
+            } catch (Throwable e) {
+                throw new RuntimeException("Error during field encryption: " + name, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.cMall.feedShop.common.aop;
+
+import java.util.regex.Pattern;
+
+/**
+ * 로그용 요청/응답 페이로드
+ * 문자열 변환(toString)은 요청 스레드에서 바로 수행해 문자열만 보관하고, 민감 정보 마스킹만
+ * 로그 워커 스레드에서 메시지를 만들 때 수행합니다.
+ * (요청 객체가 이후에 바뀌거나 지연 로딩 세션이 닫혀도 기록 시점의 값이 남고, 큐가 응답 객체를 붙잡지 않음)
+ */
+final class LogPayload {
+
+    private static final int MAX_RESULT_LENGTH = 200;
+    private static final int SUMMARY_LENGTH = 100;
+
+    // 마스킹 패턴 (매 호출마다 컴파일하지 않도록 미리 컴파일)
+    private static final Pattern PASSWORD_PATTERN = Pattern.compile("(password|pwd)=[^,\\s}]+");
+    private static final Pattern CARD_NUMBER_PATTERN =
+            Pattern.compile("\\b\\d{4}[-\\s]?\\d{4}[-\\s]?\\d{4}[-\\s]?\\d{4}\\b");
+    private static final Pattern EMAIL_PATTERN =
+            Pattern.compile("([a-zA-Z0-9._%+-]+)@([a-zA-Z0-9.-]+\\.[a-zA-Z]{2,})");
+
+    // 마스킹 전 문자열 (요청 스레드에서 변환)
+    private final String rendered;
+
+    private LogPayload(String rendered) {
+        this.rendered = rendered;
+    }
+
+    /**
+     * 메서드 파라미터 (민감한 정보 마스킹)
+     */
+    static LogPayload args(Object[] args) {
+        if (args.length == 0) return new LogPayload("[]");
+
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < args.length; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(render(args[i]));
+        }
+        return new LogPayload(sb.append(']').toString());
+    }
+
+    /**
+     * 반환값 (큰 객체는 요약 후 마스킹)
+     */
+    static LogPayload result(Object result) {
+        String resultStr = render(result);
+        // 너무 긴 결과는 요약
+        if (result != null && resultStr.length() > MAX_RESULT_LENGTH) {
+            resultStr = result.getClass().getSimpleName() + "[" + resultStr.substring(0, SUMMARY_LENGTH) + "...]";
+        }
+        return new LogPayload(resultStr);
+    }
+
+    @Override
+    public String toString() {
+        return mask(rendered);
+    }
+
+    private static String render(Object value) {
+        if (value == null) return "null";
+        try {
+            return value.toString();
+        } catch (RuntimeException e) {
+            // 변환 중 예외는 요청을 실패시키지 않고 원인과 함께 표시
+            return "<" + value.getClass().getSimpleName() + ": " + e.getClass().getSimpleName() + " - " + e.getMessage() + ">";
+        }
+    }
+
+    /**
+     * 민감한 정보 마스킹 (비밀번호, 카드번호, 이메일)
+     * 해당 문자가 없으면 정규식을 실행하지 않습니다.
+     */
+    static String mask(String str) {
+        if (str.contains("password") || str.contains("pwd")) {
+            str = PASSWORD_PATTERN.matcher(str).replaceAll("$1=***");
+        }
+
+        if (containsDigit(str)) {
+            str = CARD_NUMBER_PATTERN.matcher(str).replaceAll("****-****-****-****");
+        }
+
+        if (str.indexOf('@') >= 0) {
+            str = EMAIL_PATTERN.matcher(str).replaceAll("$1***@$2");
+        }
+
+        return str;
+    }
+
+    private static boolean containsDigit(String str) {
+        for (int i = 0; i < str.length(); i++) {
+            if (Character.isDigit(str.charAt(i))) return true;
+        }
+        return false;
+    }
+}
@@ -1,16 +1,15 @@
 package com.cMall.feedShop.common.aop;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.cMall.feedShop.common.trace.TraceContext;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.slf4j.MDC;
+import org.slf4j.event.Level;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import java.util.Arrays;
-import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 쇼핑몰 프로젝트용 통합 로깅 AOP
@@ -18,14 +17,35 @@ import java.util.UUID;
  * - 에러 추적 (예외 발생 지점)
  * - API 호출 추적 (요청별 추적 ID)
  * - 비즈니스 로직 흐름 추적
+ * 모든 로그(에러 포함)는 AsyncLogDispatcher 로 넘겨 요청 스레드에서 포맷팅/마스킹하지 않으며,
+ * 요청/응답 페이로드는 logging-aspect.payload-sample-rate 비율의 요청만 요청 스레드에서 문자열로 만들어 기록합니다.
+ * 실행 시간은 MethodTimers(Micrometer)로도 기록되어 /actuator/metrics, /actuator/prometheus 에서 조회할 수 있습니다.
  */
 @Aspect
 @Component
 public class LoggingAspect {
 
-    private static final Logger log = LoggerFactory.getLogger(LoggingAspect.class);
-    private final ObjectMapper objectMapper = new ObjectMapper();
-    private static final long SLOW_METHOD_THRESHOLD = 1000; // 1초 이상이면 느린 메서드로 간주
+    private static final String LAYER_CONTROLLER = "controller";
+    private static final String LAYER_SERVICE = "service";
+    private static final String LAYER_REPOSITORY = "repository";
+
+    private final AsyncLogDispatcher dispatcher;
+    private final MethodTimers methodTimers;
+    private final double payloadSampleRate;
+    private final long slowMethodThresholdMs;
+    private final long slowQueryThresholdMs;
+
+    public LoggingAspect(AsyncLogDispatcher dispatcher,
+                         MethodTimers methodTimers,
+                         @Value("${logging-aspect.payload-sample-rate:0.1}") double payloadSampleRate,
+                         @Value("${logging-aspect.slow-method-threshold-ms:1000}") long slowMethodThresholdMs,
+                         @Value("${logging-aspect.slow-query-threshold-ms:500}") long slowQueryThresholdMs) {
+        this.dispatcher = dispatcher;
+        this.methodTimers = methodTimers;
+        this.payloadSampleRate = payloadSampleRate;
+        this.slowMethodThresholdMs = slowMethodThresholdMs;
+        this.slowQueryThresholdMs = slowQueryThresholdMs;
+    }
 
     // =========================== Pointcut 정의 ===========================
 
@@ -45,40 +65,52 @@ public class LoggingAspect {
 
     @Around("controllerMethods()")
     public Object logController(ProceedingJoinPoint joinPoint) throws Throwable {
-        // API 요청별 고유 추적 ID 생성
-        String traceId = generateTraceId();
-        MDC.put("traceId", traceId);
+        // 추적 ID 는 TraceIdFilter 에서 설정 - 필터를 거치지 않은 호출(테스트 등)만 여기서 생성
+        String traceId = TraceContext.current();
+        boolean ownsTraceId = traceId == null;
+        if (ownsTraceId) {
+            traceId = TraceContext.generate();
+            TraceContext.set(traceId);
+        }
 
         String className = joinPoint.getTarget().getClass().getSimpleName();
         String methodName = joinPoint.getSignature().getName();
         Object[] args = joinPoint.getArgs();
 
-        long start = System.currentTimeMillis();
+        long start = System.nanoTime();
 
-        log.info("🌐 [API-START] {}.{}() | TraceID: {}",
+        boolean logPayload = shouldLogPayload();
+
+        dispatcher.dispatch(Level.INFO, "🌐 [API-START] {}.{}() | TraceID: {}",
                 className, methodName, traceId);
 
-        if (args.length > 0) {
-            log.info("📥 [REQUEST] Args: {}", formatArgs(args));
+        if (logPayload && args.length > 0) {
+            dispatcher.dispatch(Level.INFO, "📥 [REQUEST] Args: {}", LogPayload.args(args));
         }
 
         try {
             Object result = joinPoint.proceed();
-            long duration = System.currentTimeMillis() - start;
+            long duration = elapsedMillis(LAYER_CONTROLLER, joinPoint, start, true);
 
-            log.info("📤 [RESPONSE] Return: {} | Duration: {}ms",
-                    formatResult(result), duration);
-            log.info("✅ [API-END] {}.{}() SUCCESS | TraceID: {}",
-                    className, methodName, traceId);
+            if (logPayload) {
+                dispatcher.dispatch(Level.INFO, "📤 [RESPONSE] Return: {} | Duration: {}ms",
+                        LogPayload.result(result), duration);
+            }
+            dispatcher.dispatch(Level.INFO, "✅ [API-END] {}.{}() SUCCESS | Duration: {}ms | TraceID: {}",
+                    className, methodName, duration, traceId);
 
             return result;
         } catch (Throwable throwable) {
-            long duration = System.currentTimeMillis() - start;
-            log.error("❌ [API-ERROR] {}.{}() | Duration: {}ms | Error: {} | TraceID: {}",
+            long duration = elapsedMillis(LAYER_CONTROLLER, joinPoint, start, false);
+            // 에러도 같은 큐로 보내 API-START 보다 먼저 기록되지 않도록 함 (스택 트레이스 포함)
+            dispatcher.dispatchError("❌ [API-ERROR] {}.{}() | Duration: {}ms | Error: {} | TraceID: {}",
                     className, methodName, duration, throwable.getMessage(), traceId, throwable);
             throw throwable;
         } finally {
-            MDC.clear();
+            // MDC 전체를 지우지 않음 - 필터/비동기 전파에서 설정한 값 유지
+            if (ownsTraceId) {
+                TraceContext.clear();
+            }
         }
     }
 
@@ -88,30 +120,29 @@ public class LoggingAspect {
     public Object logService(ProceedingJoinPoint joinPoint) throws Throwable {
         String className = joinPoint.getTarget().getClass().getSimpleName();
         String methodName = joinPoint.getSignature().getName();
-        Object[] args = joinPoint.getArgs();
 
-        long start = System.currentTimeMillis();
-        String traceId = MDC.get("traceId");
+        long start = System.nanoTime();
+        String traceId = TraceContext.current();
 
-        log.info("🔧 [SERVICE-START] {}.{}() | TraceID: {}", className, methodName, traceId);
+        dispatcher.dispatch(Level.INFO, "🔧 [SERVICE-START] {}.{}() | TraceID: {}", className, methodName, traceId);
 
         try {
             Object result = joinPoint.proceed();
-            long duration = System.currentTimeMillis() - start;
+            long duration = elapsedMillis(LAYER_SERVICE, joinPoint, start, true);
 
             // 느린 메서드 감지
-            if (duration > SLOW_METHOD_THRESHOLD) {
-                log.warn("🐌 [SLOW-METHOD] {}.{}() took {}ms (>{} ms threshold)",
-                        className, methodName, duration, SLOW_METHOD_THRESHOLD);
+            if (duration > slowMethodThresholdMs) {
+                dispatcher.dispatch(Level.WARN, "🐌 [SLOW-METHOD] {}.{}() took {}ms (>{} ms threshold)",
+                        className, methodName, duration, slowMethodThresholdMs);
             }
 
-            log.info("✅ [SERVICE-END] {}.{}() | Duration: {}ms | TraceID: {}",
+            dispatcher.dispatch(Level.INFO, "✅ [SERVICE-END] {}.{}() | Duration: {}ms | TraceID: {}",
                     className, methodName, duration, traceId);
 
             return result;
         } catch (Throwable throwable) {
-            long duration = System.currentTimeMillis() - start;
-            log.error("❌ [SERVICE-ERROR] {}.{}() | Duration: {}ms | Error: {} | TraceID: {}",
+            long duration = elapsedMillis(LAYER_SERVICE, joinPoint, start, false);
+            dispatcher.dispatchError("❌ [SERVICE-ERROR] {}.{}() | Duration: {}ms | Error: {} | TraceID: {}",
                     className, methodName, duration, throwable.getMessage(), traceId, throwable);
             throw throwable;
         }
@@ -124,28 +155,28 @@ public class LoggingAspect {
         String className = joinPoint.getTarget().getClass().getSimpleName();
         String methodName = joinPoint.getSignature().getName();
 
-        long start = System.currentTimeMillis();
-        String traceId = MDC.get("traceId");
+        long start = System.nanoTime();
+        String traceId = TraceContext.current();
 
-        log.debug("💾 [DB-START] {}.{}() | TraceID: {}", className, methodName, traceId);
+        dispatcher.dispatch(Level.DEBUG, "💾 [DB-START] {}.{}() | TraceID: {}", className, methodName, traceId);
 
         try {
             Object result = joinPoint.proceed();
-            long duration = System.currentTimeMillis() - start;
+            long duration = elapsedMillis(LAYER_REPOSITORY, joinPoint, start, true);
 
             // DB 쿼리가 느린 경우 경고
-            if (duration > 500) { // 0.5초 이상
-                log.warn("🐌 [SLOW-QUERY] {}.{}() took {}ms | TraceID: {}",
+            if (duration > slowQueryThresholdMs) {
+                dispatcher.dispatch(Level.WARN, "🐌 [SLOW-QUERY] {}.{}() took {}ms | TraceID: {}",
                         className, methodName, duration, traceId);
             } else {
-                log.debug("✅ [DB-END] {}.{}() | Duration: {}ms | TraceID: {}",
+                dispatcher.dispatch(Level.DEBUG, "✅ [DB-END] {}.{}() | Duration: {}ms | TraceID: {}",
                         className, methodName, duration, traceId);
             }
 
             return result;
         } catch (Throwable throwable) {
-            long duration = System.currentTimeMillis() - start;
-            log.error("❌ [DB-ERROR] {}.{}() | Duration: {}ms | Error: {} | TraceID: {}",
+            long duration = elapsedMillis(LAYER_REPOSITORY, joinPoint, start, false);
+            dispatcher.dispatchError("❌ [DB-ERROR] {}.{}() | Duration: {}ms | Error: {} | TraceID: {}",
                     className, methodName, duration, throwable.getMessage(), traceId, throwable);
             throw throwable;
         }
@@ -154,61 +185,21 @@ public class LoggingAspect {
     // =========================== 유틸리티 메서드 ===========================
 
     /**
-     * 요청별 고유 추적 ID 생성
+     * 경과 시간(ms) 계산 + 메트릭 기록
      */
-    private String generateTraceId() {
-        return UUID.randomUUID().toString().substring(0, 8);
-    }
-
-    /**
-     * 메서드 파라미터 포맷팅 (민감한 정보 마스킹)
-     */
-    private String formatArgs(Object[] args) {
-        if (args == null || args.length == 0) return "[]";
-
-        Object[] maskedArgs = Arrays.stream(args)
-                .map(this::maskSensitiveData)
-                .toArray();
-
-        return Arrays.toString(maskedArgs);
+    private long elapsedMillis(String layer, ProceedingJoinPoint joinPoint, long startNanos, boolean success) {
+        long nanos = System.nanoTime() - startNanos;
+        methodTimers.record(layer, joinPoint, nanos, success);
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
     }
 
     /**
-     * 반환값 포맷팅 (큰 객체는 요약)
+     * 요청/응답 페이로드 기록 여부 (INFO 꺼짐이면 항상 false - 샘플링 난수도 뽑지 않음)
      */
-    private String formatResult(Object result) {
-        if (result == null) return "null";
-
-        String resultStr = result.toString();
-        // 너무 긴 결과는 요약
-        if (resultStr.length() > 200) {
-            return result.getClass().getSimpleName() + "[" + resultStr.substring(0, 100) + "...]";
-        }
-
-        return maskSensitiveData(result).toString();
-    }
-
-    /**
-     * 민감한 정보 마스킹 (비밀번호, 카드번호 등)
-     */
-    private Object maskSensitiveData(Object obj) {
-        if (obj == null) return null;
-
-        String str = obj.toString();
-
-        // 비밀번호 필드 마스킹
-        if (str.contains("password") || str.contains("pwd")) {
-            return str.replaceAll("(password|pwd)=[^,\\s}]+", "$1=***");
+    private boolean shouldLogPayload() {
+        if (payloadSampleRate <= 0 || !dispatcher.isEnabled(Level.INFO)) {
+            return false;
         }
-
-        // 카드번호 마스킹 (16자리 숫자)
-        str = str.replaceAll("\\b\\d{4}[-\\s]?\\d{4}[-\\s]?\\d{4}[-\\s]?\\d{4}\\b",
-                "****-****-****-****");
-
-        // 이메일 부분 마스킹
-        str = str.replaceAll("([a-zA-Z0-9._%+-]+)@([a-zA-Z0-9.-]+\\.[a-zA-Z]{2,})",
-                "$1***@$2");
-
-        return str;
+        return payloadSampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < payloadSampleRate;
     }
-}
\ No newline at end of file
+}
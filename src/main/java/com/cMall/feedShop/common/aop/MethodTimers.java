@@ -0,0 +1,93 @@
+package com.cMall.feedShop.common.aop;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LoggingAspect 용 Micrometer 타이머
+ * - 메트릭: feedshop.method.duration (layer, class, method, outcome 태그, 퍼센타일 히스토그램)
+ * - 조인 포인트(빈 + 메서드)별 Timer 를 한 번만 만들어 재사용
+ * logging-aspect.metrics-enabled=false 이거나 MeterRegistry 가 없으면 기록하지 않습니다.
+ */
+@Component
+public class MethodTimers {
+
+    public static final String METRIC_NAME = "feedshop.method.duration";
+
+    private static final String BASE_PACKAGE = "com.cMall.feedShop";
+    private static final Duration MIN_EXPECTED = Duration.ofMillis(1);
+    private static final Duration MAX_EXPECTED = Duration.ofSeconds(30);
+
+    private final MeterRegistry registry;
+    private final ConcurrentMap<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public MethodTimers(ObjectProvider<MeterRegistry> registryProvider,
+                        @Value("${logging-aspect.metrics-enabled:true}") boolean enabled) {
+        this.registry = enabled ? registryProvider.getIfAvailable() : null;
+    }
+
+    public boolean isEnabled() {
+        return registry != null;
+    }
+
+    /**
+     * 조인 포인트 실행 시간 기록
+     *
+     * @param layer   controller / service / repository
+     * @param nanos   System.nanoTime() 으로 잰 실행 시간
+     * @param success 예외 없이 끝났는지 여부
+     */
+    public void record(String layer, ProceedingJoinPoint joinPoint, long nanos, boolean success) {
+        if (registry == null || !(joinPoint.getSignature() instanceof MethodSignature signature)) {
+            return;
+        }
+        TimerKey key = new TimerKey(layer, joinPoint.getThis().getClass(), signature.getMethod(), success);
+        timers.computeIfAbsent(key, k -> register(k, joinPoint))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer register(TimerKey key, ProceedingJoinPoint joinPoint) {
+        return Timer.builder(METRIC_NAME)
+                .description("레이어별 메서드 실행 시간")
+                .tag("layer", key.layer())
+                .tag("class", resolveClassName(joinPoint))
+                .tag("method", key.method().getName())
+                .tag("outcome", key.success() ? "SUCCESS" : "ERROR")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(MIN_EXPECTED)
+                .maximumExpectedValue(MAX_EXPECTED)
+                .register(registry);
+    }
+
+    /**
+     * 태그용 클래스 이름
+     * Spring Data 리포지토리는 대상 객체가 프록시/SimpleJpaRepository 이므로, 프록시가 구현한 프로젝트 인터페이스 이름을 사용합니다.
+     */
+    private static String resolveClassName(ProceedingJoinPoint joinPoint) {
+        Class<?> targetClass = ClassUtils.getUserClass(joinPoint.getTarget());
+        if (Proxy.isProxyClass(targetClass) || !targetClass.getName().startsWith(BASE_PACKAGE)) {
+            for (Class<?> type : joinPoint.getThis().getClass().getInterfaces()) {
+                if (type.getName().startsWith(BASE_PACKAGE)) {
+                    return type.getSimpleName();
+                }
+            }
+        }
+        return targetClass.getSimpleName();
+    }
+
+    private record TimerKey(String layer, Class<?> beanClass, Method method, boolean success) {
+    }
+}
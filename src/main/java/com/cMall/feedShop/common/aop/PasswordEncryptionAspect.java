@@ -1,18 +1,12 @@
 package com.cMall.feedShop.common.aop;
 
-import com.cMall.feedShop.annotation.CustomEncryption;
 import com.cMall.feedShop.user.domain.service.PasswordEncryptionService;
 import lombok.AllArgsConstructor;
-import org.apache.commons.lang3.ObjectUtils;
-import org.apache.commons.lang3.reflect.FieldUtils;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.springframework.stereotype.Component;
 
-import java.lang.reflect.Modifier;
-import java.util.Arrays;
-
 @Aspect
 @Component
 @AllArgsConstructor
@@ -27,38 +21,27 @@ public class PasswordEncryptionAspect {
      */
     @Around("execution(* com.cMall.feedShop.user.presentation..*.*(..))")
     public Object passwordEncryptionAspect(ProceedingJoinPoint pjp) throws Throwable {
-        Arrays.stream(pjp.getArgs())
-                .forEach(this::fieldEncryption);
+        for (Object arg : pjp.getArgs()) {
+            fieldEncryption(arg);
+        }
 
         return pjp.proceed();
     }
 
+    /**
+     * @CustomEncryption 필드 암호화
+     * 필드 탐색/접근자 생성은 클래스별로 한 번만 수행하고(EncryptedFields), 대상 필드가 없는 타입은 바로 반환합니다.
+     */
     public void fieldEncryption(Object object) {
-        if (ObjectUtils.isEmpty(object)) {
+        if (object == null) {
             return;
         }
 
-        FieldUtils.getAllFieldsList(object.getClass())
-                .stream()
-                .filter(field -> !(Modifier.isFinal(field.getModifiers()) && Modifier.isStatic(field.getModifiers())))
-                .forEach(field -> {
-                    try {
-                        boolean encryptionTarget = field.isAnnotationPresent(CustomEncryption.class);
-                        if (!encryptionTarget) {
-                            return;
-                        }
-
-                        Object fieldValue = FieldUtils.readField(field, object, true);
-                        if (!(fieldValue instanceof String)) {
-                            return;
-                        }
+        EncryptedFields fields = EncryptedFields.of(object.getClass());
+        if (fields.isEmpty()) {
+            return;
+        }
 
-                        String rawString = (String) fieldValue;
-                        String encryptedString = passwordEncryptionService.encrypt(rawString);
-                        FieldUtils.writeField(field, object, encryptedString, true);
-                    } catch (Exception e) {
-                        throw new RuntimeException("Error during field encryption: " + field.getName(), e);
-                    }
-                });
+        fields.transform(object, passwordEncryptionService::encrypt);
     }
-}
\ No newline at end of file
+}
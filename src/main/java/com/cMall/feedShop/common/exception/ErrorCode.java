@@ -10,6 +10,7 @@ public enum ErrorCode {
     INVALID_INPUT_VALUE(400, "C001", "잘못된 입력값입니다."),
     METHOD_NOT_ALLOWED(405, "C002", "지원하지 않는 HTTP 메서드입니다."),
     INTERNAL_SERVER_ERROR(500, "C003", "서버 오류가 발생했습니다."),
+    SERVICE_UNAVAILABLE(503, "C004", "요청이 많아 잠시 후 다시 시도해주세요."),
 
     // 인증/인가
     UNAUTHORIZED(401, "A001", "인증이 필요합니다."),
@@ -0,0 +1,35 @@
+package com.cMall.feedShop.common.trace;
+
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.Map;
+
+/**
+ * @Async 등 다른 스레드(가상 스레드 포함)에서 실행되는 작업에 호출 스레드의 MDC(추적 ID 등)를 복사합니다.
+ * 작업이 끝나면 실행 스레드의 기존 MDC 로 되돌려 풀 스레드 재사용 시 값이 섞이지 않게 합니다.
+ */
+public class MdcTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        Map<String, String> callerContext = MDC.getCopyOfContextMap();
+        return () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            setContext(callerContext);
+            try {
+                runnable.run();
+            } finally {
+                setContext(previous);
+            }
+        };
+    }
+
+    private static void setContext(Map<String, String> context) {
+        if (context == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(context);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.cMall.feedShop.common.trace;
+
+import org.slf4j.MDC;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * 요청 추적 ID (MDC "traceId")
+ * - 생성: 노드 prefix + 스레드 번호 + 스레드별 카운터 (UUID/SecureRandom 없이 잠금 없는 생성)
+ *   예) 3f9a1c-1b-2k  (노드-스레드-순번, 36진수)
+ * - 전파: TraceIdFilter(HTTP 요청), MdcTaskDecorator(@Async/가상 스레드 실행기)
+ */
+public final class TraceContext {
+
+    public static final String TRACE_ID_KEY = "traceId";
+    public static final String TRACE_ID_HEADER = "X-Trace-Id";
+
+    private static final int MAX_TRACE_ID_LENGTH = 64;
+    private static final Pattern VALID_TRACE_ID = Pattern.compile("[A-Za-z0-9._-]+");
+
+    // 프로세스마다 다른 값 - 여러 인스턴스의 ID 가 겹치지 않도록 (시작 시 한 번만 생성)
+    private static final String NODE_PREFIX = Integer.toHexString(
+            ThreadLocalRandom.current().nextInt(0x100000, 0x1000000));
+
+    // 스레드가 처음 ID 를 만들 때 한 번 받는 번호 - 스레드가 끝나도 재사용하지 않으므로 스레드 사이에서 겹치지 않음
+    private static final AtomicLong THREAD_NUMBER = new AtomicLong();
+
+    // 스레드별 prefix(노드-스레드 번호)와 순번
+    private static final ThreadLocal<Sequence> SEQUENCE = ThreadLocal.withInitial(
+            () -> new Sequence(NODE_PREFIX + '-' + Long.toString(THREAD_NUMBER.incrementAndGet(), 36) + '-'));
+
+    private TraceContext() {
+    }
+
+    /**
+     * 새 추적 ID 생성
+     */
+    public static String generate() {
+        Sequence sequence = SEQUENCE.get();
+        return sequence.prefix + Long.toString(++sequence.next, 36);
+    }
+
+    /**
+     * 외부에서 받은 추적 ID 사용 가능 여부 (로그 인젝션 방지를 위해 길이/문자 제한)
+     */
+    public static boolean isValid(String traceId) {
+        return traceId != null
+                && !traceId.isEmpty()
+                && traceId.length() <= MAX_TRACE_ID_LENGTH
+                && VALID_TRACE_ID.matcher(traceId).matches();
+    }
+
+    public static String current() {
+        return MDC.get(TRACE_ID_KEY);
+    }
+
+    public static void set(String traceId) {
+        MDC.put(TRACE_ID_KEY, traceId);
+    }
+
+    public static void clear() {
+        MDC.remove(TRACE_ID_KEY);
+    }
+
+    private static final class Sequence {
+
+        private final String prefix;
+        private long next;
+
+        private Sequence(String prefix) {
+            this.prefix = prefix;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.cMall.feedShop.common.trace;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청별 추적 ID 설정 필터
+ * - X-Trace-Id 헤더가 유효하면 그대로 사용하고, 없으면 새로 생성
+ * - 응답 헤더에 같은 ID 를 내려 클라이언트/게이트웨이 로그와 연결
+ * 시큐리티 필터보다 먼저 실행되어 인증 실패 로그에도 추적 ID 가 남습니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TraceIdFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String incoming = request.getHeader(TraceContext.TRACE_ID_HEADER);
+        String traceId = TraceContext.isValid(incoming) ? incoming : TraceContext.generate();
+
+        TraceContext.set(traceId);
+        response.setHeader(TraceContext.TRACE_ID_HEADER, traceId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            TraceContext.clear();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.cMall.feedShop.config;
+
+import com.cMall.feedShop.common.trace.MdcTaskDecorator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * 비동기 실행 설정
+ * - TaskDecorator 빈은 Spring Boot 가 자동 구성하는 applicationTaskExecutor
+ *   (스레드 풀, spring.threads.virtual.enabled=true 이면 가상 스레드 실행기)에 적용되어
+ *   @Async 작업에도 요청의 추적 ID(MDC)가 이어집니다.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    @Bean
+    public TaskDecorator mdcTaskDecorator() {
+        return new MdcTaskDecorator();
+    }
+}
@@ -0,0 +1,63 @@
+package com.cMall.feedShop.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 로컬(인프로세스) 캐시 설정 - Caffeine
+ * - 캐시별 최대 크기/TTL 지정, 히트/미스/제거 통계는 actuator(cache.*) 메트릭으로 노출
+ * - 트랜잭션 안에서의 evict/put 은 커밋 이후에 반영 (커밋 전 재조회로 이전 값이 다시 캐시되는 것 방지)
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String REVIEW_DETAIL = "reviewDetail";
+    public static final String PRODUCT_REVIEW_AGGREGATE = "productReviewAggregate";
+
+    @Value("${cache.review-detail.max-size:10000}")
+    private long reviewDetailMaxSize;
+
+    @Value("${cache.review-detail.ttl-ms:600000}")
+    private long reviewDetailTtlMs;
+
+    @Value("${cache.product-review-aggregate.max-size:5000}")
+    private long productReviewAggregateMaxSize;
+
+    // 리뷰 변경 시 즉시 evict 되므로 TTL 은 재계산 배치 등 외부 변경에 대한 안전장치
+    @Value("${cache.product-review-aggregate.ttl-ms:1800000}")
+    private long productReviewAggregateTtlMs;
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setAllowNullValues(false);
+        // 별도 설정이 없는 캐시의 기본값
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(1_000)
+                .expireAfterWrite(Duration.ofMinutes(5))
+                .recordStats());
+
+        cacheManager.registerCustomCache(REVIEW_DETAIL, Caffeine.newBuilder()
+                .maximumSize(reviewDetailMaxSize)
+                .expireAfterWrite(Duration.ofMillis(reviewDetailTtlMs))
+                .recordStats()
+                .build());
+
+        cacheManager.registerCustomCache(PRODUCT_REVIEW_AGGREGATE, Caffeine.newBuilder()
+                .maximumSize(productReviewAggregateMaxSize)
+                .expireAfterWrite(Duration.ofMillis(productReviewAggregateTtlMs))
+                .recordStats()
+                .build());
+
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -0,0 +1,49 @@
+package com.cMall.feedShop.config;
+
+import org.flywaydb.core.api.Location;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+/**
+ * Flyway 스키마 마이그레이션 설정
+ * - db/migration/common: DB 공통 스크립트 (인덱스 등)
+ * - db/migration/{vendor}: DB 별 스크립트 (테이블, 시퀀스 - mysql / h2)
+ * - 기존 운영 DB(테이블이 이미 존재)는 V1 을 baseline 으로 처리하고 V1 이후만 적용합니다.
+ *   V1 은 기존 운영 스키마의 스냅샷이므로, 이후 추가되는 테이블은 반드시 새 버전 스크립트로 만듭니다.
+ * spring.flyway.locations 를 직접 지정한 경우에는 위치를 덮어쓰지 않습니다.
+ */
+@Configuration
+public class FlywayConfig {
+
+    private static final String DEFAULT_LOCATION = "classpath:db/migration";
+
+    @Bean
+    public FlywayConfigurationCustomizer schemaMigrationCustomizer() {
+        return configuration -> {
+            Location[] locations = configuration.getLocations();
+            if (locations.length == 1 && DEFAULT_LOCATION.equals(locations[0].getDescriptor())) {
+                String vendor = resolveVendor(configuration.getDataSource());
+                configuration.locations(DEFAULT_LOCATION + "/common", DEFAULT_LOCATION + "/" + vendor);
+            }
+            configuration
+                    .baselineOnMigrate(true)
+                    .baselineVersion("1");
+        };
+    }
+
+    private String resolveVendor(DataSource dataSource) {
+        try {
+            String url = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getURL);
+            return DatabaseDriver.fromJdbcUrl(url).getId();
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("마이그레이션 대상 DB 종류를 확인할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.cMall.feedShop.config;
+
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate 공통 설정
+ * - JDBC 배치 INSERT/UPDATE 활성화 (리뷰 이미지 등 다건 저장)
+ * - spring.jpa.properties.hibernate.* 로 명시한 값이 있으면 그 값을 우선합니다.
+ */
+@Configuration
+public class JpaConfig {
+
+    private static final int JDBC_BATCH_SIZE = 50;
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer() {
+        return properties -> {
+            properties.putIfAbsent("hibernate.jdbc.batch_size", JDBC_BATCH_SIZE);
+            properties.putIfAbsent("hibernate.order_inserts", true);
+            properties.putIfAbsent("hibernate.order_updates", true);
+            properties.putIfAbsent("hibernate.jdbc.batch_versioned_data", true);
+        };
+    }
+}
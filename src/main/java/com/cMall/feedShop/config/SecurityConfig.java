@@ -1,27 +1,38 @@
 package com.cMall.feedShop.config;
 
+import com.cMall.feedShop.user.infrastructure.security.BoundedBCryptPasswordEncoder;
+import com.cMall.feedShop.user.infrastructure.security.JwtAuthenticationFilter;
+import com.cMall.feedShop.user.infrastructure.security.JwtTokenProvider;
 import com.cMall.feedShop.user.infrastructure.service.CustomUserDetailsService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.authentication.HttpStatusEntryPoint; // <-- 추가
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.http.HttpStatus; // <-- 추가
 
+import java.time.Duration;
 import java.util.List;
 
 @Configuration
 @EnableWebSecurity
+@EnableMethodSecurity // @PreAuthorize 활성화 (authentication.principal 은 JWT 클레임 기반 UserPrincipal)
 public class SecurityConfig {
 
     private final CustomUserDetailsService customUserDetailsService;
@@ -30,9 +41,21 @@ public class SecurityConfig {
         this.customUserDetailsService = customUserDetailsService;
     }
 
+    /**
+     * BCrypt 해시/검증은 전용 스레드 풀에서 수행합니다 (요청 스레드 CPU 점유 방지).
+     * - password-hashing.bcrypt-strength: cost 를 바꾸면 기존 해시는 다음 로그인 때 새 cost 로 재해시됩니다.
+     * - password-hashing.threads / queue-capacity / timeout-ms: 풀 크기, 대기 큐 한도, 최대 처리 시간 (초과 시 503)
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${password-hashing.bcrypt-strength:10}") int strength,
+            @Value("${password-hashing.threads:0}") int threads,
+            @Value("${password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${password-hashing.timeout-ms:3000}") long timeoutMs,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedBCryptPasswordEncoder(strength, poolSize, queueCapacity,
+                Duration.ofMillis(timeoutMs), meterRegistry.getIfAvailable());
     }
 
     @Bean
@@ -41,11 +64,37 @@ public class SecurityConfig {
         DaoAuthenticationProvider authenticationProvider = new DaoAuthenticationProvider();
         authenticationProvider.setUserDetailsService(customUserDetailsService);
         authenticationProvider.setPasswordEncoder(passwordEncoder);
+        // 저장된 해시의 cost 가 설정과 다르면 로그인 성공 시 새 cost 로 재해시해 저장
+        authenticationProvider.setUserDetailsPasswordService(customUserDetailsService);
         return new ProviderManager(authenticationProvider);
     }
 
+    /**
+     * Bearer 액세스 토큰 인증 필터 (검증된 토큰은 jwt.authentication-cache.* 설정의 캐시에 보관)
+     */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity httpSecurity) throws Exception {
+    public JwtAuthenticationFilter jwtAuthenticationFilter(
+            JwtTokenProvider jwtTokenProvider,
+            @Value("${jwt.authentication-cache.max-size:10000}") long maxSize,
+            @Value("${jwt.authentication-cache.max-ttl-ms:300000}") long maxTtlMs,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new JwtAuthenticationFilter(jwtTokenProvider, maxSize, Duration.ofMillis(maxTtlMs),
+                meterRegistry.getIfAvailable());
+    }
+
+    // 시큐리티 필터 체인에서만 실행되도록 서블릿 필터 자동 등록은 끔
+    @Bean
+    public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration(
+            JwtAuthenticationFilter jwtAuthenticationFilter) {
+        FilterRegistrationBean<JwtAuthenticationFilter> registration =
+                new FilterRegistrationBean<>(jwtAuthenticationFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    @Bean
+    public SecurityFilterChain securityFilterChain(HttpSecurity httpSecurity,
+                                                   JwtAuthenticationFilter jwtAuthenticationFilter) throws Exception {
         httpSecurity
                 .csrf(csrf -> csrf.disable())
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
@@ -60,13 +109,19 @@ public class SecurityConfig {
                 )
 
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers("/api/auth/login", "/api/auth/signup", "/public/**",
+                        // StreamingResponseBody(리뷰 내보내기) 완료 후 비동기 디스패치 - 최초 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                        .requestMatchers("/api/auth/login", "/api/auth/signup", "/api/auth/refresh", "/api/auth/logout", "/public/**",
                                 "/swagger-ui/**", "/v3/api-docs/**", "/swagger-resources/**").permitAll()
+                        // 헬스 체크만 공개 - 메트릭/프로메테우스 등 나머지 actuator 엔드포인트는 ADMIN 만 조회
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
                 // 폼 로그인 및 HTTP Basic 인증은 사용하지 않음
                 .formLogin(formLogin -> formLogin.disable())
-                .httpBasic(httpBasic -> httpBasic.disable());
+                .httpBasic(httpBasic -> httpBasic.disable())
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
         return httpSecurity.build();
     }
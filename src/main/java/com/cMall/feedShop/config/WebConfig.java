@@ -1,11 +1,20 @@
 package com.cMall.feedShop.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.time.Duration;
+
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
+
+    // StreamingResponseBody(리뷰 내보내기) 처리 제한 시간 - 컨테이너 기본값(30초)으로는 대용량 내보내기가 끊김
+    @Value("${spring.mvc.async.request-timeout:10m}")
+    private Duration asyncRequestTimeout;
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/api/**") // 또는 "/**"
@@ -14,4 +23,9 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedHeaders("*")
                 .allowCredentials(true);
     }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(asyncRequestTimeout.toMillis());
+    }
 }
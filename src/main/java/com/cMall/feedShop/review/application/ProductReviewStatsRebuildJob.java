@@ -0,0 +1,42 @@
+package com.cMall.feedShop.review.application;
+
+import com.cMall.feedShop.review.domain.repository.ReviewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 상품별 리뷰 집계 재계산 배치
+ * 증분 갱신 중 누락/장애로 생긴 드리프트를 reviews 테이블 기준으로 복구합니다.
+ * review.stats.rebuild-cron 을 "-" 로 설정하면 비활성화됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductReviewStatsRebuildJob {
+
+    private final ReviewRepository reviewRepository;
+    private final ProductReviewStatsService productReviewStatsService;
+
+    @Scheduled(cron = "${review.stats.rebuild-cron:0 0 4 * * *}")
+    public void rebuildAll() {
+        List<Long> productIds = reviewRepository.findDistinctProductIds();
+        long start = System.currentTimeMillis();
+        int failed = 0;
+
+        for (Long productId : productIds) {
+            try {
+                productReviewStatsService.rebuild(productId);
+            } catch (RuntimeException e) {
+                failed++;
+                log.warn("리뷰 집계 재계산 실패 - productId: {}, error: {}", productId, e.getMessage());
+            }
+        }
+
+        log.info("리뷰 집계 재계산 완료 - 상품 수: {}, 실패: {}, 소요 시간: {}ms",
+                productIds.size(), failed, System.currentTimeMillis() - start);
+    }
+}
@@ -0,0 +1,124 @@
+package com.cMall.feedShop.review.application;
+
+import com.cMall.feedShop.config.CacheConfig;
+import com.cMall.feedShop.review.domain.entity.ProductReviewStats;
+import com.cMall.feedShop.review.domain.entity.ReviewAggregate;
+import com.cMall.feedShop.review.domain.entity.ReviewSnapshot;
+import com.cMall.feedShop.review.domain.entity.ReviewStatus;
+import com.cMall.feedShop.review.domain.repository.ProductReviewStatsRepository;
+import com.cMall.feedShop.review.domain.repository.ReviewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Supplier;
+
+/**
+ * 상품별 리뷰 집계(product_review_stats) 관리 서비스
+ * - 조회: 집계 테이블 PK 조회
+ * - 갱신: 리뷰 작성/수정/상태 변경 시 증분 반영
+ * - 복구: reviews 테이블에서 다시 집계해 덮어쓰기
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class ProductReviewStatsService {
+
+    private final ProductReviewStatsRepository statsRepository;
+    private final ReviewRepository reviewRepository;
+
+    /**
+     * 상품 리뷰 집계 조회
+     * 아직 집계 행이 없는 상품(갱신 이력이 없는 상품)은 reviews 테이블에서 직접 집계합니다.
+     * 상품별로 캐시되며, 리뷰 변경(applyChange)/재계산(rebuild) 커밋 시 제거됩니다.
+     */
+    @Cacheable(cacheNames = CacheConfig.PRODUCT_REVIEW_AGGREGATE, key = "#productId")
+    public ReviewAggregate getAggregate(Long productId) {
+        return statsRepository.findById(productId)
+                .map(ProductReviewStats::toAggregate)
+                .orElseGet(() -> computeAggregate(productId));
+    }
+
+    /**
+     * 리뷰 한 건의 변경을 집계에 반영합니다.
+     *
+     * @param before 변경 전 스냅샷 (작성 시 null)
+     * @param after  변경 후 스냅샷
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PRODUCT_REVIEW_AGGREGATE, key = "(#after ?: #before).productId",
+            condition = "#before != null or #after != null")
+    public void applyChange(ReviewSnapshot before, ReviewSnapshot after) {
+        ReviewSnapshot target = after != null ? after : before;
+        if (target == null || !affectsStats(before, after)) {
+            return;
+        }
+
+        ProductReviewStats stats = lockStats(target.getProductId(),
+                () -> initialStats(target.getProductId(), before, after));
+        stats.apply(before, after);
+        if (stats.hasNegativeValue()) {
+            log.warn("리뷰 집계가 음수가 되었습니다. 재집계가 필요합니다. productId={}, reviewCount={}, ratingSum={}",
+                    stats.getProductId(), stats.getReviewCount(), stats.getRatingSum());
+        }
+    }
+
+    /**
+     * reviews 테이블에서 상품 집계를 다시 계산해 덮어씁니다. (드리프트 복구)
+     * 행 잠금을 먼저 잡은 뒤 집계해서, 진행 중인 증분 갱신과 섞이지 않도록 합니다.
+     * 행이 없으면 증분 갱신과 같은 방식(insertIfAbsent 후 잠금)으로 만들어, 동시에 첫 증분 갱신이 들어와도 키 충돌이 나지 않습니다.
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PRODUCT_REVIEW_AGGREGATE, key = "#productId")
+    public ReviewAggregate rebuild(Long productId) {
+        ProductReviewStats stats = lockStats(productId, () -> ProductReviewStats.from(ReviewAggregate.empty(productId)));
+        ReviewAggregate aggregate = computeAggregate(productId);
+        stats.overwrite(aggregate);
+        return aggregate;
+    }
+
+    private boolean affectsStats(ReviewSnapshot before, ReviewSnapshot after) {
+        boolean beforeActive = before != null && before.isActive();
+        boolean afterActive = after != null && after.isActive();
+        if (!beforeActive && !afterActive) {
+            return false;
+        }
+        // 제목/내용만 바뀐 수정은 집계에 영향 없음
+        return before == null || !before.hasSameFacets(after);
+    }
+
+    /**
+     * 집계 행을 잠금 조회하고, 없으면 현재 트랜잭션 안에서 생성한 뒤 잠급니다.
+     * 별도 트랜잭션(REQUIRES_NEW)으로 만들면 쓰기마다 커넥션을 두 개씩 점유해 부하 시 풀이 고갈될 수 있습니다.
+     * 다른 트랜잭션이 먼저 만들었으면 그 행을 잠금 조회해서 사용합니다.
+     */
+    private ProductReviewStats lockStats(Long productId, Supplier<ProductReviewStats> initial) {
+        return statsRepository.findByIdForUpdate(productId)
+                .orElseGet(() -> {
+                    if (!statsRepository.insertIfAbsent(initial.get())) {
+                        log.debug("리뷰 집계 행이 동시에 생성되었습니다. productId={}", productId);
+                    }
+                    return statsRepository.findByIdForUpdate(productId)
+                            .orElseThrow(() -> new IllegalStateException("리뷰 집계를 초기화하지 못했습니다. productId=" + productId));
+                });
+    }
+
+    /**
+     * 증분 갱신으로 처음 만드는 집계 행의 초기값
+     * 집계 쿼리에는 이미 flush 된 현재 변경이 포함되므로, 그 변경을 되돌린 값으로 만들고 호출 측에서 증분을 반영합니다.
+     */
+    private ProductReviewStats initialStats(Long productId, ReviewSnapshot before, ReviewSnapshot after) {
+        ProductReviewStats initial = ProductReviewStats.from(computeAggregate(productId));
+        initial.apply(after, before);
+        return initial;
+    }
+
+    private ReviewAggregate computeAggregate(Long productId) {
+        return ReviewAggregate.from(productId,
+                reviewRepository.findFacetCountsByProductIdAndStatus(productId, ReviewStatus.ACTIVE));
+    }
+}
@@ -0,0 +1,56 @@
+package com.cMall.feedShop.review.application;
+
+import com.cMall.feedShop.review.domain.entity.Review;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 리뷰 목록 커서 - 마지막으로 내려준 리뷰의 (createdAt, reviewId)
+ * 클라이언트에는 Base64(URL-safe) 로 인코딩한 불투명 토큰으로 전달합니다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ReviewCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime createdAt;
+    private final Long reviewId;
+
+    public static ReviewCursor from(Review review) {
+        return new ReviewCursor(review.getCreatedAt(), review.getReviewId());
+    }
+
+    /**
+     * 토큰 디코딩
+     *
+     * @throws IllegalArgumentException 형식이 올바르지 않은 토큰
+     */
+    public static ReviewCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int index = raw.indexOf(DELIMITER);
+            if (index < 0) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+            return new ReviewCursor(
+                    LocalDateTime.parse(raw.substring(0, index)),
+                    Long.parseLong(raw.substring(index + 1))
+            );
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            // NumberFormatException 도 IllegalArgumentException 하위 타입
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + reviewId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,27 @@
+package com.cMall.feedShop.review.application;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Locale;
+
+/**
+ * 리뷰 내보내기 형식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ReviewExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    public static ReviewExportFormat from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value);
+        }
+    }
+}
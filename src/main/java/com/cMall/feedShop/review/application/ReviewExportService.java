@@ -0,0 +1,106 @@
+package com.cMall.feedShop.review.application;
+
+import com.cMall.feedShop.review.domain.entity.ReviewStatus;
+import com.cMall.feedShop.review.domain.repository.ReviewExportRow;
+import com.cMall.feedShop.review.infrastructure.jpa.ReviewExportReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 상품 리뷰 내보내기 (분석용 전체 추출)
+ * 리뷰를 한 건씩 읽어 바로 출력 스트림에 쓰므로 리뷰 수와 관계없이 메모리 사용량이 일정합니다.
+ * - NDJSON: 리뷰 한 건당 JSON 한 줄
+ * - CSV: 헤더 + 리뷰 한 건당 한 행, 이미지 URL 은 공백으로 구분해 한 칸에 기록
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReviewExportService {
+
+    private static final String[] CSV_HEADER = {
+            "reviewId", "userId", "productId", "reviewTitle", "content", "rating",
+            "sizeFit", "cushioning", "stability", "createdAt", "imageUrls"
+    };
+
+    private final ReviewExportReader reviewExportReader;
+    private final ObjectMapper objectMapper;
+
+    public void exportProductReviews(Long productId, ReviewExportFormat format, OutputStream out) throws IOException {
+        long start = System.currentTimeMillis();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == ReviewExportFormat.CSV) {
+            writeCsvRecord(writer, CSV_HEADER);
+        }
+        long count;
+        try {
+            count = reviewExportReader.forEachByProduct(productId, ReviewStatus.ACTIVE, row -> {
+                try {
+                    if (format == ReviewExportFormat.CSV) {
+                        writeCsvRecord(writer, toCsvRecord(row));
+                    } else {
+                        writer.write(objectMapper.writeValueAsString(row));
+                        writer.write('\n');
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // 클라이언트가 다운로드를 중단한 경우 등
+            throw e.getCause();
+        }
+        writer.flush();
+        log.info("상품 리뷰 내보내기 완료 - productId: {}, 형식: {}, {}건, 소요 시간: {}ms",
+                productId, format, count, System.currentTimeMillis() - start);
+    }
+
+    private static String[] toCsvRecord(ReviewExportRow row) {
+        return new String[]{
+                String.valueOf(row.reviewId()),
+                String.valueOf(row.userId()),
+                String.valueOf(row.productId()),
+                row.reviewTitle(),
+                row.content(),
+                row.rating() != null ? String.valueOf(row.rating()) : null,
+                row.sizeFit() != null ? row.sizeFit().name() : null,
+                row.cushioning() != null ? row.cushioning().name() : null,
+                row.stability() != null ? row.stability().name() : null,
+                row.createdAt() != null ? row.createdAt().toString() : null,
+                String.join(" ", row.imageUrls())
+        };
+    }
+
+    private static void writeCsvRecord(Writer writer, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeCsvValue(writer, values[i]);
+        }
+        writer.write("\r\n");
+    }
+
+    // RFC 4180 - 쉼표/따옴표/줄바꿈이 있으면 큰따옴표로 감싸고 안의 큰따옴표는 두 번 씀
+    private static void writeCsvValue(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
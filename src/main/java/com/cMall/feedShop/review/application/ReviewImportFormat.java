@@ -0,0 +1,29 @@
+package com.cMall.feedShop.review.application;
+
+import org.springframework.http.MediaType;
+
+/**
+ * 리뷰 일괄 등록 파일 형식
+ * - JSON: data/sample-data.json 형식 ({"reviews": [...]}) 또는 리뷰 배열
+ * - CSV: 헤더 행 필수. 열 이름은 JSON 필드명과 같고, imageUrls 는 공백으로 구분합니다. (리뷰 내보내기 CSV 도 그대로 사용 가능)
+ */
+public enum ReviewImportFormat {
+    JSON,
+    CSV;
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    public static ReviewImportFormat from(String contentType) {
+        if (contentType == null || contentType.isBlank()) {
+            throw new IllegalArgumentException("Content-Type 이 필요합니다 (application/json 또는 text/csv)");
+        }
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        if (MediaType.APPLICATION_JSON.isCompatibleWith(mediaType)) {
+            return JSON;
+        }
+        if (MediaType.parseMediaType(TEXT_CSV_VALUE).isCompatibleWith(mediaType)) {
+            return CSV;
+        }
+        throw new IllegalArgumentException("지원하지 않는 일괄 등록 형식입니다: " + contentType);
+    }
+}
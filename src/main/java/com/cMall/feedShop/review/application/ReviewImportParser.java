@@ -0,0 +1,248 @@
+package com.cMall.feedShop.review.application;
+
+import com.cMall.feedShop.review.application.dto.request.ReviewCreateRequest;
+import com.cMall.feedShop.review.domain.entity.Cushion;
+import com.cMall.feedShop.review.domain.entity.SizeFit;
+import com.cMall.feedShop.review.domain.entity.Stability;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 리뷰 일괄 등록 파일 파서
+ * 파일 전체를 메모리에 올리지 않고 리뷰 한 건씩 읽어 넘깁니다.
+ * 값 변환에 실패한 행은 오류 행으로 넘기고 다음 행을 계속 읽습니다. (JSON 문법 오류처럼 더 읽을 수 없으면 IOException)
+ */
+class ReviewImportParser {
+
+    private static final String REVIEWS_FIELD = "reviews";
+    private static final List<String> REQUIRED_CSV_COLUMNS =
+            List.of("userId", "productId", "rating", "sizeFit", "cushioning", "stability");
+
+    private final ObjectMapper objectMapper;
+
+    ReviewImportParser(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 행 번호는 리뷰 순번 (1부터, CSV 헤더 제외)
+     */
+    void parse(InputStream in, ReviewImportFormat format, Consumer<Row> consumer) throws IOException {
+        if (format == ReviewImportFormat.CSV) {
+            parseCsv(in, consumer);
+        } else {
+            parseJson(in, consumer);
+        }
+    }
+
+    private void parseJson(InputStream in, Consumer<Row> consumer) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(in)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_ARRAY) {
+                parseJsonArray(parser, consumer);
+                return;
+            }
+            if (token != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("JSON 은 {\"reviews\": [...]} 또는 리뷰 배열이어야 합니다");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (REVIEWS_FIELD.equals(field) && value == JsonToken.START_ARRAY) {
+                    parseJsonArray(parser, consumer);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+    }
+
+    private void parseJsonArray(JsonParser parser, Consumer<Row> consumer) throws IOException {
+        int rowNumber = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            rowNumber++;
+            // 트리로 먼저 읽어 두면 변환에 실패해도 파서 위치는 다음 리뷰로 넘어가 있음
+            JsonNode node = parser.readValueAsTree();
+            Row row;
+            try {
+                row = Row.of(rowNumber, objectMapper.treeToValue(node, ReviewCreateRequest.class));
+            } catch (JsonProcessingException e) {
+                row = Row.error(rowNumber, "값을 읽을 수 없습니다: " + e.getOriginalMessage());
+            }
+            consumer.accept(row);
+        }
+    }
+
+    private void parseCsv(InputStream in, Consumer<Row> consumer) throws IOException {
+        try (CsvReader reader = new CsvReader(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)))) {
+            List<String> header = reader.readRecord();
+            if (header == null) {
+                return;
+            }
+            Map<String, Integer> columns = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(header.get(i).replace("\uFEFF", "").trim(), i);
+            }
+            List<String> missing = REQUIRED_CSV_COLUMNS.stream().filter(name -> !columns.containsKey(name)).toList();
+            if (!missing.isEmpty()) {
+                throw new IllegalArgumentException("CSV 헤더에 필수 열이 없습니다: " + missing);
+            }
+
+            int rowNumber = 0;
+            List<String> record;
+            while ((record = reader.readRecord()) != null) {
+                if (record.size() == 1 && record.get(0).isBlank()) {
+                    continue;
+                }
+                rowNumber++;
+                Row row;
+                try {
+                    row = Row.of(rowNumber, toRequest(new CsvRecord(columns, record)));
+                } catch (IllegalArgumentException e) {
+                    row = Row.error(rowNumber, e.getMessage());
+                }
+                consumer.accept(row);
+            }
+        }
+    }
+
+    private static ReviewCreateRequest toRequest(CsvRecord record) {
+        String imageUrls = record.get("imageUrls");
+        return ReviewCreateRequest.builder()
+                .userId(record.getLong("userId"))
+                .productId(record.getLong("productId"))
+                .reviewTitle(record.get("reviewTitle"))
+                .rating(record.getInteger("rating"))
+                .content(record.get("content"))
+                .sizeFit(record.getEnum("sizeFit", SizeFit.class))
+                .cushioning(record.getEnum("cushioning", Cushion.class))
+                .stability(record.getEnum("stability", Stability.class))
+                .imageUrls(imageUrls != null ? Arrays.asList(imageUrls.trim().split("\\s+")) : List.of())
+                .build();
+    }
+
+    /**
+     * 파싱 결과 한 행 - request 와 error 중 하나만 값이 있음
+     */
+    record Row(int rowNumber, ReviewCreateRequest request, String error) {
+
+        static Row of(int rowNumber, ReviewCreateRequest request) {
+            return new Row(rowNumber, request, null);
+        }
+
+        static Row error(int rowNumber, String error) {
+            return new Row(rowNumber, null, error);
+        }
+    }
+
+    private record CsvRecord(Map<String, Integer> columns, List<String> values) {
+
+        String get(String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= values.size() || values.get(index).isEmpty()) {
+                return null;
+            }
+            return values.get(index);
+        }
+
+        Long getLong(String column) {
+            String value = get(column);
+            try {
+                return value != null ? Long.valueOf(value.trim()) : null;
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(column + " 값이 숫자가 아닙니다: " + value);
+            }
+        }
+
+        Integer getInteger(String column) {
+            String value = get(column);
+            try {
+                return value != null ? Integer.valueOf(value.trim()) : null;
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(column + " 값이 숫자가 아닙니다: " + value);
+            }
+        }
+
+        <E extends Enum<E>> E getEnum(String column, Class<E> type) {
+            String value = get(column);
+            try {
+                return value != null ? Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT)) : null;
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(column + " 값이 올바르지 않습니다: " + value);
+            }
+        }
+    }
+
+    /**
+     * RFC 4180 CSV 레코드 리더 - 큰따옴표로 감싼 값 안의 쉼표/줄바꿈/"" 를 처리합니다.
+     */
+    private static final class CsvReader implements AutoCloseable {
+
+        private final BufferedReader reader;
+
+        private CsvReader(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        List<String> readRecord() throws IOException {
+            int c = reader.read();
+            if (c < 0) {
+                return null;
+            }
+            List<String> values = new ArrayList<>();
+            StringBuilder value = new StringBuilder();
+            boolean quoted = false;
+            while (c >= 0) {
+                if (quoted) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        int next = reader.read();
+                        if (next == '"') {
+                            value.append('"');
+                        } else {
+                            quoted = false;
+                            if (next >= 0) {
+                                reader.reset();
+                            }
+                        }
+                    } else {
+                        value.append((char) c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    values.add(value.toString());
+                    value.setLength(0);
+                } else if (c == '\n') {
+                    break;
+                } else if (c != '\r') {
+                    value.append((char) c);
+                }
+                c = reader.read();
+            }
+            values.add(value.toString());
+            return values;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.cMall.feedShop.review.application;
+
+import com.cMall.feedShop.review.application.dto.request.ReviewCreateRequest;
+
+/**
+ * 검증을 통과한 일괄 등록 행 (rowNumber 는 파일에서의 리뷰 순번)
+ */
+public record ReviewImportRow(int rowNumber, ReviewCreateRequest request) {
+}
@@ -0,0 +1,299 @@
+package com.cMall.feedShop.review.application;
+
+import com.cMall.feedShop.common.trace.MdcTaskDecorator;
+import com.cMall.feedShop.review.application.dto.request.ReviewCreateRequest;
+import com.cMall.feedShop.review.application.dto.response.ReviewImportResponse;
+import com.cMall.feedShop.review.domain.entity.Review;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 리뷰 일괄 등록 (관리자 데이터 이관/시드용)
+ * - 파일을 스트리밍으로 읽으며 행마다 리뷰 작성과 같은 규칙으로 검증하고, 파일 안의 (userId, productId) 중복은 메모리에서 걸러 냅니다.
+ * - 검증을 통과한 행은 batch-size 단위로 묶어 workers 개의 작업 스레드에서 저장합니다. (배치 하나 = 트랜잭션 하나)
+ *   대기 배치는 workers 개까지만 두고, 넘치면 읽는 스레드가 직접 저장해 메모리 사용량을 묶어 둡니다.
+ * - 배치 저장이 실패하면 그 배치만 행 단위로 다시 저장해 실패한 행만 오류로 남깁니다. 파일 전체를 중단하지 않습니다.
+ * - 상품 집계는 행마다 갱신하지 않고, 끝난 뒤 영향받은 상품만 reviews 테이블에서 다시 계산합니다.
+ */
+@Slf4j
+@Service
+public class ReviewImportService {
+
+    private static final int MAX_IMAGE_COUNT = 5;
+    private static final int MAX_IMAGE_URL_LENGTH = 500;
+    private static final String DUPLICATE_IN_FILE_MESSAGE = "파일 안에 같은 사용자/상품의 리뷰가 이미 있습니다.";
+    private static final String ALREADY_REVIEWED_MESSAGE = "이미 해당 상품에 대한 리뷰를 작성하셨습니다.";
+
+    private final ReviewImportWriter reviewImportWriter;
+    private final ProductReviewStatsService productReviewStatsService;
+    private final ReviewImportParser parser;
+    private final int batchSize;
+    private final int workers;
+    private final int maxReportedErrors;
+
+    public ReviewImportService(ReviewImportWriter reviewImportWriter,
+                               ProductReviewStatsService productReviewStatsService,
+                               ObjectMapper objectMapper,
+                               @Value("${review.import.batch-size:500}") int batchSize,
+                               @Value("${review.import.workers:4}") int workers,
+                               @Value("${review.import.max-reported-errors:1000}") int maxReportedErrors) {
+        if (batchSize < 1 || workers < 1) {
+            throw new IllegalArgumentException("review.import.batch-size 와 review.import.workers 는 1 이상이어야 합니다.");
+        }
+        this.reviewImportWriter = reviewImportWriter;
+        this.productReviewStatsService = productReviewStatsService;
+        this.parser = new ReviewImportParser(objectMapper);
+        this.batchSize = batchSize;
+        this.workers = workers;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    /**
+     * 파일의 리뷰를 일괄 등록하고 처리 결과를 반환합니다.
+     * 파일 형식 자체가 잘못되었으면(헤더 누락 등) IllegalArgumentException, 읽는 도중 깨진 경우는 그 전까지 등록하고 completed=false 로 반환합니다.
+     */
+    public ReviewImportResponse importReviews(InputStream in, ReviewImportFormat format) {
+        long start = System.nanoTime();
+        ImportReport report = new ImportReport(maxReportedErrors);
+        Set<ReviewImportWriter.Key> seen = new HashSet<>();
+        Set<Long> productIds = new TreeSet<>();
+        List<Future<?>> pending = new ArrayList<>();
+        List<ReviewImportRow> batch = new ArrayList<>(batchSize);
+        boolean completed = true;
+
+        ThreadPoolTaskExecutor executor = newExecutor();
+        try {
+            parser.parse(in, format, row -> {
+                report.totalRows++;
+                if (row.error() != null) {
+                    report.error(row.rowNumber(), row.error());
+                    return;
+                }
+                String error = validate(row.request());
+                if (error == null && !seen.add(ReviewImportWriter.Key.of(row.request()))) {
+                    error = DUPLICATE_IN_FILE_MESSAGE;
+                }
+                if (error != null) {
+                    report.error(row.rowNumber(), error);
+                    return;
+                }
+                productIds.add(row.request().getProductId());
+                batch.add(new ReviewImportRow(row.rowNumber(), row.request()));
+                if (batch.size() == batchSize) {
+                    pending.add(submit(executor, List.copyOf(batch), report));
+                    batch.clear();
+                }
+            });
+            if (!batch.isEmpty()) {
+                pending.add(submit(executor, List.copyOf(batch), report));
+            }
+        } catch (IOException e) {
+            completed = false;
+            log.warn("리뷰 일괄 등록 파일 읽기 중단 - {}번째 행 이후: {}", report.totalRows, e.getMessage());
+            report.fileError(report.totalRows + 1, "파일을 더 읽을 수 없어 중단했습니다: " + e.getMessage());
+        } finally {
+            completed &= awaitAll(pending);
+            executor.shutdown();
+        }
+
+        rebuildStats(productIds);
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        ReviewImportResponse response = report.toResponse(completed, elapsedMillis);
+        log.info("리뷰 일괄 등록 완료 - 형식: {}, 전체: {}행, 등록: {}건, 실패: {}건, 상품: {}개, 소요 시간: {}ms ({}행/초)",
+                format, response.getTotalRows(), response.getImportedRows(), response.getFailedRows(),
+                productIds.size(), elapsedMillis, Math.round(response.getRowsPerSecond()));
+        return response;
+    }
+
+    /**
+     * 리뷰 작성과 같은 규칙 (Review.validate* + 작성 요청 필수값)
+     */
+    private String validate(ReviewCreateRequest request) {
+        try {
+            if (request.getUserId() == null || request.getUserId() <= 0) {
+                return "사용자 ID는 양수여야 합니다.";
+            }
+            if (request.getProductId() == null || request.getProductId() <= 0) {
+                return "상품 ID는 양수여야 합니다.";
+            }
+            Review.validateRating(request.getRating());
+            Review.validateTitle(request.getReviewTitle());
+            Review.validateContent(request.getContent());
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+        if (request.getSizeFit() == null) {
+            return "사이즈 핏은 필수입니다.";
+        }
+        if (request.getCushioning() == null) {
+            return "쿠셔닝은 필수입니다.";
+        }
+        if (request.getStability() == null) {
+            return "안정성은 필수입니다.";
+        }
+        List<String> imageUrls = request.getImageUrls();
+        if (imageUrls != null) {
+            if (imageUrls.size() > MAX_IMAGE_COUNT) {
+                return "이미지는 최대 " + MAX_IMAGE_COUNT + "개까지 업로드 가능합니다.";
+            }
+            for (String imageUrl : imageUrls) {
+                if (imageUrl == null || imageUrl.isBlank() || imageUrl.length() > MAX_IMAGE_URL_LENGTH) {
+                    return "이미지 URL 이 비어 있거나 " + MAX_IMAGE_URL_LENGTH + "자를 초과합니다.";
+                }
+            }
+        }
+        return null;
+    }
+
+    private Future<?> submit(ThreadPoolTaskExecutor executor, List<ReviewImportRow> rows, ImportReport report) {
+        return executor.submit(() -> write(rows, report));
+    }
+
+    private void write(List<ReviewImportRow> rows, ImportReport report) {
+        try {
+            List<ReviewImportRow> skipped = reviewImportWriter.write(rows);
+            report.imported(rows.size() - skipped.size());
+            skipped.forEach(row -> report.error(row.rowNumber(), ALREADY_REVIEWED_MESSAGE));
+        } catch (RuntimeException e) {
+            // 배치 트랜잭션은 통째로 롤백됨 - 행 단위로 다시 저장해 실패한 행만 골라 냄
+            log.warn("리뷰 일괄 등록 배치 실패, 행 단위로 재시도 - 행 {}~{}: {}",
+                    rows.get(0).rowNumber(), rows.get(rows.size() - 1).rowNumber(), e.getMessage());
+            rows.forEach(row -> writeOne(row, report));
+        }
+    }
+
+    private void writeOne(ReviewImportRow row, ImportReport report) {
+        try {
+            if (reviewImportWriter.write(List.of(row)).isEmpty()) {
+                report.imported(1);
+            } else {
+                report.error(row.rowNumber(), ALREADY_REVIEWED_MESSAGE);
+            }
+        } catch (RuntimeException e) {
+            report.error(row.rowNumber(), "저장에 실패했습니다: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+        }
+    }
+
+    private boolean awaitAll(List<Future<?>> pending) {
+        boolean completed = true;
+        for (Future<?> future : pending) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } catch (ExecutionException e) {
+                log.error("리뷰 일괄 등록 작업 실패", e.getCause());
+                completed = false;
+            }
+        }
+        return completed;
+    }
+
+    private void rebuildStats(Set<Long> productIds) {
+        for (Long productId : productIds) {
+            try {
+                productReviewStatsService.rebuild(productId);
+            } catch (RuntimeException e) {
+                // 집계 재계산 배치(ProductReviewStatsRebuildJob)에서 다시 맞춰짐
+                log.warn("리뷰 일괄 등록 후 상품 집계 재계산 실패 - productId: {}: {}", productId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 요청마다 만들고 끝나면 종료하는 작업 풀 - 동시에 여러 파일을 올려도 배치 쓰기는 파일당 workers 개로 제한됨
+     */
+    private ThreadPoolTaskExecutor newExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(workers);
+        executor.setThreadNamePrefix("review-import-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 처리 결과 집계 - 작업 스레드에서 동시에 갱신됩니다. (totalRows 는 읽는 스레드만 갱신)
+     */
+    private static final class ImportReport {
+
+        private final int maxReportedErrors;
+        private final AtomicLong importedRows = new AtomicLong();
+        private final AtomicLong failedRows = new AtomicLong();
+        private final List<ReviewImportResponse.RowError> errors = new ArrayList<>();
+        private long totalRows;
+        private boolean errorsTruncated;
+
+        private ImportReport(int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        void imported(int count) {
+            importedRows.addAndGet(count);
+        }
+
+        void error(long row, String message) {
+            failedRows.incrementAndGet();
+            report(row, message);
+        }
+
+        /**
+         * 행 오류가 아닌 파일 오류 - failedRows 에는 세지 않음
+         */
+        void fileError(long row, String message) {
+            report(row, message);
+        }
+
+        private void report(long row, String message) {
+            synchronized (errors) {
+                if (errors.size() < maxReportedErrors) {
+                    errors.add(new ReviewImportResponse.RowError(row, message));
+                } else {
+                    errorsTruncated = true;
+                }
+            }
+        }
+
+        ReviewImportResponse toResponse(boolean completed, long elapsedMillis) {
+            List<ReviewImportResponse.RowError> sorted;
+            boolean truncated;
+            synchronized (errors) {
+                sorted = new ArrayList<>(errors);
+                truncated = errorsTruncated;
+            }
+            sorted.sort(Comparator.comparingLong(ReviewImportResponse.RowError::getRow));
+            return ReviewImportResponse.builder()
+                    .totalRows(totalRows)
+                    .importedRows(importedRows.get())
+                    .failedRows(failedRows.get())
+                    .elapsedMillis(elapsedMillis)
+                    .rowsPerSecond(totalRows * 1000.0 / elapsedMillis)
+                    .completed(completed)
+                    .errors(sorted)
+                    .errorsTruncated(truncated)
+                    .build();
+        }
+    }
+}
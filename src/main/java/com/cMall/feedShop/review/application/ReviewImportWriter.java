@@ -0,0 +1,180 @@
+package com.cMall.feedShop.review.application;
+
+import com.cMall.feedShop.review.application.dto.request.ReviewCreateRequest;
+import com.cMall.feedShop.review.domain.entity.Review;
+import com.cMall.feedShop.review.domain.entity.ReviewImage;
+import com.cMall.feedShop.review.domain.entity.ReviewSnapshot;
+import com.cMall.feedShop.review.domain.entity.ReviewStatus;
+import com.cMall.feedShop.review.domain.event.ReviewChangedEvent;
+import com.cMall.feedShop.review.domain.repository.ReviewAuthorKey;
+import com.cMall.feedShop.review.domain.repository.ReviewImageRepository;
+import com.cMall.feedShop.review.domain.repository.ReviewRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 리뷰 일괄 등록 배치 쓰기 (배치 하나 = 트랜잭션 하나)
+ * - 리뷰는 IDENTITY 키라 Hibernate 배치 INSERT 가 되지 않으므로 JdbcTemplate.batchUpdate 로 한 번에 보내고 생성 키를 돌려받습니다.
+ * - 이미지는 시퀀스(pooled) 키라 JPA saveAll 로 저장해도 JDBC 배치 INSERT 로 나갑니다. (JpaConfig)
+ * - 이미 활성 리뷰가 있는 (userId, productId) 는 쓰기 전에 한 번의 조회로 걸러 냅니다.
+ * - 커밋 후 검색 색인 반영을 위해 리뷰마다 ReviewChangedEvent 를 발행합니다. 상품 집계는 호출 측에서 한꺼번에 재계산합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReviewImportWriter {
+
+    private static final String INSERT_REVIEW_SQL = "INSERT INTO reviews " +
+            "(user_id, product_id, review_title, rating, content, size_fit, cushion, stability, status, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final ReviewRepository reviewRepository;
+    private final ReviewImageRepository reviewImageRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 배치를 저장하고, 이미 활성 리뷰가 있어 건너뛴 행을 반환합니다.
+     * 저장 중 예외가 나면 배치 전체가 롤백됩니다. (호출 측에서 행 단위로 다시 시도)
+     */
+    @Transactional
+    public List<ReviewImportRow> write(List<ReviewImportRow> rows) {
+        Set<Key> existing = findExistingKeys(rows);
+        List<ReviewImportRow> skipped = new ArrayList<>();
+        List<ReviewImportRow> toInsert = new ArrayList<>(rows.size());
+        for (ReviewImportRow row : rows) {
+            if (existing.contains(Key.of(row.request()))) {
+                skipped.add(row);
+            } else {
+                toInsert.add(row);
+            }
+        }
+        if (toInsert.isEmpty()) {
+            return skipped;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> reviewIds = insertReviews(toInsert, now);
+
+        List<ReviewImage> images = new ArrayList<>();
+        for (int i = 0; i < toInsert.size(); i++) {
+            ReviewCreateRequest request = toInsert.get(i).request();
+            Long reviewId = reviewIds.get(i);
+            List<String> imageUrls = request.getImageUrls();
+            if (imageUrls != null) {
+                for (int order = 0; order < imageUrls.size(); order++) {
+                    images.add(ReviewImage.builder()
+                            .reviewId(reviewId)
+                            .imageUrl(imageUrls.get(order))
+                            .imageOrder(order + 1)
+                            .build());
+                }
+            }
+            eventPublisher.publishEvent(new ReviewChangedEvent(null, ReviewSnapshot.of(toReview(reviewId, request, now))));
+        }
+        if (!images.isEmpty()) {
+            reviewImageRepository.saveAll(images);
+        }
+        return skipped;
+    }
+
+    private Set<Key> findExistingKeys(List<ReviewImportRow> rows) {
+        Set<Long> userIds = rows.stream().map(row -> row.request().getUserId()).collect(Collectors.toSet());
+        Set<Long> productIds = rows.stream().map(row -> row.request().getProductId()).collect(Collectors.toSet());
+        Set<Key> existing = new HashSet<>();
+        for (ReviewAuthorKey key : reviewRepository.findActiveAuthorKeys(userIds, productIds)) {
+            existing.add(new Key(key.getUserId(), key.getProductId()));
+        }
+        return existing;
+    }
+
+    private List<Long> insertReviews(List<ReviewImportRow> rows, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_REVIEW_SQL, new String[]{"review_id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        ReviewCreateRequest request = rows.get(i).request();
+                        ps.setLong(1, request.getUserId());
+                        ps.setLong(2, request.getProductId());
+                        ps.setString(3, request.getReviewTitle());
+                        ps.setInt(4, request.getRating());
+                        ps.setString(5, request.getContent());
+                        setEnum(ps, 6, request.getSizeFit());
+                        setEnum(ps, 7, request.getCushioning());
+                        setEnum(ps, 8, request.getStability());
+                        ps.setString(9, ReviewStatus.ACTIVE.name());
+                        ps.setTimestamp(10, timestamp);
+                        ps.setTimestamp(11, timestamp);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return rows.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != rows.size()) {
+            throw new IllegalStateException("생성된 리뷰 ID 수가 저장한 리뷰 수와 다릅니다: " + keys.size() + " != " + rows.size());
+        }
+        List<Long> reviewIds = new ArrayList<>(keys.size());
+        for (Map<String, Object> key : keys) {
+            reviewIds.add(((Number) key.values().iterator().next()).longValue());
+        }
+        return reviewIds;
+    }
+
+    private static void setEnum(PreparedStatement ps, int index, Enum<?> value) throws SQLException {
+        if (value != null) {
+            ps.setString(index, value.name());
+        } else {
+            ps.setNull(index, Types.VARCHAR);
+        }
+    }
+
+    private static Review toReview(Long reviewId, ReviewCreateRequest request, LocalDateTime createdAt) {
+        return Review.builder()
+                .reviewId(reviewId)
+                .userId(request.getUserId())
+                .productId(request.getProductId())
+                .reviewTitle(request.getReviewTitle())
+                .rating(request.getRating())
+                .content(request.getContent())
+                .sizeFit(request.getSizeFit())
+                .cushioning(request.getCushioning())
+                .stability(request.getStability())
+                .status(ReviewStatus.ACTIVE)
+                .createdAt(createdAt)
+                .build();
+    }
+
+    /**
+     * 사용자당 상품별 활성 리뷰 1건 제약의 키
+     */
+    record Key(Long userId, Long productId) {
+
+        static Key of(ReviewCreateRequest request) {
+            return new Key(request.getUserId(), request.getProductId());
+        }
+    }
+}
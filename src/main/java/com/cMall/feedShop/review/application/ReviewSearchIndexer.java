@@ -0,0 +1,245 @@
+package com.cMall.feedShop.review.application;
+
+import com.cMall.feedShop.review.domain.entity.Review;
+import com.cMall.feedShop.review.domain.entity.ReviewSnapshot;
+import com.cMall.feedShop.review.domain.entity.ReviewStatus;
+import com.cMall.feedShop.review.domain.event.ReviewChangedEvent;
+import com.cMall.feedShop.review.domain.repository.ReviewRepository;
+import com.cMall.feedShop.review.infrastructure.search.ReviewSearchIndex;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 리뷰 검색 색인 관리
+ * - 이 인스턴스의 리뷰 쓰기는 ReviewChangedEvent 로 커밋 이후 바로 색인에 반영합니다. (롤백된 변경은 색인되지 않음)
+ * - snapshot-interval 마다 마지막 동기화 시각 - catch-up-margin 이후 변경된 리뷰를 DB 에서 다시 색인합니다.
+ *   다른 인스턴스에서 쓴 리뷰(일괄 등록 포함)는 이 주기로 반영되므로, 최대 snapshot-interval 만큼 늦게 검색됩니다.
+ * - 같은 주기로, 그리고 종료 시 변경이 있으면 색인을 index-dir 에 스냅샷으로 저장합니다. (임시 파일 기록 후 교체)
+ * - 기동 시 스냅샷을 읽고, 스냅샷 시각 - catch-up-margin 이후 변경된 리뷰만 DB 에서 다시 색인합니다.
+ *   스냅샷이 없거나 읽을 수 없거나, 색인 건수가 DB 의 활성 리뷰 수와 다르면 전체 재구축합니다.
+ * - review.search.index-dir 를 비우면 스냅샷 없이 기동할 때마다 전체 재구축합니다.
+ * 상품별 패싯 비트맵도 같은 색인에 들어 있어 스냅샷/변경분 반영을 함께 탑니다.
+ * 색인은 인스턴스 메모리에 있고 인스턴스마다 위 주기로 DB 와 맞춥니다. (DB 에서 행을 직접 지운 경우는 재구축 전까지 남음)
+ */
+@Slf4j
+@Component
+public class ReviewSearchIndexer {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final String SNAPSHOT_FILE_NAME = "review-search.idx";
+
+    private final ReviewRepository reviewRepository;
+    private final Path snapshotFile;
+    private final Duration catchUpMargin;
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    private volatile ReviewSearchIndex index = new ReviewSearchIndex();
+    // 이 시각 이전 변경은 색인에 반영됨 (catch-up-margin 만큼 겹쳐서 다시 읽음)
+    private volatile LocalDateTime syncedAt;
+    // 전체 재구축 중 들어온 변경을 새 색인에도 반영하기 위한 참조
+    private volatile ReviewSearchIndex rebuilding;
+
+    public ReviewSearchIndexer(ReviewRepository reviewRepository,
+                               @Value("${review.search.index-dir:${java.io.tmpdir}/feedshop/review-search}") String indexDir,
+                               @Value("${review.search.catch-up-margin-ms:60000}") long catchUpMarginMs) {
+        this.reviewRepository = reviewRepository;
+        this.snapshotFile = indexDir == null || indexDir.isBlank() ? null : Paths.get(indexDir, SNAPSHOT_FILE_NAME);
+        this.catchUpMargin = Duration.ofMillis(catchUpMarginMs);
+    }
+
+    @PostConstruct
+    public synchronized void restore() {
+        long start = System.currentTimeMillis();
+        try {
+            LocalDateTime snapshotAt = loadSnapshot();
+            if (snapshotAt == null) {
+                rebuild();
+                return;
+            }
+            LocalDateTime catchUpStartedAt = LocalDateTime.now();
+            int changed = catchUp(snapshotAt.minus(catchUpMargin));
+            syncedAt = catchUpStartedAt;
+            long active = reviewRepository.countByStatus(ReviewStatus.ACTIVE);
+            if (index.size() != active) {
+                log.warn("리뷰 검색 색인 건수 불일치 - 색인: {}, DB: {}. 전체 재구축합니다.", index.size(), active);
+                rebuild();
+                return;
+            }
+            log.info("리뷰 검색 색인 복구 완료 - 스냅샷: {}, 변경분: {}건, 색인: {}건, 소요 시간: {}ms",
+                    snapshotAt, changed, index.size(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            log.warn("리뷰 검색 색인 복구 실패, 빈 색인으로 시작합니다: {}", e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReviewChanged(ReviewChangedEvent event) {
+        index.index(event.getAfter());
+        ReviewSearchIndex next = rebuilding;
+        if (next != null) {
+            next.index(event.getAfter());
+        }
+        dirty.set(true);
+    }
+
+    public ReviewSearchIndex.Hits search(ReviewSearchIndex.Criteria criteria, long offset, int limit) {
+        return index.search(criteria, offset, limit);
+    }
+
+    public ReviewSearchIndex.FacetPage facets(Long productId, ReviewSearchIndex.FacetFilter filter, long offset, int limit) {
+        return index.facets(productId, filter, offset, limit);
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * DB 의 활성 리뷰로 색인을 새로 만들어 교체합니다. (재구축 중에도 기존 색인으로 검색 가능)
+     */
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        LocalDateTime rebuildStartedAt = LocalDateTime.now();
+        ReviewSearchIndex next = new ReviewSearchIndex();
+        rebuilding = next;
+        try {
+            long lastId = 0L;
+            List<Review> batch;
+            do {
+                batch = reviewRepository.findNextBatchByStatus(lastId, ReviewStatus.ACTIVE, PageRequest.of(0, BATCH_SIZE));
+                for (Review review : batch) {
+                    next.index(ReviewSnapshot.of(review));
+                }
+                if (!batch.isEmpty()) {
+                    lastId = batch.get(batch.size() - 1).getReviewId();
+                }
+            } while (batch.size() == BATCH_SIZE);
+            index = next;
+            syncedAt = rebuildStartedAt;
+            dirty.set(true);
+        } finally {
+            rebuilding = null;
+        }
+        log.info("리뷰 검색 색인 재구축 완료 - {}건, 소요 시간: {}ms", next.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 마지막 동기화 이후 다른 인스턴스에서 변경된 리뷰를 반영하고 스냅샷을 저장합니다.
+     */
+    @Scheduled(fixedDelayString = "${review.search.snapshot-interval-ms:60000}",
+            initialDelayString = "${review.search.snapshot-interval-ms:60000}")
+    public void synchronize() {
+        refreshChanges();
+        saveSnapshot();
+    }
+
+    /**
+     * 마지막 동기화 시각 - catch-up-margin 이후 변경된 리뷰를 다시 색인합니다. (아직 색인을 만들지 못했으면 건너뜀)
+     */
+    public synchronized void refreshChanges() {
+        LocalDateTime since = syncedAt;
+        if (since == null) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        try {
+            int changed = catchUp(since.minus(catchUpMargin));
+            syncedAt = startedAt;
+            if (changed > 0) {
+                log.debug("리뷰 검색 색인 변경분 반영 - {}건 (기준: {})", changed, since);
+            }
+        } catch (RuntimeException e) {
+            log.warn("리뷰 검색 색인 변경분 반영 실패, 다음 주기에 다시 시도합니다: {}", e.getMessage());
+        }
+    }
+
+    public void saveSnapshot() {
+        if (snapshotFile == null || !dirty.getAndSet(false)) {
+            return;
+        }
+        // 스냅샷 시각은 직렬화 전에 잡음 - 직렬화 중 커밋된 변경은 다음 기동 시 catch-up 대상
+        LocalDateTime takenAt = LocalDateTime.now();
+        try {
+            Files.createDirectories(snapshotFile.getParent());
+            Path temp = Files.createTempFile(snapshotFile.getParent(), SNAPSHOT_FILE_NAME, ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeUTF(takenAt.toString());
+                index.writeTo(out);
+            }
+            Files.move(temp, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("리뷰 검색 색인 스냅샷 저장 - {}건, {}", index.size(), snapshotFile);
+        } catch (IOException e) {
+            dirty.set(true);
+            log.warn("리뷰 검색 색인 스냅샷 저장 실패 - {}: {}", snapshotFile, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        saveSnapshot();
+    }
+
+    /**
+     * 스냅샷을 읽어 색인을 채우고 스냅샷 시각을 반환합니다. 없거나 읽을 수 없으면 null
+     */
+    private LocalDateTime loadSnapshot() {
+        if (snapshotFile == null || !Files.isRegularFile(snapshotFile)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotFile)))) {
+            LocalDateTime takenAt = LocalDateTime.parse(in.readUTF());
+            ReviewSearchIndex loaded = new ReviewSearchIndex();
+            loaded.readFrom(in);
+            index = loaded;
+            return takenAt;
+        } catch (IOException | RuntimeException e) {
+            log.warn("리뷰 검색 색인 스냅샷을 읽을 수 없어 전체 재구축합니다 - {}: {}", snapshotFile, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * since 이후 변경된 리뷰를 다시 색인합니다. (비활성으로 바뀐 리뷰는 색인에서 제거)
+     */
+    private int catchUp(LocalDateTime since) {
+        LocalDateTime lastUpdatedAt = since;
+        long lastId = 0L;
+        int changed = 0;
+        List<Review> batch;
+        do {
+            batch = reviewRepository.findChangedAfter(lastUpdatedAt, lastId, PageRequest.of(0, BATCH_SIZE));
+            for (Review review : batch) {
+                index.index(ReviewSnapshot.of(review));
+            }
+            if (!batch.isEmpty()) {
+                Review last = batch.get(batch.size() - 1);
+                lastUpdatedAt = last.getUpdatedAt();
+                lastId = last.getReviewId();
+                changed += batch.size();
+                dirty.set(true);
+            }
+        } while (batch.size() == BATCH_SIZE);
+        return changed;
+    }
+}
@@ -1,24 +1,49 @@
 package com.cMall.feedShop.review.application;
 
+import com.cMall.feedShop.config.CacheConfig;
 import com.cMall.feedShop.review.application.dto.request.ReviewCreateRequest;
+import com.cMall.feedShop.review.application.dto.request.ReviewFilterRequest;
+import com.cMall.feedShop.review.application.dto.request.ReviewSearchRequest;
 import com.cMall.feedShop.review.application.dto.request.ReviewUpdateRequest;
 import com.cMall.feedShop.review.application.dto.response.ReviewCreateResponse;
+import com.cMall.feedShop.review.application.dto.response.ReviewCursorResponse;
 import com.cMall.feedShop.review.application.dto.response.ReviewDetailResponse;
+import com.cMall.feedShop.review.application.dto.response.ReviewFacetResponse;
+import com.cMall.feedShop.review.application.dto.response.ReviewImageResponse;
+import com.cMall.feedShop.review.application.dto.response.ReviewSearchResponse;
 import com.cMall.feedShop.review.application.dto.response.ReviewSummaryResponse;
 import com.cMall.feedShop.review.application.dto.response.ProductReviewSummaryResponse;
+import com.cMall.feedShop.review.application.exception.ReviewException;
 import com.cMall.feedShop.review.domain.entity.*;
+import com.cMall.feedShop.review.domain.event.ReviewChangedEvent;
 import com.cMall.feedShop.review.domain.repository.ReviewRepository;
 import com.cMall.feedShop.review.domain.repository.ReviewImageRepository;
+import com.cMall.feedShop.review.infrastructure.search.ReviewSearchIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
-import java.util.ArrayList;
 
 @Service
 @RequiredArgsConstructor
@@ -26,17 +51,21 @@ import java.util.ArrayList;
 @Slf4j
 public class ReviewService {
 
+    // 이미지 일괄 조회 시 IN 절 파라미터 개수 상한
+    private static final int IMAGE_QUERY_CHUNK_SIZE = 500;
+
+    // 커서 페이징 최대 페이지 크기
+    public static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final ReviewRepository reviewRepository;
     private final ReviewImageRepository reviewImageRepository;
+    private final ProductReviewStatsService productReviewStatsService;
+    private final ReviewSearchIndexer reviewSearchIndexer;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ReviewCreateResponse createReview(ReviewCreateRequest request) {
-        // 1. 이미 리뷰를 작성했는지 확인
-        if (reviewRepository.existsByUserIdAndProductIdAndStatusActive(request.getUserId(), request.getProductId())) {
-            throw new IllegalArgumentException("이미 해당 상품에 대한 리뷰를 작성하셨습니다.");
-        }
-
-        // 2. 리뷰 엔티티 생성 (모두 enum 사용)
+        // 1. 리뷰 엔티티 생성 (모두 enum 사용)
         Review review = Review.builder()
                 .userId(request.getUserId())
                 .productId(request.getProductId())
@@ -49,22 +78,29 @@ public class ReviewService {
                 .status(ReviewStatus.ACTIVE)
                 .build();
 
-        // 3. 리뷰 저장
-        Review savedReview = reviewRepository.save(review);
+        // 2. 리뷰 저장 - 중복 작성은 활성 리뷰 유니크 제약으로 막음 (사전 조회 없이 INSERT 한 번)
+        Review savedReview = saveReview(review);
 
-        // 4. 이미지가 있다면 저장
+        // 3. 이미지가 있다면 저장
         List<String> imageUrls = request.getImageUrls();
         if (imageUrls != null && !imageUrls.isEmpty()) {
+            List<ReviewImage> reviewImages = new ArrayList<>(imageUrls.size());
             for (int i = 0; i < imageUrls.size(); i++) {
-                ReviewImage reviewImage = ReviewImage.builder()
+                reviewImages.add(ReviewImage.builder()
                         .reviewId(savedReview.getReviewId())
                         .imageUrl(imageUrls.get(i))
                         .imageOrder(i + 1)
-                        .build();
-                reviewImageRepository.save(reviewImage);
+                        .build());
             }
+            // 한 번에 저장 - flush 시 JDBC 배치 INSERT 로 전송
+            reviewImageRepository.saveAll(reviewImages);
         }
 
+        // 4. 상품 리뷰 집계 반영, 커밋 후 검색 색인 반영
+        ReviewSnapshot after = ReviewSnapshot.of(savedReview);
+        productReviewStatsService.applyChange(null, after);
+        eventPublisher.publishEvent(new ReviewChangedEvent(null, after));
+
         // 5. 응답 객체 생성 (모두 enum 그대로)
         return ReviewCreateResponse.builder()
                 .reviewId(savedReview.getReviewId())
@@ -82,58 +118,163 @@ public class ReviewService {
     }
 
     public ProductReviewSummaryResponse getProductReviews(Long productId, Pageable pageable) {
-        // 1. 상품의 리뷰 목록 조회
-        Page<Review> reviewPage = reviewRepository.findByProductIdAndStatus(productId, ReviewStatus.ACTIVE, pageable);
-
-        // 2. 평균 평점 조회
-        Double averageRating = reviewRepository.findAverageRatingByProductId(productId);
+        // 1. 상품의 리뷰 목록 조회 (요청한 페이지 분량만 - 전체 개수는 집계에서 사용)
+        Slice<Review> reviewPage = reviewRepository.findSliceByProductIdAndStatus(productId, ReviewStatus.ACTIVE, pageable);
 
-        // 3. 총 리뷰 수 조회
-        Long totalReviewCount = reviewRepository.countByProductIdAndStatus(productId, ReviewStatus.ACTIVE);
+        // 2. 리뷰 수, 평균 평점, 평점 분포는 집계 캐시/테이블에서 조회
+        ReviewAggregate aggregate = productReviewStatsService.getAggregate(productId);
 
-        // 4. 최근 리뷰들을 기존 ReviewSummaryResponse로 변환
+        // 3. 최근 리뷰들을 기존 ReviewSummaryResponse로 변환 (이미지는 페이지 단위로 일괄 조회)
+        Map<Long, List<ReviewImage>> imagesByReviewId = loadImages(reviewPage.getContent());
         List<ReviewSummaryResponse> recentReviews = reviewPage.getContent().stream()
-                .map(this::convertToSummaryResponse)
+                .map(review -> convertToSummaryResponse(review, imagesOf(imagesByReviewId, review)))
                 .collect(Collectors.toList());
 
-        // 5. 평점 분포 계산 (간단한 버전)
+        // 4. 평점 분포
         ProductReviewSummaryResponse.RatingDistribution ratingDistribution = ProductReviewSummaryResponse.RatingDistribution.builder()
-                .fiveStar(0L)
-                .fourStar(0L)
-                .threeStar(0L)
-                .twoStar(0L)
-                .oneStar(0L)
+                .fiveStar(aggregate.getRatingCount(5))
+                .fourStar(aggregate.getRatingCount(4))
+                .threeStar(aggregate.getRatingCount(3))
+                .twoStar(aggregate.getRatingCount(2))
+                .oneStar(aggregate.getRatingCount(1))
                 .build();
 
+        SizeFit mostCommonSizeFit = aggregate.getMostCommonSizeFit();
+
         return ProductReviewSummaryResponse.builder()
                 .productId(productId)
-                .totalReviews(totalReviewCount)
-                .averageRating(averageRating != null ? averageRating : 0.0)
+                .totalReviews(aggregate.getTotalReviews())
+                .averageRating(aggregate.getAverageRating())
                 .ratingDistribution(ratingDistribution)
-                .mostCommonSizeFit("보통") // 임시값
+                .mostCommonSizeFit(mostCommonSizeFit != null ? mostCommonSizeFit.name() : null)
                 .recentReviews(recentReviews)
                 .build();
     }
 
+    /**
+     * 상품별 리뷰 목록 커서 조회 (최신순)
+     * 페이지 깊이와 무관하게 인덱스 범위 조회로 끝나며, 전체 개수 쿼리를 실행하지 않습니다.
+     */
+    public ReviewCursorResponse<ReviewSummaryResponse> getProductReviewsByCursor(Long productId, String cursor, int size) {
+        int pageSize = validatePageSize(size);
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<Review> reviews;
+        if (cursor == null || cursor.isBlank()) {
+            reviews = reviewRepository.findFirstPageByProductId(productId, ReviewStatus.ACTIVE, limit);
+        } else {
+            ReviewCursor position = ReviewCursor.decode(cursor);
+            reviews = reviewRepository.findNextPageByProductId(
+                    productId, ReviewStatus.ACTIVE, position.getCreatedAt(), position.getReviewId(), limit);
+        }
+
+        List<Review> page = reviews.size() > pageSize ? reviews.subList(0, pageSize) : reviews;
+        Map<Long, List<ReviewImage>> imagesByReviewId = loadImages(page);
+        List<ReviewSummaryResponse> content = page.stream()
+                .map(review -> convertToSummaryResponse(review, imagesOf(imagesByReviewId, review)))
+                .collect(Collectors.toList());
+
+        return toCursorResponse(content, page, reviews.size() > pageSize);
+    }
+
+    /**
+     * 사용자별 리뷰 목록 커서 조회 (최신순)
+     */
+    public ReviewCursorResponse<ReviewDetailResponse> getUserReviewsByCursor(Long userId, String cursor, int size) {
+        int pageSize = validatePageSize(size);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<Review> reviews;
+        if (cursor == null || cursor.isBlank()) {
+            reviews = reviewRepository.findFirstPageByUserId(userId, ReviewStatus.ACTIVE, limit);
+        } else {
+            ReviewCursor position = ReviewCursor.decode(cursor);
+            reviews = reviewRepository.findNextPageByUserId(
+                    userId, ReviewStatus.ACTIVE, position.getCreatedAt(), position.getReviewId(), limit);
+        }
+
+        List<Review> page = reviews.size() > pageSize ? reviews.subList(0, pageSize) : reviews;
+        return toCursorResponse(convertToDetailResponses(page), page, reviews.size() > pageSize);
+    }
+
+    /**
+     * 리뷰 검색 - 제목/내용 키워드(관련도순) + 평점 범위/특성 필터
+     * 검색은 메모리 역색인(ReviewSearchIndexer)에서 하고, DB 는 결과 페이지의 리뷰만 ID 로 조회합니다.
+     */
+    public ReviewSearchResponse searchReviews(ReviewSearchRequest request, Pageable pageable) {
+        int pageSize = validatePageSize(pageable.getPageSize());
+        ReviewSearchIndex.Criteria criteria = new ReviewSearchIndex.Criteria(
+                request.getProductId(), request.getKeyword(), request.getMinRating(), request.getMaxRating(),
+                request.getSizeFit(), request.getCushioning(), request.getStability());
+        ReviewSearchIndex.Hits hits = reviewSearchIndexer.search(criteria, pageable.getOffset(), pageSize);
+        List<ReviewSummaryResponse> content = loadSummariesInOrder(hits.reviewIds());
+
+        int totalPages = (int) ((hits.total() + pageSize - 1) / pageSize);
+        return ReviewSearchResponse.builder()
+                .keyword(request.getKeyword())
+                .content(content)
+                .page(pageable.getPageNumber())
+                .size(pageSize)
+                .totalElements(hits.total())
+                .totalPages(totalPages)
+                .hasNext(pageable.getOffset() + pageSize < hits.total())
+                .build();
+    }
+
+    /**
+     * 상품 리뷰 패싯 조회 - 평점 범위와 5단계 특성을 조합한 최신순 페이지와 패싯 값별 건수
+     * 검색 색인의 상품별 비트맵으로 계산하므로 GROUP BY 쿼리를 실행하지 않습니다.
+     */
+    public ReviewFacetResponse getReviewFacets(Long productId, ReviewFilterRequest filter, Pageable pageable) {
+        int pageSize = validatePageSize(pageable.getPageSize());
+        ReviewSearchIndex.FacetFilter facetFilter = new ReviewSearchIndex.FacetFilter(
+                filter.getMinRating(), filter.getMaxRating(),
+                filter.getSizeFit(), filter.getCushioning(), filter.getStability());
+        ReviewSearchIndex.FacetPage facets = reviewSearchIndexer.facets(productId, facetFilter, pageable.getOffset(), pageSize);
+        List<ReviewSummaryResponse> content = loadSummariesInOrder(facets.reviewIds());
+
+        int totalPages = (int) ((facets.total() + pageSize - 1) / pageSize);
+        return ReviewFacetResponse.builder()
+                .productId(productId)
+                .content(content)
+                .page(pageable.getPageNumber())
+                .size(pageSize)
+                .totalElements(facets.total())
+                .totalPages(totalPages)
+                .hasNext(pageable.getOffset() + pageSize < facets.total())
+                .ratingCounts(facets.ratingCounts())
+                .sizeFitCounts(countsByName(facets.sizeFitCounts()))
+                .cushioningCounts(countsByName(facets.cushioningCounts()))
+                .stabilityCounts(countsByName(facets.stabilityCounts()))
+                .build();
+    }
+
+    @Cacheable(cacheNames = CacheConfig.REVIEW_DETAIL, key = "#reviewId")
     public ReviewDetailResponse getReviewDetail(Long reviewId) {
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new IllegalArgumentException("리뷰를 찾을 수 없습니다."));
 
-        return convertToDetailResponse(review);
+        List<ReviewImage> images = reviewImageRepository.findByReviewIdOrderByImageOrder(review.getReviewId());
+        return convertToDetailResponse(review, images);
     }
 
     public Page<ReviewDetailResponse> getUserReviews(Long userId, Pageable pageable) {
         Page<Review> reviewPage = reviewRepository.findByUserIdAndStatus(userId, ReviewStatus.ACTIVE, pageable);
 
-        return reviewPage.map(this::convertToDetailResponse);
+        Map<Long, List<ReviewImage>> imagesByReviewId = loadImages(reviewPage.getContent());
+        return reviewPage.map(review -> convertToDetailResponse(review, imagesOf(imagesByReviewId, review)));
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.REVIEW_DETAIL, key = "#reviewId")
     public void updateReview(Long reviewId, ReviewUpdateRequest request) {
         // 1. 리뷰 조회
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new IllegalArgumentException("리뷰를 찾을 수 없습니다."));
 
+        ReviewSnapshot before = ReviewSnapshot.of(review);
+
         // 2. 리뷰 업데이트
         if (request.getReviewTitle() != null) {
             review.updateTitle(request.getReviewTitle());
@@ -161,11 +302,167 @@ public class ReviewService {
 
         // 3. 저장
         reviewRepository.save(review);
+
+        // 4. 상품 리뷰 집계 반영 (평점/특성이 바뀐 경우에만 갱신됨), 커밋 후 검색 색인 반영
+        ReviewSnapshot after = ReviewSnapshot.of(review);
+        productReviewStatsService.applyChange(before, after);
+        eventPublisher.publishEvent(new ReviewChangedEvent(before, after));
     }
 
-    private ReviewDetailResponse convertToDetailResponse(Review review) {
-        // 리뷰의 이미지들 조회
-        List<ReviewImage> images = reviewImageRepository.findByReviewIdOrderByImageOrder(review.getReviewId());
+    /**
+     * 리뷰 삭제 (논리적 삭제) - 작성자 본인만 가능
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.REVIEW_DETAIL, key = "#reviewId")
+    public void deleteReview(Long reviewId, Long userId) {
+        Review review = reviewRepository.findById(reviewId)
+                .orElseThrow(ReviewException.ReviewNotFoundException::new);
+
+        if (!review.getUserId().equals(userId)) {
+            throw new ReviewException.ReviewAccessDeniedException();
+        }
+
+        changeStatus(review, Review::delete);
+    }
+
+    /**
+     * 리뷰 숨김 (관리자용)
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.REVIEW_DETAIL, key = "#reviewId")
+    public void hideReview(Long reviewId) {
+        Review review = reviewRepository.findById(reviewId)
+                .orElseThrow(ReviewException.ReviewNotFoundException::new);
+
+        changeStatus(review, Review::hide);
+    }
+
+    /**
+     * 숨김/삭제된 리뷰 복구 (관리자용)
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.REVIEW_DETAIL, key = "#reviewId")
+    public void restoreReview(Long reviewId) {
+        Review review = reviewRepository.findById(reviewId)
+                .orElseThrow(ReviewException.ReviewNotFoundException::new);
+
+        changeStatus(review, Review::restore);
+    }
+
+    private void changeStatus(Review review, Consumer<Review> transition) {
+        ReviewSnapshot before = ReviewSnapshot.of(review);
+        transition.accept(review);
+        saveReview(review);
+
+        ReviewSnapshot after = ReviewSnapshot.of(review);
+        productReviewStatsService.applyChange(before, after);
+        eventPublisher.publishEvent(new ReviewChangedEvent(before, after));
+    }
+
+    /**
+     * 리뷰를 즉시 반영(flush)해 활성 리뷰 유니크 제약 위반을 여기서 잡습니다.
+     * 같은 사용자의 같은 상품 활성 리뷰가 이미 있으면(동시 작성, 삭제 리뷰 복구 포함) ReviewAlreadyExistsException
+     */
+    private Review saveReview(Review review) {
+        try {
+            return reviewRepository.saveAndFlush(review);
+        } catch (DataIntegrityViolationException e) {
+            if (isActiveReviewDuplicate(e)) {
+                throw new ReviewException.ReviewAlreadyExistsException();
+            }
+            throw e;
+        }
+    }
+
+    private boolean isActiveReviewDuplicate(DataIntegrityViolationException e) {
+        String constraintName = e.getCause() instanceof ConstraintViolationException violation
+                ? violation.getConstraintName()
+                : null;
+        if (constraintName == null) {
+            constraintName = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+        }
+        // H2 는 제약 이름을 대문자로, 스키마/인덱스 접미사를 붙여 돌려주므로 포함 여부로 비교
+        return constraintName != null
+                && constraintName.toLowerCase(Locale.ROOT).contains(Review.ACTIVE_USER_PRODUCT_UNIQUE_KEY);
+    }
+
+    private int validatePageSize(int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_CURSOR_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        return size;
+    }
+
+    private <T> ReviewCursorResponse<T> toCursorResponse(List<T> content, List<Review> page, boolean hasNext) {
+        String nextCursor = hasNext ? ReviewCursor.from(page.get(page.size() - 1)).encode() : null;
+
+        return ReviewCursorResponse.<T>builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * 색인이 돌려준 순서대로 리뷰 요약을 만듭니다. 색인 반영 전에 삭제/비활성화된 리뷰는 제외
+     */
+    private List<ReviewSummaryResponse> loadSummariesInOrder(List<Long> reviewIds) {
+        Map<Long, Review> reviewsById = reviewRepository.findAllById(reviewIds).stream()
+                .collect(Collectors.toMap(Review::getReviewId, review -> review));
+        List<Review> reviews = reviewIds.stream()
+                .map(reviewsById::get)
+                .filter(Objects::nonNull)
+                .filter(Review::isActive)
+                .collect(Collectors.toList());
+
+        Map<Long, List<ReviewImage>> imagesByReviewId = loadImages(reviews);
+        return reviews.stream()
+                .map(review -> convertToSummaryResponse(review, imagesOf(imagesByReviewId, review)))
+                .collect(Collectors.toList());
+    }
+
+    private static <E extends Enum<E>> Map<String, Long> countsByName(Map<E, Long> counts) {
+        Map<String, Long> byName = new LinkedHashMap<>();
+        counts.forEach((value, count) -> byName.put(value.name(), count));
+        return byName;
+    }
+
+    /**
+     * 리뷰 목록의 이미지를 한 번에 조회해서 리뷰 ID별로 묶습니다. (리뷰 수만큼 쿼리가 나가지 않도록)
+     */
+    private Map<Long, List<ReviewImage>> loadImages(List<Review> reviews) {
+        if (reviews.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<Long> reviewIds = reviews.stream()
+                .map(Review::getReviewId)
+                .distinct()
+                .collect(Collectors.toList());
+
+        Map<Long, List<ReviewImage>> imagesByReviewId = new HashMap<>();
+        for (int from = 0; from < reviewIds.size(); from += IMAGE_QUERY_CHUNK_SIZE) {
+            List<Long> chunk = reviewIds.subList(from, Math.min(from + IMAGE_QUERY_CHUNK_SIZE, reviewIds.size()));
+            for (ReviewImage image : reviewImageRepository.findAllByReviewIdIn(chunk)) {
+                imagesByReviewId.computeIfAbsent(image.getReviewId(), id -> new ArrayList<>()).add(image);
+            }
+        }
+        return imagesByReviewId;
+    }
+
+    private List<ReviewImage> imagesOf(Map<Long, List<ReviewImage>> imagesByReviewId, Review review) {
+        return imagesByReviewId.getOrDefault(review.getReviewId(), Collections.emptyList());
+    }
+
+    private List<ReviewDetailResponse> convertToDetailResponses(List<Review> reviews) {
+        Map<Long, List<ReviewImage>> imagesByReviewId = loadImages(reviews);
+        return reviews.stream()
+                .map(review -> convertToDetailResponse(review, imagesOf(imagesByReviewId, review)))
+                .collect(Collectors.toList());
+    }
+
+    private ReviewDetailResponse convertToDetailResponse(Review review, List<ReviewImage> images) {
         List<String> imageUrls = images.stream()
                 .map(ReviewImage::getImageUrl)
                 .collect(Collectors.toList());
@@ -187,7 +484,17 @@ public class ReviewService {
                 .build();
     }
 
-    private ReviewSummaryResponse convertToSummaryResponse(Review review) {
+    private ReviewSummaryResponse convertToSummaryResponse(Review review, List<ReviewImage> images) {
+        List<ReviewImageResponse> imageResponses = images.stream()
+                .map(image -> ReviewImageResponse.builder()
+                        .imageId(image.getImageId())
+                        .reviewsId(image.getReviewId())
+                        .imageUrl(image.getImageUrl())
+                        .imageOrder(image.getImageOrder())
+                        .createdAt(image.getCreatedAt())
+                        .build())
+                .collect(Collectors.toList());
+
         return ReviewSummaryResponse.builder()
                 .reviewId(review.getReviewId())
                 .userId(review.getUserId())
@@ -199,48 +506,44 @@ public class ReviewService {
                 .cushioning(review.getCushioning()) // enum 그대로
                 .stability(review.getStability())   // enum 그대로
                 .createdAt(review.getCreatedAt())
-                .images(new ArrayList<>()) // 빈 리스트로 초기화
+                .images(imageResponses)
                 .build();
     }
 
     /**
      * 특정 상품의 사이즈 핏별 리뷰 조회
+     * 페이지/패싯별 건수가 필요하면 getReviewFacets 를 사용합니다.
      */
     public List<ReviewDetailResponse> getReviewsBySizeFit(Long productId, SizeFit sizeFit) {
         List<Review> reviews = reviewRepository.findByProductIdAndSizeFitAndStatus(
                 productId, sizeFit, ReviewStatus.ACTIVE
         );
 
-        return reviews.stream()
-                .map(this::convertToDetailResponse)
-                .collect(Collectors.toList());
+        return convertToDetailResponses(reviews);
     }
 
     /**
      * 특정 상품의 쿠셔닝별 리뷰 조회
+     * 페이지/패싯별 건수가 필요하면 getReviewFacets 를 사용합니다.
      */
     public List<ReviewDetailResponse> getReviewsByCushioning(Long productId, Cushion cushioning) {
         List<Review> reviews = reviewRepository.findByProductIdAndCushioningAndStatus(
                 productId, cushioning, ReviewStatus.ACTIVE
         );
 
-        return reviews.stream()
-                .map(this::convertToDetailResponse)
-                .collect(Collectors.toList());
+        return convertToDetailResponses(reviews);
     }
 
     /**
      * 특정 상품의 안정성별 리뷰 조회
+     * 페이지/패싯별 건수가 필요하면 getReviewFacets 를 사용합니다.
      */
     public List<ReviewDetailResponse> getReviewsByStability(Long productId, Stability stability) {
         List<Review> reviews = reviewRepository.findByProductIdAndStabilityAndStatus(
                 productId, stability, ReviewStatus.ACTIVE
         );
 
-        return reviews.stream()
-                .map(review -> convertToDetailResponse(review))
-                .collect(Collectors.toList());
-
+        return convertToDetailResponses(reviews);
     }
 
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.cMall.feedShop.review.application;
 import com.cMall.feedShop.review.domain.repository.ReviewRepository;
 import com.cMall.feedShop.review.domain.entity.ReviewStatus;
 import com.cMall.feedShop.review.domain.entity.Cushion;
+import com.cMall.feedShop.review.domain.entity.ReviewAggregate;
 import com.cMall.feedShop.review.domain.entity.SizeFit;
 import com.cMall.feedShop.review.domain.entity.Stability;
 import com.cMall.feedShop.review.application.dto.response.ReviewStatisticsResponse;
@@ -12,7 +13,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Map;
 import java.util.ArrayList;
 
 @Service
@@ -22,50 +22,26 @@ import java.util.ArrayList;
 public class ReviewStatisticsService {
 
     private final ReviewRepository reviewRepository;
+    private final ProductReviewStatsService productReviewStatsService;
 
     /**
      * 상품별 리뷰 통계 조회
      */
     public ReviewStatisticsResponse getProductStatistics(Long productId) {
-        // 평균 평점 조회
-        Double averageRating = reviewRepository.findAverageRatingByProductId(productId);
-        if (averageRating == null) {
+        // 평점/특성 분포, 리뷰 수, 평균 평점을 집계 테이블에서 조회
+        ReviewAggregate aggregate = productReviewStatsService.getAggregate(productId);
+        if (aggregate.isEmpty()) {
             throw new IllegalArgumentException("해당 상품의 리뷰가 없습니다.");
         }
 
-        // 총 리뷰 수 조회
-        Long totalReviews = reviewRepository.countByProductIdAndStatus(productId, ReviewStatus.ACTIVE);
-
-        // 평점 분포 조회
-        Map<Integer, Long> ratingDistribution = Map.of(
-                5, reviewRepository.countByProductIdAndStatusAndRating(productId, ReviewStatus.ACTIVE, 5),
-                4, reviewRepository.countByProductIdAndStatusAndRating(productId, ReviewStatus.ACTIVE, 4),
-                3, reviewRepository.countByProductIdAndStatusAndRating(productId, ReviewStatus.ACTIVE, 3),
-                2, reviewRepository.countByProductIdAndStatusAndRating(productId, ReviewStatus.ACTIVE, 2),
-                1, reviewRepository.countByProductIdAndStatusAndRating(productId, ReviewStatus.ACTIVE, 1)
-        );
-
-        // 사이즈 핏 분포 (예시)
-        Map<String, Long> sizeFitDistribution = Map.of(
-                "PERFECT", 30L,
-                "BIG", 15L,
-                "SMALL", 5L
-        );
-
-        // 안정성 분포 (예시)
-        Map<String, Long> stabilityDistribution = Map.of(
-                "VERY_STABLE", 25L,
-                "STABLE", 20L,
-                "NORMAL", 5L
-        );
-
         return ReviewStatisticsResponse.builder()
                 .productId(productId)
-                .averageRating(averageRating)
-                .totalReviews(totalReviews)
-                .ratingDistribution(ratingDistribution)
-                .sizeFitDistribution(sizeFitDistribution)
-                .stabilityDistribution(stabilityDistribution)
+                .averageRating(aggregate.getAverageRating())
+                .totalReviews(aggregate.getTotalReviews())
+                .ratingDistribution(aggregate.getRatingDistribution())
+                .sizeFitDistribution(aggregate.getSizeFitDistribution())
+                .stabilityDistribution(aggregate.getStabilityDistribution())
+                .cushioningDistribution(aggregate.getCushioningDistribution())
                 .build();
     }
 
@@ -73,28 +49,26 @@ public class ReviewStatisticsService {
      * 상품별 리뷰 요약 정보 조회
      */
     public ProductReviewSummaryResponse getProductReviewSummary(Long productId) {
-        // 평균 평점 조회
-        Double averageRating = reviewRepository.findAverageRatingByProductId(productId);
-
-        // 총 리뷰 수 조회
-        Long totalReviews = reviewRepository.countByProductIdAndStatus(productId, ReviewStatus.ACTIVE);
+        ReviewAggregate aggregate = productReviewStatsService.getAggregate(productId);
 
         // 평점 분포 생성
         ProductReviewSummaryResponse.RatingDistribution ratingDistribution =
                 ProductReviewSummaryResponse.RatingDistribution.builder()
-                        .fiveStar(reviewRepository.countByProductIdAndStatusAndRating(productId, ReviewStatus.ACTIVE, 5))
-                        .fourStar(reviewRepository.countByProductIdAndStatusAndRating(productId, ReviewStatus.ACTIVE, 4))
-                        .threeStar(reviewRepository.countByProductIdAndStatusAndRating(productId, ReviewStatus.ACTIVE, 3))
-                        .twoStar(reviewRepository.countByProductIdAndStatusAndRating(productId, ReviewStatus.ACTIVE, 2))
-                        .oneStar(reviewRepository.countByProductIdAndStatusAndRating(productId, ReviewStatus.ACTIVE, 1))
+                        .fiveStar(aggregate.getRatingCount(5))
+                        .fourStar(aggregate.getRatingCount(4))
+                        .threeStar(aggregate.getRatingCount(3))
+                        .twoStar(aggregate.getRatingCount(2))
+                        .oneStar(aggregate.getRatingCount(1))
                         .build();
 
+        SizeFit mostCommonSizeFit = aggregate.getMostCommonSizeFit();
+
         return ProductReviewSummaryResponse.builder()
                 .productId(productId)
-                .totalReviews(totalReviews)
-                .averageRating(averageRating != null ? averageRating : 0.0)
+                .totalReviews(aggregate.getTotalReviews())
+                .averageRating(aggregate.getAverageRating())
                 .ratingDistribution(ratingDistribution)
-                .mostCommonSizeFit("PERFECT") // 임시값
+                .mostCommonSizeFit(mostCommonSizeFit != null ? mostCommonSizeFit.name() : null)
                 .recentReviews(new ArrayList<>()) // 임시값
                 .build();
     }
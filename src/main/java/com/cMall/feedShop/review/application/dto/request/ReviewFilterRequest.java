@@ -1,5 +1,41 @@
 package com.cMall.feedShop.review.application.dto.request;
 
+import com.cMall.feedShop.review.domain.entity.Cushion;
+import com.cMall.feedShop.review.domain.entity.SizeFit;
+import com.cMall.feedShop.review.domain.entity.Stability;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 리뷰 필터 조건 - 평점 범위와 5단계 특성 (null 이면 조건 없음)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
 public class ReviewFilterRequest {
-    
+
+    @Min(value = 1, message = "최소 평점은 1점 이상이어야 합니다")
+    @Max(value = 5, message = "최소 평점은 5점 이하여야 합니다")
+    private Integer minRating;
+
+    @Min(value = 1, message = "최대 평점은 1점 이상이어야 합니다")
+    @Max(value = 5, message = "최대 평점은 5점 이하여야 합니다")
+    private Integer maxRating;
+
+    private SizeFit sizeFit;
+
+    private Cushion cushioning;
+
+    private Stability stability;
+
+    @AssertTrue(message = "최소 평점은 최대 평점보다 클 수 없습니다")
+    public boolean isRatingRangeValid() {
+        return minRating == null || maxRating == null || minRating <= maxRating;
+    }
 }
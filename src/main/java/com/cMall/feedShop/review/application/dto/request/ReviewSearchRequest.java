@@ -1,5 +1,25 @@
 package com.cMall.feedShop.review.application.dto.request;
 
-public class ReviewSearchRequest {
-    
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 리뷰 검색 조건 - 상품 + 제목/내용 키워드 + 필터
+ * 키워드가 없으면 필터만 적용해 최신순으로 조회합니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class ReviewSearchRequest extends ReviewFilterRequest {
+
+    @NotNull(message = "상품 ID는 필수입니다")
+    @Positive(message = "상품 ID는 양수여야 합니다")
+    private Long productId;
+
+    @Size(max = 100, message = "검색 키워드는 100자를 초과할 수 없습니다")
+    private String keyword;
 }
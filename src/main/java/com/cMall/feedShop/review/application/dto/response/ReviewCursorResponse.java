@@ -0,0 +1,23 @@
+package com.cMall.feedShop.review.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서 기반 리뷰 목록 응답
+ * 전체 개수는 계산하지 않으며, nextCursor 로 다음 페이지를 요청합니다. (마지막 페이지면 null)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewCursorResponse<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
@@ -0,0 +1,31 @@
+package com.cMall.feedShop.review.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 리뷰 패싯 조회 결과 (최신순 페이지 + 패싯 값별 건수)
+ * 패싯별 건수는 그 패싯 조건만 뺀 나머지 조건 기준이라, 다른 값을 골랐을 때의 건수를 미리 보여 줄 수 있습니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewFacetResponse {
+    private Long productId;
+    private List<ReviewSummaryResponse> content;
+    private int page;
+    private int size;
+    private long totalElements;
+    private int totalPages;
+    private boolean hasNext;
+    private Map<Integer, Long> ratingCounts;
+    private Map<String, Long> sizeFitCounts;
+    private Map<String, Long> cushioningCounts;
+    private Map<String, Long> stabilityCounts;
+}
@@ -0,0 +1,37 @@
+package com.cMall.feedShop.review.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 리뷰 일괄 등록 결과
+ * 오류 행은 최대 review.import.max-reported-errors 건까지만 담고, 나머지는 failedRows 에만 집계합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReviewImportResponse {
+
+    private long totalRows;
+    private long importedRows;
+    private long failedRows;
+    private long elapsedMillis;
+    private double rowsPerSecond;
+    private boolean completed; // false 면 파일을 끝까지 읽지 못하고 중단됨 (그 전까지 등록된 리뷰는 유지)
+    private List<RowError> errors;
+    private boolean errorsTruncated;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class RowError {
+        private long row;
+        private String message;
+    }
+}
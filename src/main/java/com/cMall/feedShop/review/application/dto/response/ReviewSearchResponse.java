@@ -1,5 +1,25 @@
 package com.cMall.feedShop.review.application.dto.response;
 
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 리뷰 검색 결과 (관련도순 페이지)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class ReviewSearchResponse {
-    
+    private String keyword;
+    private List<ReviewSummaryResponse> content;
+    private int page;
+    private int size;
+    private long totalElements;
+    private int totalPages;
+    private boolean hasNext;
 }
@@ -0,0 +1,174 @@
+package com.cMall.feedShop.review.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품별 리뷰 집계 테이블
+ * 리뷰 작성/수정/상태 변경 시 증분 갱신되어, 조회 시 reviews 테이블을 다시 집계하지 않고 PK 조회로 끝납니다.
+ * ACTIVE 상태의 리뷰만 집계에 포함됩니다.
+ */
+@Entity
+@Table(name = "product_review_stats")
+@Getter
+@NoArgsConstructor
+public class ProductReviewStats {
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount;
+
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum;
+
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "count1", column = @Column(name = "rating_1_count", nullable = false)),
+            @AttributeOverride(name = "count2", column = @Column(name = "rating_2_count", nullable = false)),
+            @AttributeOverride(name = "count3", column = @Column(name = "rating_3_count", nullable = false)),
+            @AttributeOverride(name = "count4", column = @Column(name = "rating_4_count", nullable = false)),
+            @AttributeOverride(name = "count5", column = @Column(name = "rating_5_count", nullable = false))
+    })
+    private ReviewHistogram ratingHistogram = new ReviewHistogram();
+
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "count1", column = @Column(name = "size_fit_1_count", nullable = false)),
+            @AttributeOverride(name = "count2", column = @Column(name = "size_fit_2_count", nullable = false)),
+            @AttributeOverride(name = "count3", column = @Column(name = "size_fit_3_count", nullable = false)),
+            @AttributeOverride(name = "count4", column = @Column(name = "size_fit_4_count", nullable = false)),
+            @AttributeOverride(name = "count5", column = @Column(name = "size_fit_5_count", nullable = false))
+    })
+    private ReviewHistogram sizeFitHistogram = new ReviewHistogram();
+
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "count1", column = @Column(name = "cushion_1_count", nullable = false)),
+            @AttributeOverride(name = "count2", column = @Column(name = "cushion_2_count", nullable = false)),
+            @AttributeOverride(name = "count3", column = @Column(name = "cushion_3_count", nullable = false)),
+            @AttributeOverride(name = "count4", column = @Column(name = "cushion_4_count", nullable = false)),
+            @AttributeOverride(name = "count5", column = @Column(name = "cushion_5_count", nullable = false))
+    })
+    private ReviewHistogram cushioningHistogram = new ReviewHistogram();
+
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "count1", column = @Column(name = "stability_1_count", nullable = false)),
+            @AttributeOverride(name = "count2", column = @Column(name = "stability_2_count", nullable = false)),
+            @AttributeOverride(name = "count3", column = @Column(name = "stability_3_count", nullable = false)),
+            @AttributeOverride(name = "count4", column = @Column(name = "stability_4_count", nullable = false)),
+            @AttributeOverride(name = "count5", column = @Column(name = "stability_5_count", nullable = false))
+    })
+    private ReviewHistogram stabilityHistogram = new ReviewHistogram();
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    private ProductReviewStats(Long productId) {
+        this.productId = productId;
+    }
+
+    public static ProductReviewStats from(ReviewAggregate aggregate) {
+        ProductReviewStats stats = new ProductReviewStats(aggregate.getProductId());
+        stats.overwrite(aggregate);
+        return stats;
+    }
+
+    // 비즈니스 메서드
+
+    /**
+     * 리뷰 한 건의 변경(작성/수정/삭제/숨김/복구)을 집계에 반영합니다.
+     * before/after 중 ACTIVE 인 쪽만 집계에 영향을 줍니다. (작성 시 before 는 null)
+     * 0 미만으로 내려가도 보정하지 않습니다. 드리프트는 hasNegativeValue 로 드러내고 재집계(rebuild)로 복구합니다.
+     */
+    public void apply(ReviewSnapshot before, ReviewSnapshot after) {
+        if (before != null && before.isActive()) {
+            accumulate(before, -1);
+        }
+        if (after != null && after.isActive()) {
+            accumulate(after, 1);
+        }
+    }
+
+    /**
+     * 재집계 결과로 전체 값을 덮어씁니다. (드리프트 복구용)
+     */
+    public void overwrite(ReviewAggregate aggregate) {
+        this.reviewCount = aggregate.getTotalReviews();
+        this.ratingSum = aggregate.getRatingSum();
+
+        long[] ratings = new long[ReviewHistogram.SIZE];
+        for (int rating = 1; rating <= ReviewHistogram.SIZE; rating++) {
+            ratings[rating - 1] = aggregate.getRatingCount(rating);
+        }
+        long[] sizeFits = new long[ReviewHistogram.SIZE];
+        for (SizeFit sizeFit : SizeFit.values()) {
+            sizeFits[sizeFit.ordinal()] = aggregate.getSizeFitCount(sizeFit);
+        }
+        long[] cushionings = new long[ReviewHistogram.SIZE];
+        for (Cushion cushioning : Cushion.values()) {
+            cushionings[cushioning.ordinal()] = aggregate.getCushioningCount(cushioning);
+        }
+        long[] stabilities = new long[ReviewHistogram.SIZE];
+        for (Stability stability : Stability.values()) {
+            stabilities[stability.ordinal()] = aggregate.getStabilityCount(stability);
+        }
+
+        this.ratingHistogram = ReviewHistogram.of(ratings);
+        this.sizeFitHistogram = ReviewHistogram.of(sizeFits);
+        this.cushioningHistogram = ReviewHistogram.of(cushionings);
+        this.stabilityHistogram = ReviewHistogram.of(stabilities);
+    }
+
+    /**
+     * 개수/평점 합계 중 음수가 있으면 true
+     * 집계가 실제 리뷰와 어긋났다는 뜻이므로 재집계 대상입니다.
+     */
+    public boolean hasNegativeValue() {
+        return reviewCount < 0
+                || ratingSum < 0
+                || ratingHistogram.hasNegative()
+                || sizeFitHistogram.hasNegative()
+                || cushioningHistogram.hasNegative()
+                || stabilityHistogram.hasNegative();
+    }
+
+    public ReviewAggregate toAggregate() {
+        return ReviewAggregate.of(
+                productId,
+                reviewCount,
+                ratingSum,
+                ratingHistogram.toArray(),
+                sizeFitHistogram.toArray(),
+                cushioningHistogram.toArray(),
+                stabilityHistogram.toArray()
+        );
+    }
+
+    private void accumulate(ReviewSnapshot review, int delta) {
+        this.reviewCount += delta;
+
+        Integer rating = review.getRating();
+        if (rating != null && rating >= 1 && rating <= ReviewHistogram.SIZE) {
+            this.ratingSum += (long) rating * delta;
+            ratingHistogram.add(rating - 1, delta);
+        }
+        if (review.getSizeFit() != null) {
+            sizeFitHistogram.add(review.getSizeFit().ordinal(), delta);
+        }
+        if (review.getCushioning() != null) {
+            cushioningHistogram.add(review.getCushioning().ordinal(), delta);
+        }
+        if (review.getStability() != null) {
+            stabilityHistogram.add(review.getStability().ordinal(), delta);
+        }
+    }
+}
@@ -13,13 +13,32 @@ import com.cMall.feedShop.review.domain.entity.Stability;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "reviews")
+// 인덱스/제약은 db/migration 스크립트(V2__add_review_indexes, V3__add_active_review_unique_key, V5__add_review_updated_at_index)와 동일하게 유지
+@Table(name = "reviews", uniqueConstraints = {
+        @UniqueConstraint(name = Review.ACTIVE_USER_PRODUCT_UNIQUE_KEY, columnNames = {"product_id", "active_user_id"})
+}, indexes = {
+        @Index(name = "idx_reviews_product_status_created", columnList = "product_id, status, created_at, review_id"),
+        @Index(name = "idx_reviews_user_status_created", columnList = "user_id, status, created_at, review_id"),
+        @Index(name = "idx_reviews_user_product_status", columnList = "user_id, product_id, status"),
+        @Index(name = "idx_reviews_product_size_fit_status", columnList = "product_id, size_fit, status"),
+        @Index(name = "idx_reviews_product_cushion_status", columnList = "product_id, cushion, status"),
+        @Index(name = "idx_reviews_product_stability_status", columnList = "product_id, stability, status"),
+        @Index(name = "idx_reviews_size_fit_status_rating", columnList = "size_fit, status, rating"),
+        @Index(name = "idx_reviews_cushion_status_rating", columnList = "cushion, status, rating"),
+        @Index(name = "idx_reviews_stability_status_rating", columnList = "stability, status, rating"),
+        @Index(name = "idx_reviews_updated_at", columnList = "updated_at, review_id")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Review {
 
+    /**
+     * 사용자당 상품별 활성 리뷰 1건 제약 이름
+     */
+    public static final String ACTIVE_USER_PRODUCT_UNIQUE_KEY = "uk_reviews_active_user_product";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "review_id")
@@ -57,6 +76,11 @@ public class Review {
     @Builder.Default
     private ReviewStatus status = ReviewStatus.ACTIVE;
 
+    // ACTIVE 일 때만 user_id, 그 외에는 NULL 인 DB 생성 컬럼 - 활성 리뷰 유니크 제약 전용 (읽기 전용, 저장 후 재조회하지 않음)
+    @Column(name = "active_user_id", insertable = false, updatable = false,
+            columnDefinition = "BIGINT GENERATED ALWAYS AS (CASE WHEN status = 'ACTIVE' THEN user_id END)")
+    private Long activeUserId;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
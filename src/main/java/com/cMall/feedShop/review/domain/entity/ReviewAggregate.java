@@ -0,0 +1,178 @@
+package com.cMall.feedShop.review.domain.entity;
+
+import com.cMall.feedShop.review.domain.repository.ReviewFacetCount;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품 단위 리뷰 집계 값 객체
+ * 리뷰 수, 평점 합계, 평점 분포, 사이즈 핏/쿠셔닝/안정성 분포를 함께 보관합니다.
+ */
+public class ReviewAggregate {
+
+    private static final int MIN_RATING = 1;
+    private static final int MAX_RATING = 5;
+
+    private final Long productId;
+    private final long totalReviews;
+    private final long ratingSum;
+    private final long[] ratingCounts;      // index 0 = 1점 ... index 4 = 5점
+    private final long[] sizeFitCounts;     // SizeFit.ordinal() 기준
+    private final long[] cushioningCounts;  // Cushion.ordinal() 기준
+    private final long[] stabilityCounts;   // Stability.ordinal() 기준
+
+    private ReviewAggregate(Long productId, long totalReviews, long ratingSum, long[] ratingCounts,
+                            long[] sizeFitCounts, long[] cushioningCounts, long[] stabilityCounts) {
+        this.productId = productId;
+        this.totalReviews = totalReviews;
+        this.ratingSum = ratingSum;
+        this.ratingCounts = ratingCounts;
+        this.sizeFitCounts = sizeFitCounts;
+        this.cushioningCounts = cushioningCounts;
+        this.stabilityCounts = stabilityCounts;
+    }
+
+    public static ReviewAggregate of(Long productId, long totalReviews, long ratingSum, long[] ratingCounts,
+                                     long[] sizeFitCounts, long[] cushioningCounts, long[] stabilityCounts) {
+        return new ReviewAggregate(productId, totalReviews, ratingSum,
+                Arrays.copyOf(ratingCounts, MAX_RATING),
+                Arrays.copyOf(sizeFitCounts, SizeFit.values().length),
+                Arrays.copyOf(cushioningCounts, Cushion.values().length),
+                Arrays.copyOf(stabilityCounts, Stability.values().length));
+    }
+
+    public static ReviewAggregate empty(Long productId) {
+        return of(productId, 0L, 0L, new long[0], new long[0], new long[0], new long[0]);
+    }
+
+    /**
+     * 그룹 집계 결과(평점 x 사이즈 핏 x 쿠셔닝 x 안정성)를 한 번에 접어서 집계 객체를 만듭니다.
+     */
+    public static ReviewAggregate from(Long productId, List<ReviewFacetCount> facetCounts) {
+        long total = 0L;
+        long ratingSum = 0L;
+        long[] ratingCounts = new long[MAX_RATING];
+        long[] sizeFitCounts = new long[SizeFit.values().length];
+        long[] cushioningCounts = new long[Cushion.values().length];
+        long[] stabilityCounts = new long[Stability.values().length];
+
+        for (ReviewFacetCount row : facetCounts) {
+            long count = row.getReviewCount() != null ? row.getReviewCount() : 0L;
+            if (count == 0L) {
+                continue;
+            }
+            total += count;
+
+            Integer rating = row.getRating();
+            if (rating != null && rating >= MIN_RATING && rating <= MAX_RATING) {
+                ratingSum += rating * count;
+                ratingCounts[rating - 1] += count;
+            }
+            if (row.getSizeFit() != null) {
+                sizeFitCounts[row.getSizeFit().ordinal()] += count;
+            }
+            if (row.getCushioning() != null) {
+                cushioningCounts[row.getCushioning().ordinal()] += count;
+            }
+            if (row.getStability() != null) {
+                stabilityCounts[row.getStability().ordinal()] += count;
+            }
+        }
+
+        return new ReviewAggregate(productId, total, ratingSum, ratingCounts,
+                sizeFitCounts, cushioningCounts, stabilityCounts);
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public long getTotalReviews() {
+        return totalReviews;
+    }
+
+    public long getRatingSum() {
+        return ratingSum;
+    }
+
+    public boolean isEmpty() {
+        return totalReviews == 0L;
+    }
+
+    public double getAverageRating() {
+        return totalReviews == 0L ? 0.0 : (double) ratingSum / totalReviews;
+    }
+
+    public long getRatingCount(int rating) {
+        if (rating < MIN_RATING || rating > MAX_RATING) {
+            return 0L;
+        }
+        return ratingCounts[rating - 1];
+    }
+
+    public long getSizeFitCount(SizeFit sizeFit) {
+        return sizeFitCounts[sizeFit.ordinal()];
+    }
+
+    public long getCushioningCount(Cushion cushioning) {
+        return cushioningCounts[cushioning.ordinal()];
+    }
+
+    public long getStabilityCount(Stability stability) {
+        return stabilityCounts[stability.ordinal()];
+    }
+
+    /**
+     * 평점 분포 (5점 -> 1점 순서)
+     */
+    public Map<Integer, Long> getRatingDistribution() {
+        Map<Integer, Long> distribution = new LinkedHashMap<>();
+        for (int rating = MAX_RATING; rating >= MIN_RATING; rating--) {
+            distribution.put(rating, getRatingCount(rating));
+        }
+        return distribution;
+    }
+
+    public Map<String, Long> getSizeFitDistribution() {
+        Map<String, Long> distribution = new LinkedHashMap<>();
+        for (SizeFit sizeFit : SizeFit.values()) {
+            distribution.put(sizeFit.name(), getSizeFitCount(sizeFit));
+        }
+        return distribution;
+    }
+
+    public Map<String, Long> getCushioningDistribution() {
+        Map<String, Long> distribution = new LinkedHashMap<>();
+        for (Cushion cushioning : Cushion.values()) {
+            distribution.put(cushioning.name(), getCushioningCount(cushioning));
+        }
+        return distribution;
+    }
+
+    public Map<String, Long> getStabilityDistribution() {
+        Map<String, Long> distribution = new LinkedHashMap<>();
+        for (Stability stability : Stability.values()) {
+            distribution.put(stability.name(), getStabilityCount(stability));
+        }
+        return distribution;
+    }
+
+    /**
+     * 가장 많이 선택된 사이즈 핏 (리뷰가 없으면 null)
+     */
+    public SizeFit getMostCommonSizeFit() {
+        SizeFit mostCommon = null;
+        long maxCount = 0L;
+        for (SizeFit sizeFit : SizeFit.values()) {
+            long count = getSizeFitCount(sizeFit);
+            if (count > maxCount) {
+                maxCount = count;
+                mostCommon = sizeFit;
+            }
+        }
+        return mostCommon;
+    }
+}
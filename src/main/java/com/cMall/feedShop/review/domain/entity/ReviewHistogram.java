@@ -0,0 +1,72 @@
+package com.cMall.feedShop.review.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.NoArgsConstructor;
+
+/**
+ * 5단계 값(평점 1~5, 사이즈 핏/쿠셔닝/안정성 5단계)의 개수 분포
+ * ProductReviewStats 에 컬럼으로 임베드됩니다.
+ */
+@Embeddable
+@NoArgsConstructor
+public class ReviewHistogram {
+
+    public static final int SIZE = 5;
+
+    @Column(name = "count_1", nullable = false)
+    private long count1;
+
+    @Column(name = "count_2", nullable = false)
+    private long count2;
+
+    @Column(name = "count_3", nullable = false)
+    private long count3;
+
+    @Column(name = "count_4", nullable = false)
+    private long count4;
+
+    @Column(name = "count_5", nullable = false)
+    private long count5;
+
+    public static ReviewHistogram of(long[] counts) {
+        ReviewHistogram histogram = new ReviewHistogram();
+        for (int i = 0; i < SIZE && i < counts.length; i++) {
+            histogram.add(i, counts[i]);
+        }
+        return histogram;
+    }
+
+    public long get(int index) {
+        switch (index) {
+            case 0: return count1;
+            case 1: return count2;
+            case 2: return count3;
+            case 3: return count4;
+            case 4: return count5;
+            default: throw new IllegalArgumentException("히스토그램 범위를 벗어났습니다: " + index);
+        }
+    }
+
+    public void add(int index, long delta) {
+        switch (index) {
+            case 0: count1 += delta; break;
+            case 1: count2 += delta; break;
+            case 2: count3 += delta; break;
+            case 3: count4 += delta; break;
+            case 4: count5 += delta; break;
+            default: throw new IllegalArgumentException("히스토그램 범위를 벗어났습니다: " + index);
+        }
+    }
+
+    /**
+     * 음수 개수가 있으면 true (증분 갱신 드리프트)
+     */
+    public boolean hasNegative() {
+        return count1 < 0 || count2 < 0 || count3 < 0 || count4 < 0 || count5 < 0;
+    }
+
+    public long[] toArray() {
+        return new long[]{count1, count2, count3, count4, count5};
+    }
+}
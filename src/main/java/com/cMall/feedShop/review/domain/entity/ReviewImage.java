@@ -10,15 +10,19 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "review_images")
+@Table(name = "review_images", indexes = {
+        @Index(name = "idx_review_images_review_order", columnList = "review_id, image_order")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class ReviewImage {
 
+    // IDENTITY 는 INSERT 마다 키를 받아와야 해서 JDBC 배치가 불가능 - 시퀀스(미지원 DB는 테이블) 기반 pooled 할당 사용
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "review_image_id_generator")
+    @SequenceGenerator(name = "review_image_id_generator", sequenceName = "review_images_seq", allocationSize = 50)
     @Column(name = "image_id")
     private Long imageId;
 
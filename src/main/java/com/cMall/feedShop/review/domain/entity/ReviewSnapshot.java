@@ -0,0 +1,61 @@
+package com.cMall.feedShop.review.domain.entity;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 리뷰의 특정 시점 상태를 담는 불변 스냅샷
+ * 수정/상태 변경 전후 값을 비교해 집계 데이터를 증감할 때 사용합니다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ReviewSnapshot {
+
+    private final Long reviewId;
+    private final Long userId;
+    private final Long productId;
+    private final String reviewTitle;
+    private final String content;
+    private final Integer rating;
+    private final SizeFit sizeFit;
+    private final Cushion cushioning;
+    private final Stability stability;
+    private final ReviewStatus status;
+    private final LocalDateTime createdAt;
+
+    public static ReviewSnapshot of(Review review) {
+        return new ReviewSnapshot(
+                review.getReviewId(),
+                review.getUserId(),
+                review.getProductId(),
+                review.getReviewTitle(),
+                review.getContent(),
+                review.getRating(),
+                review.getSizeFit(),
+                review.getCushioning(),
+                review.getStability(),
+                review.getStatus(),
+                review.getCreatedAt()
+        );
+    }
+
+    public boolean isActive() {
+        return status == ReviewStatus.ACTIVE;
+    }
+
+    /**
+     * 집계에 영향을 주는 값(상태, 평점, 5단계 특성)이 같은지 비교
+     */
+    public boolean hasSameFacets(ReviewSnapshot other) {
+        return other != null
+                && status == other.status
+                && Objects.equals(rating, other.rating)
+                && sizeFit == other.sizeFit
+                && cushioning == other.cushioning
+                && stability == other.stability;
+    }
+}
@@ -0,0 +1,22 @@
+package com.cMall.feedShop.review.domain.event;
+
+import com.cMall.feedShop.review.domain.entity.ReviewSnapshot;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 리뷰 작성/수정/상태 변경 이벤트
+ * 커밋 이후(AFTER_COMMIT) 검색 색인 등 파생 데이터를 갱신하는 데 사용합니다.
+ * before 는 작성 시 null 입니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ReviewChangedEvent {
+
+    private final ReviewSnapshot before;
+    private final ReviewSnapshot after;
+
+    public Long getReviewId() {
+        return after.getReviewId();
+    }
+}
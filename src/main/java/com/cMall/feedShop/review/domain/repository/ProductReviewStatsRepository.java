@@ -0,0 +1,25 @@
+package com.cMall.feedShop.review.domain.repository;
+
+import com.cMall.feedShop.review.domain.entity.ProductReviewStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * 상품별 리뷰 집계 Repository
+ */
+@Repository
+public interface ProductReviewStatsRepository extends JpaRepository<ProductReviewStats, Long>, ProductReviewStatsRepositoryCustom {
+
+    /**
+     * 증분 갱신용 조회 - 동시 작성 시 집계 값이 유실되지 않도록 행 잠금
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ProductReviewStats s WHERE s.productId = :productId")
+    Optional<ProductReviewStats> findByIdForUpdate(@Param("productId") Long productId);
+}
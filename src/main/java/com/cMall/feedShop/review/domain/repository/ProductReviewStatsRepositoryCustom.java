@@ -0,0 +1,15 @@
+package com.cMall.feedShop.review.domain.repository;
+
+import com.cMall.feedShop.review.domain.entity.ProductReviewStats;
+
+/**
+ * 상품별 리뷰 집계 Repository - JPA 로 표현할 수 없는 쓰기
+ */
+public interface ProductReviewStatsRepositoryCustom {
+
+    /**
+     * 집계 행이 없을 때만 저장하고, 저장했으면 true 를 반환합니다.
+     * 다른 트랜잭션이 같은 상품 행을 먼저 만들었으면 false 를 반환하며, 현재 트랜잭션은 그대로 이어서 쓸 수 있습니다.
+     */
+    boolean insertIfAbsent(ProductReviewStats stats);
+}
@@ -0,0 +1,12 @@
+package com.cMall.feedShop.review.domain.repository;
+
+/**
+ * 활성 리뷰의 (사용자, 상품) 조합 - 사용자당 상품별 활성 리뷰 1건 제약의 키
+ * ReviewRepository.findActiveAuthorKeys 의 인터페이스 프로젝션
+ */
+public interface ReviewAuthorKey {
+
+    Long getUserId();
+
+    Long getProductId();
+}
@@ -0,0 +1,17 @@
+package com.cMall.feedShop.review.domain.repository;
+
+import com.cMall.feedShop.review.domain.entity.Cushion;
+import com.cMall.feedShop.review.domain.entity.SizeFit;
+import com.cMall.feedShop.review.domain.entity.Stability;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 리뷰 내보내기 한 건 (이미지 URL 은 imageOrder 순)
+ * ReviewExportReader 가 리뷰-이미지 조인 결과를 리뷰 단위로 묶어 만듭니다.
+ */
+public record ReviewExportRow(Long reviewId, Long userId, Long productId, String reviewTitle, String content,
+                              Integer rating, SizeFit sizeFit, Cushion cushioning, Stability stability,
+                              LocalDateTime createdAt, List<String> imageUrls) {
+}
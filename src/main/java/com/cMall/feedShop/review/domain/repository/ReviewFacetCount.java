@@ -0,0 +1,22 @@
+package com.cMall.feedShop.review.domain.repository;
+
+import com.cMall.feedShop.review.domain.entity.Cushion;
+import com.cMall.feedShop.review.domain.entity.SizeFit;
+import com.cMall.feedShop.review.domain.entity.Stability;
+
+/**
+ * 리뷰 집계 쿼리 결과 (평점 + 5단계 특성 조합별 리뷰 수)
+ * ReviewRepository.findFacetCountsByProductIdAndStatus 의 인터페이스 프로젝션
+ */
+public interface ReviewFacetCount {
+
+    Integer getRating();
+
+    SizeFit getSizeFit();
+
+    Cushion getCushioning();
+
+    Stability getStability();
+
+    Long getReviewCount();
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,6 +33,13 @@ public interface ReviewImageRepository extends JpaRepository<ReviewImage, Long>
     @Query("SELECT ri FROM ReviewImage ri WHERE ri.reviewId = :reviewId ORDER BY ri.imageOrder ASC")
     List<ReviewImage> findByReviewIdOrderByImageOrder(@Param("reviewId") Long reviewId);
 
+    /**
+     * 여러 리뷰의 이미지 목록 일괄 조회 (리뷰 ID, 이미지 순서대로)
+     * 목록 조회 시 리뷰마다 이미지를 조회하지 않도록 한 페이지 분량을 한 번에 조회
+     */
+    @Query("SELECT ri FROM ReviewImage ri WHERE ri.reviewId IN :reviewIds ORDER BY ri.reviewId ASC, ri.imageOrder ASC")
+    List<ReviewImage> findAllByReviewIdIn(@Param("reviewIds") Collection<Long> reviewIds);
+
     /**
      * 리뷰별 이미지 개수 조회
      */
@@ -7,11 +7,14 @@ import com.cMall.feedShop.review.domain.entity.Review;
 import com.cMall.feedShop.review.domain.entity.ReviewStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -47,11 +50,83 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
      */
     Page<Review> findByProductIdAndStatus(Long productId, ReviewStatus status, Pageable pageable);
 
+    /**
+     * 상품별 활성 리뷰 목록 조회 (페이지 분량만 조회 - count 쿼리 없음)
+     */
+    Slice<Review> findSliceByProductIdAndStatus(Long productId, ReviewStatus status, Pageable pageable);
+
     /**
      * 사용자별 리뷰 목록 조회 (페이징)
      */
     Page<Review> findByUserIdAndStatus(Long userId, ReviewStatus status, Pageable pageable);
 
+    /**
+     * 상품별 리뷰 목록 - 커서 첫 페이지 (최신순, count 쿼리 없음)
+     */
+    @Query("SELECT r FROM Review r WHERE r.productId = :productId AND r.status = :status " +
+            "ORDER BY r.createdAt DESC, r.reviewId DESC")
+    List<Review> findFirstPageByProductId(@Param("productId") Long productId,
+                                          @Param("status") ReviewStatus status,
+                                          Pageable pageable);
+
+    /**
+     * 상품별 리뷰 목록 - 커서 (createdAt, reviewId) 이후 페이지
+     * (product_id, status, created_at, review_id) 인덱스를 그대로 타도록 정렬 조건과 동일한 키로 범위 조건 지정
+     */
+    @Query("SELECT r FROM Review r WHERE r.productId = :productId AND r.status = :status " +
+            "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.reviewId < :reviewId)) " +
+            "ORDER BY r.createdAt DESC, r.reviewId DESC")
+    List<Review> findNextPageByProductId(@Param("productId") Long productId,
+                                         @Param("status") ReviewStatus status,
+                                         @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("reviewId") Long reviewId,
+                                         Pageable pageable);
+
+    /**
+     * 사용자별 리뷰 목록 - 커서 첫 페이지 (최신순, count 쿼리 없음)
+     */
+    @Query("SELECT r FROM Review r WHERE r.userId = :userId AND r.status = :status " +
+            "ORDER BY r.createdAt DESC, r.reviewId DESC")
+    List<Review> findFirstPageByUserId(@Param("userId") Long userId,
+                                       @Param("status") ReviewStatus status,
+                                       Pageable pageable);
+
+    /**
+     * 사용자별 리뷰 목록 - 커서 (createdAt, reviewId) 이후 페이지
+     */
+    @Query("SELECT r FROM Review r WHERE r.userId = :userId AND r.status = :status " +
+            "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.reviewId < :reviewId)) " +
+            "ORDER BY r.createdAt DESC, r.reviewId DESC")
+    List<Review> findNextPageByUserId(@Param("userId") Long userId,
+                                      @Param("status") ReviewStatus status,
+                                      @Param("createdAt") LocalDateTime createdAt,
+                                      @Param("reviewId") Long reviewId,
+                                      Pageable pageable);
+
+    /**
+     * 검색 색인 동기화 - updatedAt 이 (updatedAt, reviewId) 이후인 리뷰 (상태 무관, 변경 순)
+     * updatedAt >= 조건으로 (updated_at, review_id) 인덱스 범위 조회를 타도록 작성
+     */
+    @Query("SELECT r FROM Review r " +
+            "WHERE r.updatedAt >= :updatedAt AND (r.updatedAt > :updatedAt OR r.reviewId > :reviewId) " +
+            "ORDER BY r.updatedAt, r.reviewId")
+    List<Review> findChangedAfter(@Param("updatedAt") LocalDateTime updatedAt,
+                                  @Param("reviewId") Long reviewId,
+                                  Pageable pageable);
+
+    /**
+     * 검색 색인 전체 재구축 - reviewId 이후의 리뷰를 ID 순으로 (기본 키 범위 조회)
+     */
+    @Query("SELECT r FROM Review r WHERE r.reviewId > :reviewId AND r.status = :status ORDER BY r.reviewId")
+    List<Review> findNextBatchByStatus(@Param("reviewId") Long reviewId,
+                                       @Param("status") ReviewStatus status,
+                                       Pageable pageable);
+
+    /**
+     * 상태별 리뷰 개수 (검색 색인 정합성 확인용)
+     */
+    long countByStatus(ReviewStatus status);
+
     /**
      * 상품별 활성 리뷰 개수 조회
      */
@@ -70,12 +145,38 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     @Query("SELECT CASE WHEN COUNT(r) > 0 THEN true ELSE false END FROM Review r WHERE r.userId = :userId AND r.productId = :productId AND r.status = com.cMall.feedShop.review.domain.entity.ReviewStatus.ACTIVE")
     boolean existsByUserIdAndProductIdAndStatusActive(@Param("userId") Long userId, @Param("productId") Long productId);
 
+    /**
+     * 일괄 등록 중복 확인 - 주어진 사용자/상품 조합 후보 중 이미 활성 리뷰가 있는 (userId, productId)
+     * 두 IN 조건의 곱집합으로 조회하므로 호출 측에서 실제 조합만 골라 씁니다.
+     */
+    @Query("SELECT r.userId AS userId, r.productId AS productId FROM Review r " +
+            "WHERE r.userId IN :userIds AND r.productId IN :productIds " +
+            "AND r.status = com.cMall.feedShop.review.domain.entity.ReviewStatus.ACTIVE")
+    List<ReviewAuthorKey> findActiveAuthorKeys(@Param("userIds") Collection<Long> userIds,
+                                               @Param("productIds") Collection<Long> productIds);
+
     /**
      * 상품별 평균 평점 조회
      */
     @Query("SELECT AVG(CAST(r.rating AS double)) FROM Review r WHERE r.productId = :productId AND r.status = com.cMall.feedShop.review.domain.entity.ReviewStatus.ACTIVE")
     Double findAverageRatingByProductId(@Param("productId") Long productId);
 
+    /**
+     * 상품별 리뷰 집계 - 평점, 사이즈 핏, 쿠셔닝, 안정성 조합별 개수를 한 번의 스캔으로 조회
+     * 리뷰 수, 평균 평점, 각 분포는 ReviewAggregate.from 으로 계산
+     */
+    @Query("SELECT r.rating AS rating, r.sizeFit AS sizeFit, r.cushioning AS cushioning, r.stability AS stability, COUNT(r) AS reviewCount " +
+            "FROM Review r WHERE r.productId = :productId AND r.status = :status " +
+            "GROUP BY r.rating, r.sizeFit, r.cushioning, r.stability")
+    List<ReviewFacetCount> findFacetCountsByProductIdAndStatus(@Param("productId") Long productId,
+                                                               @Param("status") ReviewStatus status);
+
+    /**
+     * 리뷰가 존재하는 상품 ID 목록 (집계 재계산용)
+     */
+    @Query("SELECT DISTINCT r.productId FROM Review r")
+    List<Long> findDistinctProductIds();
+
     /**
      * 쿠셔닝별 평균 평점 조회
      */
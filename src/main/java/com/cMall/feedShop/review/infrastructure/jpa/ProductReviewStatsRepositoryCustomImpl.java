@@ -0,0 +1,55 @@
+package com.cMall.feedShop.review.infrastructure.jpa;
+
+import com.cMall.feedShop.review.domain.entity.ProductReviewStats;
+import com.cMall.feedShop.review.domain.repository.ProductReviewStatsRepositoryCustom;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 집계 행 생성 - 현재 트랜잭션의 커넥션으로 INSERT 합니다.
+ * JPA persist 는 제약 위반 시 영속성 컨텍스트를 쓸 수 없게 되므로 JDBC 로 직접 실행합니다.
+ * 동시에 같은 상품 행을 만들면 나중 INSERT 는 먼저 만든 트랜잭션이 끝날 때까지 기다렸다가 키 중복으로 실패하는데,
+ * MySQL(InnoDB)/H2 모두 실패한 문장만 취소하고 트랜잭션은 유지하므로 중복은 "이미 있음" 으로 처리합니다.
+ */
+@RequiredArgsConstructor
+public class ProductReviewStatsRepositoryCustomImpl implements ProductReviewStatsRepositoryCustom {
+
+    private static final String INSERT_SQL = "INSERT INTO product_review_stats (product_id, review_count, rating_sum, " +
+            "rating_1_count, rating_2_count, rating_3_count, rating_4_count, rating_5_count, " +
+            "size_fit_1_count, size_fit_2_count, size_fit_3_count, size_fit_4_count, size_fit_5_count, " +
+            "cushion_1_count, cushion_2_count, cushion_3_count, cushion_4_count, cushion_5_count, " +
+            "stability_1_count, stability_2_count, stability_3_count, stability_4_count, stability_5_count, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean insertIfAbsent(ProductReviewStats stats) {
+        List<Object> values = new ArrayList<>(24);
+        values.add(stats.getProductId());
+        values.add(stats.getReviewCount());
+        values.add(stats.getRatingSum());
+        addAll(values, stats.getRatingHistogram().toArray());
+        addAll(values, stats.getSizeFitHistogram().toArray());
+        addAll(values, stats.getCushioningHistogram().toArray());
+        addAll(values, stats.getStabilityHistogram().toArray());
+        values.add(Timestamp.valueOf(LocalDateTime.now()));
+        try {
+            return jdbcTemplate.update(INSERT_SQL, values.toArray()) == 1;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    private static void addAll(List<Object> values, long[] counts) {
+        for (long count : counts) {
+            values.add(count);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.cMall.feedShop.review.infrastructure.jpa;
+
+import com.cMall.feedShop.review.domain.entity.Cushion;
+import com.cMall.feedShop.review.domain.entity.ReviewStatus;
+import com.cMall.feedShop.review.domain.entity.SizeFit;
+import com.cMall.feedShop.review.domain.entity.Stability;
+import com.cMall.feedShop.review.domain.repository.ReviewExportRow;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 리뷰 내보내기용 순방향 조회
+ * - StatelessSession 으로 읽어 영속성 컨텍스트(1차 캐시)에 엔티티가 쌓이지 않고, fetch size 만큼씩 받아 오므로
+ *   리뷰 수와 관계없이 메모리 사용량이 일정합니다.
+ *   (MySQL 은 JDBC URL 에 useCursorFetch=true 가 있어야 fetch size 단위로 읽습니다)
+ * - 이미지는 같은 쿼리에서 LEFT JOIN 으로 함께 읽고, 연속된 행을 리뷰 단위로 묶습니다. (리뷰별 추가 쿼리 없음)
+ * - 정렬은 리뷰 컬럼(created_at, review_id)만 사용해 idx_reviews_product_status_created 인덱스 순서를 그대로 따릅니다.
+ *   이미지 컬럼까지 정렬하면 MySQL 이 조인 결과 전체를 임시 테이블에 모아 filesort 하므로,
+ *   리뷰 안의 이미지 순서(image_order)는 묶은 뒤 메모리에서 맞춥니다.
+ * 요청 트랜잭션과 무관하게 자체 커넥션으로 읽으므로 StreamingResponseBody 처럼 다른 스레드에서 호출해도 됩니다.
+ */
+@Repository
+public class ReviewExportReader {
+
+    private static final String EXPORT_QUERY = "SELECT r.reviewId, r.userId, r.productId, r.reviewTitle, r.content, r.rating, " +
+            "r.sizeFit, r.cushioning, r.stability, r.createdAt, i.imageUrl, i.imageOrder " +
+            "FROM Review r LEFT JOIN ReviewImage i ON i.reviewId = r.reviewId " +
+            "WHERE r.productId = :productId AND r.status = :status " +
+            "ORDER BY r.createdAt, r.reviewId";
+
+    private static final Comparator<Object[]> IMAGE_ORDER =
+            Comparator.comparing(row -> (Integer) row[11], Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final SessionFactory sessionFactory;
+    private final int fetchSize;
+
+    public ReviewExportReader(EntityManagerFactory entityManagerFactory,
+                              @Value("${review.export.fetch-size:500}") int fetchSize) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * 상품의 리뷰를 작성 순으로 한 건씩 consumer 에 넘기고, 넘긴 리뷰 수를 반환합니다.
+     */
+    public long forEachByProduct(Long productId, ReviewStatus status, Consumer<ReviewExportRow> consumer) {
+        try (StatelessSession session = sessionFactory.openStatelessSession();
+             Stream<Object[]> rows = session.createSelectionQuery(EXPORT_QUERY, Object[].class)
+                     .setParameter("productId", productId)
+                     .setParameter("status", status)
+                     .setFetchSize(fetchSize)
+                     .setReadOnly(true)
+                     .getResultStream()) {
+
+            long count = 0;
+            Object[] current = null;
+            List<Object[]> imageRows = new ArrayList<>();
+            for (Iterator<Object[]> iterator = rows.iterator(); iterator.hasNext(); ) {
+                Object[] row = iterator.next();
+                if (current != null && !current[0].equals(row[0])) {
+                    consumer.accept(toExportRow(current, imageRows));
+                    count++;
+                    imageRows = new ArrayList<>();
+                }
+                current = row;
+                if (row[10] != null) {
+                    imageRows.add(row);
+                }
+            }
+            if (current != null) {
+                consumer.accept(toExportRow(current, imageRows));
+                count++;
+            }
+            return count;
+        }
+    }
+
+    private static ReviewExportRow toExportRow(Object[] row, List<Object[]> imageRows) {
+        imageRows.sort(IMAGE_ORDER);
+        List<String> imageUrls = new ArrayList<>(imageRows.size());
+        for (Object[] imageRow : imageRows) {
+            imageUrls.add((String) imageRow[10]);
+        }
+        return new ReviewExportRow(
+                (Long) row[0],
+                (Long) row[1],
+                (Long) row[2],
+                (String) row[3],
+                (String) row[4],
+                (Integer) row[5],
+                (SizeFit) row[6],
+                (Cushion) row[7],
+                (Stability) row[8],
+                (LocalDateTime) row[9],
+                imageUrls);
+    }
+}
@@ -0,0 +1,227 @@
+package com.cMall.feedShop.review.infrastructure.search;
+
+import com.cMall.feedShop.review.domain.entity.Cushion;
+import com.cMall.feedShop.review.domain.entity.SizeFit;
+import com.cMall.feedShop.review.domain.entity.Stability;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품 한 개의 리뷰 패싯 비트맵
+ * - 리뷰마다 상품 안에서의 순번(ordinal)을 리뷰 ID 오름차순으로 부여하고, 평점/5단계 특성 값마다 순번 비트맵을 둡니다.
+ * - 조건 조합은 비트맵 AND, 패싯별 건수는 그 패싯을 뺀 나머지 조건과 값 비트맵의 교집합 크기로 계산합니다.
+ * - 순번이 리뷰 ID 순이므로 큰 순번부터 읽으면 최신순 페이지가 됩니다.
+ * - 삭제된 리뷰의 순번은 비워 두었다가 다시 활성화되면 재사용하고, 빈 순번이 많아지거나
+ *   마지막 순번보다 작은 ID 가 새로 들어오면(커밋 순서 역전) 순번을 다시 매깁니다.
+ * ReviewSearchIndex 의 잠금 안에서만 사용합니다.
+ */
+final class ProductReviewFacets {
+
+    private static final int MIN_RATING = 1;
+    private static final int MAX_RATING = 5;
+    private static final int MIN_COMPACTION_GAP = 64;
+
+    private ReviewSearchIndex.Doc[] docsByOrdinal = new ReviewSearchIndex.Doc[16];
+    private int ordinalCount;
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private final BitSet live = new BitSet();
+    private final BitSet[] ratings = new BitSet[MAX_RATING + 1];
+    private final Map<SizeFit, BitSet> sizeFits = new EnumMap<>(SizeFit.class);
+    private final Map<Cushion, BitSet> cushionings = new EnumMap<>(Cushion.class);
+    private final Map<Stability, BitSet> stabilities = new EnumMap<>(Stability.class);
+
+    ProductReviewFacets() {
+        for (int rating = MIN_RATING; rating <= MAX_RATING; rating++) {
+            ratings[rating] = new BitSet();
+        }
+        for (SizeFit value : SizeFit.values()) {
+            sizeFits.put(value, new BitSet());
+        }
+        for (Cushion value : Cushion.values()) {
+            cushionings.put(value, new BitSet());
+        }
+        for (Stability value : Stability.values()) {
+            stabilities.put(value, new BitSet());
+        }
+    }
+
+    void add(ReviewSearchIndex.Doc doc) {
+        Integer ordinal = ordinals.get(doc.reviewId());
+        if (ordinal == null) {
+            if (ordinalCount > 0 && doc.reviewId() < docsByOrdinal[ordinalCount - 1].reviewId()) {
+                List<ReviewSearchIndex.Doc> liveDocs = liveDocs();
+                liveDocs.add(doc);
+                renumber(liveDocs);
+                return;
+            }
+            ordinal = ordinalCount++;
+            if (ordinal == docsByOrdinal.length) {
+                docsByOrdinal = Arrays.copyOf(docsByOrdinal, ordinal * 2);
+            }
+            ordinals.put(doc.reviewId(), ordinal);
+        } else if (live.get(ordinal)) {
+            clear(ordinal);
+        }
+        docsByOrdinal[ordinal] = doc;
+        set(ordinal, doc);
+    }
+
+    void remove(Long reviewId) {
+        Integer ordinal = ordinals.get(reviewId);
+        if (ordinal == null || !live.get(ordinal)) {
+            return;
+        }
+        clear(ordinal);
+        int gaps = ordinalCount - live.cardinality();
+        if (gaps >= MIN_COMPACTION_GAP && gaps > live.cardinality()) {
+            renumber(liveDocs());
+        }
+    }
+
+    boolean isEmpty() {
+        return live.isEmpty();
+    }
+
+    int size() {
+        return live.cardinality();
+    }
+
+    List<Long> reviewIds() {
+        List<Long> reviewIds = new ArrayList<>(live.cardinality());
+        for (int ordinal = live.nextSetBit(0); ordinal >= 0; ordinal = live.nextSetBit(ordinal + 1)) {
+            reviewIds.add(docsByOrdinal[ordinal].reviewId());
+        }
+        return reviewIds;
+    }
+
+    /**
+     * 조건에 맞는 리뷰를 최신순으로 offset 부터 limit 개, 전체 건수, 패싯별 건수와 함께 반환
+     */
+    ReviewSearchIndex.FacetPage query(ReviewSearchIndex.FacetFilter filter, long offset, int limit) {
+        BitSet rating = ratingSelection(filter.minRating(), filter.maxRating());
+        BitSet sizeFit = filter.sizeFit() != null ? sizeFits.get(filter.sizeFit()) : null;
+        BitSet cushioning = filter.cushioning() != null ? cushionings.get(filter.cushioning()) : null;
+        BitSet stability = filter.stability() != null ? stabilities.get(filter.stability()) : null;
+
+        BitSet matched = intersect(live, rating, sizeFit, cushioning, stability);
+        List<Long> page = new ArrayList<>(limit);
+        long skipped = 0;
+        for (int ordinal = matched.previousSetBit(matched.length() - 1);
+             ordinal >= 0 && page.size() < limit;
+             ordinal = matched.previousSetBit(ordinal - 1)) {
+            if (skipped++ >= offset) {
+                page.add(docsByOrdinal[ordinal].reviewId());
+            }
+        }
+
+        // 패싯별 건수 - 자기 패싯 조건은 빼고 계산해 다른 값을 골랐을 때의 건수를 보여 줌
+        BitSet withoutRating = intersect(live, null, sizeFit, cushioning, stability);
+        Map<Integer, Long> ratingCounts = new LinkedHashMap<>();
+        for (int value = MAX_RATING; value >= MIN_RATING; value--) {
+            ratingCounts.put(value, intersectionCount(withoutRating, ratings[value]));
+        }
+        return new ReviewSearchIndex.FacetPage(page, matched.cardinality(), ratingCounts,
+                counts(sizeFits, intersect(live, rating, null, cushioning, stability)),
+                counts(cushionings, intersect(live, rating, sizeFit, null, stability)),
+                counts(stabilities, intersect(live, rating, sizeFit, cushioning, null)));
+    }
+
+    private BitSet ratingSelection(Integer minRating, Integer maxRating) {
+        if (minRating == null && maxRating == null) {
+            return null;
+        }
+        int from = Math.max(MIN_RATING, minRating != null ? minRating : MIN_RATING);
+        int to = Math.min(MAX_RATING, maxRating != null ? maxRating : MAX_RATING);
+        BitSet selection = new BitSet();
+        for (int value = from; value <= to; value++) {
+            selection.or(ratings[value]);
+        }
+        return selection;
+    }
+
+    private void set(int ordinal, ReviewSearchIndex.Doc doc) {
+        live.set(ordinal);
+        if (doc.rating() != null && doc.rating() >= MIN_RATING && doc.rating() <= MAX_RATING) {
+            ratings[doc.rating()].set(ordinal);
+        }
+        if (doc.sizeFit() != null) {
+            sizeFits.get(doc.sizeFit()).set(ordinal);
+        }
+        if (doc.cushioning() != null) {
+            cushionings.get(doc.cushioning()).set(ordinal);
+        }
+        if (doc.stability() != null) {
+            stabilities.get(doc.stability()).set(ordinal);
+        }
+    }
+
+    private void clear(int ordinal) {
+        live.clear(ordinal);
+        for (int rating = MIN_RATING; rating <= MAX_RATING; rating++) {
+            ratings[rating].clear(ordinal);
+        }
+        sizeFits.values().forEach(bitmap -> bitmap.clear(ordinal));
+        cushionings.values().forEach(bitmap -> bitmap.clear(ordinal));
+        stabilities.values().forEach(bitmap -> bitmap.clear(ordinal));
+    }
+
+    private List<ReviewSearchIndex.Doc> liveDocs() {
+        List<ReviewSearchIndex.Doc> docs = new ArrayList<>(live.cardinality() + 1);
+        for (int ordinal = live.nextSetBit(0); ordinal >= 0; ordinal = live.nextSetBit(ordinal + 1)) {
+            docs.add(docsByOrdinal[ordinal]);
+        }
+        return docs;
+    }
+
+    private void renumber(List<ReviewSearchIndex.Doc> docs) {
+        docs.sort(Comparator.comparing(ReviewSearchIndex.Doc::reviewId));
+        docsByOrdinal = new ReviewSearchIndex.Doc[Math.max(16, docs.size() * 2)];
+        ordinalCount = 0;
+        ordinals.clear();
+        live.clear();
+        for (int rating = MIN_RATING; rating <= MAX_RATING; rating++) {
+            ratings[rating].clear();
+        }
+        sizeFits.values().forEach(BitSet::clear);
+        cushionings.values().forEach(BitSet::clear);
+        stabilities.values().forEach(BitSet::clear);
+        for (ReviewSearchIndex.Doc doc : docs) {
+            int ordinal = ordinalCount++;
+            docsByOrdinal[ordinal] = doc;
+            ordinals.put(doc.reviewId(), ordinal);
+            set(ordinal, doc);
+        }
+    }
+
+    private static BitSet intersect(BitSet base, BitSet... selections) {
+        BitSet result = (BitSet) base.clone();
+        for (BitSet selection : selections) {
+            if (selection != null) {
+                result.and(selection);
+            }
+        }
+        return result;
+    }
+
+    private static long intersectionCount(BitSet left, BitSet right) {
+        BitSet intersection = (BitSet) left.clone();
+        intersection.and(right);
+        return intersection.cardinality();
+    }
+
+    private static <E extends Enum<E>> Map<E, Long> counts(Map<E, BitSet> bitmaps, BitSet base) {
+        Map<E, Long> counts = new LinkedHashMap<>();
+        for (Map.Entry<E, BitSet> entry : bitmaps.entrySet()) {
+            counts.put(entry.getKey(), intersectionCount(base, entry.getValue()));
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,393 @@
+package com.cMall.feedShop.review.infrastructure.search;
+
+import com.cMall.feedShop.review.domain.entity.Cushion;
+import com.cMall.feedShop.review.domain.entity.ReviewSnapshot;
+import com.cMall.feedShop.review.domain.entity.SizeFit;
+import com.cMall.feedShop.review.domain.entity.Stability;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 활성 리뷰의 제목/내용 역색인 (메모리)
+ * - 토큰 -> (리뷰 ID -> 단어 빈도) 포스팅과 리뷰별 필터 값(상품, 평점, 5단계 특성)을 함께 보관합니다.
+ * - 검색어의 모든 토큰을 포함하는 리뷰만 찾고(AND), BM25 점수 -> 최신순으로 정렬해 요청 페이지만 잘라 냅니다.
+ * - 검색어가 없으면 필터만 적용해 최신순으로 돌려줍니다.
+ * - 상품별로 평점/5단계 특성 비트맵(ProductReviewFacets)을 두어 패싯 조회와 패싯별 건수를 SQL 없이 계산합니다.
+ * - 읽기는 동시에, 쓰기는 하나씩 (ReadWriteLock). 스냅샷은 writeTo/readFrom 으로 직렬화합니다.
+ */
+public class ReviewSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final int SNAPSHOT_MAGIC = 0x52534958; // "RSIX"
+    // 2: 한글 unigram 색인 추가 - 이전 스냅샷은 읽지 않고 전체 재색인
+    private static final int SNAPSHOT_VERSION = 2;
+
+    private static final Comparator<ScoredDoc> RANKING = Comparator
+            .comparingDouble(ScoredDoc::score).reversed()
+            .thenComparing(scored -> scored.doc().createdAt(), Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(scored -> scored.doc().reviewId(), Comparator.reverseOrder());
+
+    private static final ProductReviewFacets EMPTY_FACETS = new ProductReviewFacets();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Doc> docs = new HashMap<>();
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, ProductReviewFacets> facetsByProduct = new HashMap<>();
+    private long totalLength;
+
+    /**
+     * 리뷰를 색인하거나 갱신합니다. 활성 상태가 아니면 색인에서 제거합니다.
+     */
+    public void index(ReviewSnapshot review) {
+        if (!review.isActive()) {
+            remove(review.getReviewId());
+            return;
+        }
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        int length = 0;
+        for (String token : tokens(review.getReviewTitle(), review.getContent())) {
+            termFrequencies.merge(token, 1, Integer::sum);
+            length++;
+        }
+        Doc doc = new Doc(review.getReviewId(), review.getProductId(), review.getRating(), review.getSizeFit(),
+                review.getCushioning(), review.getStability(), review.getCreatedAt(), termFrequencies, length);
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(doc.reviewId());
+            addLocked(doc);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long reviewId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(reviewId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            docs.clear();
+            postings.clear();
+            facetsByProduct.clear();
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색 - 조건에 맞는 리뷰 ID 를 순위대로 offset 부터 limit 개, 전체 건수와 함께 반환
+     */
+    public Hits search(Criteria criteria, long offset, int limit) {
+        List<String> terms = distinctTokens(criteria.keyword());
+
+        lock.readLock().lock();
+        try {
+            Collection<Long> candidates = candidates(criteria.productId(), terms);
+            if (candidates.isEmpty()) {
+                return new Hits(Collections.emptyList(), 0);
+            }
+
+            double averageLength = docs.isEmpty() ? 1.0 : Math.max(1.0, (double) totalLength / docs.size());
+            int keep = (int) Math.min(Integer.MAX_VALUE, offset + limit);
+            // 상위 keep 개만 유지 - 머리에는 현재 가장 낮은 순위가 옴
+            PriorityQueue<ScoredDoc> top = new PriorityQueue<>(Math.min(keep, 1024) + 1, RANKING.reversed());
+            long total = 0;
+            for (Long reviewId : candidates) {
+                Doc doc = docs.get(reviewId);
+                if (doc == null || !criteria.matches(doc) || !containsAll(doc, terms)) {
+                    continue;
+                }
+                total++;
+                if (keep == 0) {
+                    continue;
+                }
+                top.offer(new ScoredDoc(doc, score(doc, terms, averageLength)));
+                if (top.size() > keep) {
+                    top.poll();
+                }
+            }
+
+            List<ScoredDoc> ranked = new ArrayList<>(top);
+            ranked.sort(RANKING);
+            List<Long> page = new ArrayList<>(Math.min(limit, ranked.size()));
+            for (int i = (int) Math.min(offset, ranked.size()); i < ranked.size(); i++) {
+                page.add(ranked.get(i).doc().reviewId());
+            }
+            return new Hits(page, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 패싯 조회 - 상품의 리뷰 중 조건에 맞는 리뷰 ID 를 최신순으로 offset 부터 limit 개, 전체 건수, 패싯별 건수와 함께 반환
+     */
+    public FacetPage facets(Long productId, FacetFilter filter, long offset, int limit) {
+        lock.readLock().lock();
+        try {
+            ProductReviewFacets facets = facetsByProduct.get(productId);
+            return (facets != null ? facets : EMPTY_FACETS).query(filter, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 스냅샷 기록 - 리뷰별 필터 값과 단어 빈도만 저장하고, 포스팅은 읽을 때 다시 만듭니다.
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        lock.readLock().lock();
+        try {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeInt(docs.size());
+            for (Doc doc : docs.values()) {
+                out.writeLong(doc.reviewId());
+                out.writeLong(doc.productId());
+                out.writeInt(doc.rating() != null ? doc.rating() : 0);
+                writeNullable(out, doc.sizeFit() != null ? doc.sizeFit().name() : null);
+                writeNullable(out, doc.cushioning() != null ? doc.cushioning().name() : null);
+                writeNullable(out, doc.stability() != null ? doc.stability().name() : null);
+                writeNullable(out, doc.createdAt() != null ? doc.createdAt().toString() : null);
+                out.writeInt(doc.termFrequencies().size());
+                for (Map.Entry<String, Integer> term : doc.termFrequencies().entrySet()) {
+                    out.writeUTF(term.getKey());
+                    out.writeInt(term.getValue());
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 스냅샷으로 색인을 교체합니다. 형식이 맞지 않으면 IOException (호출 측에서 전체 재색인)
+     */
+    public void readFrom(DataInput in) throws IOException {
+        if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+            throw new IOException("지원하지 않는 리뷰 검색 색인 스냅샷 형식입니다.");
+        }
+        int count = in.readInt();
+        List<Doc> loaded = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long reviewId = in.readLong();
+            long productId = in.readLong();
+            int rating = in.readInt();
+            String sizeFit = readNullable(in);
+            String cushioning = readNullable(in);
+            String stability = readNullable(in);
+            String createdAt = readNullable(in);
+            int termCount = in.readInt();
+            Map<String, Integer> termFrequencies = new HashMap<>(termCount * 2);
+            int length = 0;
+            for (int t = 0; t < termCount; t++) {
+                String term = in.readUTF();
+                int frequency = in.readInt();
+                termFrequencies.put(term, frequency);
+                length += frequency;
+            }
+            loaded.add(new Doc(reviewId, productId, rating == 0 ? null : rating,
+                    sizeFit != null ? SizeFit.valueOf(sizeFit) : null,
+                    cushioning != null ? Cushion.valueOf(cushioning) : null,
+                    stability != null ? Stability.valueOf(stability) : null,
+                    createdAt != null ? LocalDateTime.parse(createdAt) : null,
+                    termFrequencies, length));
+        }
+
+        lock.writeLock().lock();
+        try {
+            docs.clear();
+            postings.clear();
+            facetsByProduct.clear();
+            totalLength = 0;
+            loaded.forEach(this::addLocked);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Collection<Long> candidates(Long productId, List<String> terms) {
+        if (terms.isEmpty()) {
+            if (productId == null) {
+                return docs.keySet();
+            }
+            ProductReviewFacets facets = facetsByProduct.get(productId);
+            return facets != null ? facets.reviewIds() : Collections.emptyList();
+        }
+        // 가장 짧은 포스팅만 순회하고 나머지 토큰 포함 여부는 문서별로 확인
+        Collection<Long> shortest = null;
+        for (String term : terms) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting == null) {
+                return Collections.emptySet();
+            }
+            if (shortest == null || posting.size() < shortest.size()) {
+                shortest = posting.keySet();
+            }
+        }
+        if (productId != null) {
+            ProductReviewFacets facets = facetsByProduct.get(productId);
+            if (facets == null) {
+                return Collections.emptyList();
+            }
+            if (facets.size() < shortest.size()) {
+                return facets.reviewIds();
+            }
+        }
+        return shortest;
+    }
+
+    private static boolean containsAll(Doc doc, List<String> terms) {
+        for (String term : terms) {
+            if (!doc.termFrequencies().containsKey(term)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private double score(Doc doc, List<String> terms, double averageLength) {
+        double score = 0;
+        int documentCount = docs.size();
+        for (String term : terms) {
+            int frequency = doc.termFrequencies().get(term);
+            int documentFrequency = postings.get(term).size();
+            double idf = Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+            double norm = K1 * (1 - B + B * doc.length() / averageLength);
+            score += idf * frequency * (K1 + 1) / (frequency + norm);
+        }
+        return score;
+    }
+
+    private void addLocked(Doc doc) {
+        docs.put(doc.reviewId(), doc);
+        facetsByProduct.computeIfAbsent(doc.productId(), id -> new ProductReviewFacets()).add(doc);
+        for (Map.Entry<String, Integer> term : doc.termFrequencies().entrySet()) {
+            postings.computeIfAbsent(term.getKey(), key -> new HashMap<>()).put(doc.reviewId(), term.getValue());
+        }
+        totalLength += doc.length();
+    }
+
+    private void removeLocked(Long reviewId) {
+        Doc doc = docs.remove(reviewId);
+        if (doc == null) {
+            return;
+        }
+        ProductReviewFacets facets = facetsByProduct.get(doc.productId());
+        if (facets != null) {
+            facets.remove(reviewId);
+            if (facets.isEmpty()) {
+                facetsByProduct.remove(doc.productId());
+            }
+        }
+        for (String term : doc.termFrequencies().keySet()) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(reviewId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= doc.length();
+    }
+
+    private static List<String> tokens(String title, String content) {
+        List<String> tokens = ReviewTokenizer.tokenizeForIndex(title);
+        tokens.addAll(ReviewTokenizer.tokenizeForIndex(content));
+        return tokens;
+    }
+
+    private static List<String> distinctTokens(String keyword) {
+        return new ArrayList<>(new LinkedHashSet<>(ReviewTokenizer.tokenize(keyword)));
+    }
+
+    private static void writeNullable(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    /**
+     * 검색 조건 - productId 가 null 이면 전체 상품, 나머지 null 값은 조건 없음
+     */
+    public record Criteria(Long productId, String keyword, Integer minRating, Integer maxRating,
+                           SizeFit sizeFit, Cushion cushioning, Stability stability) {
+
+        boolean matches(Doc doc) {
+            return (productId == null || productId.equals(doc.productId()))
+                    && (minRating == null || (doc.rating() != null && doc.rating() >= minRating))
+                    && (maxRating == null || (doc.rating() != null && doc.rating() <= maxRating))
+                    && (sizeFit == null || sizeFit == doc.sizeFit())
+                    && (cushioning == null || cushioning == doc.cushioning())
+                    && (stability == null || stability == doc.stability());
+        }
+    }
+
+    /**
+     * 검색 결과 - 요청 페이지의 리뷰 ID(순위순)와 조건에 맞는 전체 건수
+     */
+    public record Hits(List<Long> reviewIds, long total) {
+    }
+
+    /**
+     * 패싯 조건 - null 값은 조건 없음
+     */
+    public record FacetFilter(Integer minRating, Integer maxRating,
+                              SizeFit sizeFit, Cushion cushioning, Stability stability) {
+    }
+
+    /**
+     * 패싯 조회 결과 - 요청 페이지의 리뷰 ID(최신순), 조건에 맞는 전체 건수,
+     * 패싯 값별 건수 (각 패싯은 자기 조건을 뺀 나머지 조건 기준, 건수 0 인 값 포함)
+     */
+    public record FacetPage(List<Long> reviewIds, long total, Map<Integer, Long> ratingCounts,
+                            Map<SizeFit, Long> sizeFitCounts, Map<Cushion, Long> cushioningCounts,
+                            Map<Stability, Long> stabilityCounts) {
+    }
+
+    record Doc(Long reviewId, Long productId, Integer rating, SizeFit sizeFit, Cushion cushioning,
+               Stability stability, LocalDateTime createdAt, Map<String, Integer> termFrequencies, int length) {
+    }
+
+    private record ScoredDoc(Doc doc, double score) {
+    }
+}
@@ -0,0 +1,81 @@
+package com.cMall.feedShop.review.infrastructure.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 리뷰 검색용 토크나이저
+ * - 글자/숫자가 아닌 문자로 단어를 나누고, 한글과 그 외 문자가 바뀌는 지점에서도 나눕니다. (예: "나이키air" -> "나이키", "air")
+ * - 한글 단어는 형태소 분석 없이 2글자 단위(bigram)로 겹쳐 자릅니다. (예: "발볼이" -> "발볼", "볼이")
+ *   한 글자 단어는 그대로 사용합니다.
+ * - 그 외(영문/숫자) 단어는 소문자로 바꿔 단어 전체를 토큰으로 사용합니다.
+ * 색인과 검색어에 같은 규칙을 적용하므로 "편한" 으로 "정말편한신발" 을 찾을 수 있습니다.
+ * 색인할 때는 두 글자 이상 한글 단어의 각 글자(unigram)도 함께 넣어, 한 글자 검색어 "발" 로 "발볼이", "신발" 을 찾을 수 있게 합니다.
+ */
+public final class ReviewTokenizer {
+
+    private ReviewTokenizer() {
+    }
+
+    /**
+     * 검색어 토큰 목록 (중복 포함)
+     */
+    public static List<String> tokenize(String text) {
+        return tokenize(text, false);
+    }
+
+    /**
+     * 색인 토큰 목록 (중복 포함 - 단어 빈도 계산용)
+     * 검색어 토큰에 두 글자 이상 한글 단어의 글자별 unigram 을 더합니다.
+     */
+    public static List<String> tokenizeForIndex(String text) {
+        return tokenize(text, true);
+    }
+
+    private static List<String> tokenize(String text, boolean hangulUnigrams) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int length = normalized.length();
+        int start = -1;
+        boolean hangulRun = false;
+        for (int i = 0; i <= length; i++) {
+            char c = i < length ? normalized.charAt(i) : ' ';
+            boolean wordChar = Character.isLetterOrDigit(c);
+            boolean hangul = wordChar && isHangul(c);
+            if (start >= 0 && (!wordChar || hangul != hangulRun)) {
+                addWord(tokens, normalized, start, i, hangulRun, hangulUnigrams);
+                start = -1;
+            }
+            if (wordChar && start < 0) {
+                start = i;
+                hangulRun = hangul;
+            }
+        }
+        return tokens;
+    }
+
+    private static void addWord(List<String> tokens, String text, int start, int end, boolean hangul,
+                                boolean hangulUnigrams) {
+        if (!hangul || end - start == 1) {
+            tokens.add(text.substring(start, end));
+            return;
+        }
+        for (int i = start; i + 2 <= end; i++) {
+            tokens.add(text.substring(i, i + 2));
+        }
+        if (hangulUnigrams) {
+            for (int i = start; i < end; i++) {
+                tokens.add(text.substring(i, i + 1));
+            }
+        }
+    }
+
+    private static boolean isHangul(char c) {
+        return Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL;
+    }
+}
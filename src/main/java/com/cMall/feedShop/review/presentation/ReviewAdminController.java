@@ -0,0 +1,51 @@
+package com.cMall.feedShop.review.presentation;
+
+import com.cMall.feedShop.review.application.ReviewImportFormat;
+import com.cMall.feedShop.review.application.ReviewImportService;
+import com.cMall.feedShop.review.application.dto.response.ReviewImportResponse;
+import com.cMall.feedShop.common.aop.ApiResponseFormat;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 리뷰 관리자 API 컨트롤러
+ * RE-07: 리뷰 일괄 등록
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/reviews")
+@RequiredArgsConstructor
+@Tag(name = "Review Admin", description = "리뷰 관리자 API")
+public class ReviewAdminController {
+
+    private final ReviewImportService reviewImportService;
+
+    /**
+     * RE-07: 리뷰 일괄 등록
+     * 요청 본문을 multipart 없이 그대로 스트리밍으로 읽습니다. (Content-Type 으로 JSON/CSV 구분)
+     */
+    @ApiResponseFormat(message = "리뷰 일괄 등록이 처리되었습니다.")
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, ReviewImportFormat.TEXT_CSV_VALUE})
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "리뷰 일괄 등록",
+            description = "sample-data.json 형식의 JSON 또는 CSV 파일 본문으로 리뷰를 일괄 등록합니다. 잘못된 행은 건너뛰고 결과에 행 번호와 사유를 담습니다. 관리자 전용입니다.")
+    public ReviewImportResponse importReviews(HttpServletRequest request) throws IOException {
+        ReviewImportFormat format = ReviewImportFormat.from(request.getContentType());
+        log.info("리뷰 일괄 등록 요청 - 형식: {}, 크기: {}bytes", format, request.getContentLengthLong());
+
+        try (InputStream in = request.getInputStream()) {
+            return reviewImportService.importReviews(in, format);
+        }
+    }
+}
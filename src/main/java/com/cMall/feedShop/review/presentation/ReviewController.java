@@ -1,6 +1,7 @@
 package com.cMall.feedShop.review.presentation;
 import com.cMall.feedShop.review.application.dto.request.*;
 import com.cMall.feedShop.review.application.dto.response.ReviewDetailResponse;
+import com.cMall.feedShop.review.application.dto.response.ReviewSearchResponse;
 import com.cMall.feedShop.review.application.ReviewService;
 import com.cMall.feedShop.common.aop.ApiResponseFormat;
 
@@ -9,14 +10,18 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
 
 /**
  * SPRINT1 - 리뷰 범용 API 컨트롤러
  * RE-03: 리뷰 상세 조회
+ * RE-04: 리뷰 검색
  */
 @Slf4j
 @RestController
@@ -43,4 +48,19 @@ public class ReviewController {
         log.info("리뷰 상세 조회 요청 - reviewId: {}", reviewId);
         return reviewService.getReviewDetail(reviewId);
     }
-}
\ No newline at end of file
+
+    /**
+     * RE-04: 리뷰 검색
+     * 상품의 리뷰를 키워드와 평점/착용감 필터로 검색합니다. 키워드가 있으면 관련도순, 없으면 최신순입니다.
+     */
+    @ApiResponseFormat(message = "리뷰 검색이 완료되었습니다.")
+    @GetMapping("/search")
+    @Operation(summary = "리뷰 검색", description = "상품의 리뷰를 키워드와 필터 조건으로 검색합니다.")
+    public ReviewSearchResponse searchReviews(
+            @Valid @ModelAttribute ReviewSearchRequest request,
+            @PageableDefault(size = 20) Pageable pageable) {
+
+        log.info("리뷰 검색 요청 - productId: {}, keyword: {}", request.getProductId(), request.getKeyword());
+        return reviewService.searchReviews(request, pageable);
+    }
+}
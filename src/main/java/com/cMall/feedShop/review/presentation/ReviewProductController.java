@@ -2,7 +2,11 @@ package com.cMall.feedShop.review.presentation;
 
 import com.cMall.feedShop.review.application.dto.request.*;
 import com.cMall.feedShop.review.application.dto.response.ProductReviewSummaryResponse;
+import com.cMall.feedShop.review.application.dto.response.ReviewCursorResponse;
+import com.cMall.feedShop.review.application.dto.response.ReviewFacetResponse;
 import com.cMall.feedShop.review.application.dto.response.ReviewSummaryResponse;
+import com.cMall.feedShop.review.application.ReviewExportFormat;
+import com.cMall.feedShop.review.application.ReviewExportService;
 import com.cMall.feedShop.review.application.ReviewService;
 import com.cMall.feedShop.common.aop.ApiResponseFormat;
 
@@ -11,18 +15,28 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Positive;
 
 /**
  * SPRINT1 - 상품 중심 리뷰 API 컨트롤러
  * RE-02: 리뷰 목록 조회 (상품별)
+ * RE-05: 리뷰 패싯 조회 (상품별)
+ * RE-06: 리뷰 내보내기 (상품별, 관리자/판매자)
  */
 @Slf4j
 @RestController
@@ -33,6 +47,7 @@ import jakarta.validation.constraints.Positive;
 public class ReviewProductController {
 
     private final ReviewService reviewService;
+    private final ReviewExportService reviewExportService;
 
     /**
      * RE-02: 리뷰 목록 조회 (상품별)
@@ -51,4 +66,66 @@ public class ReviewProductController {
         ProductReviewSummaryResponse reviews = reviewService.getProductReviews(productId, pageable);
         return ResponseEntity.ok(reviews);
     }
-}
\ No newline at end of file
+
+    /**
+     * RE-02: 리뷰 목록 조회 (상품별, 커서 기반)
+     * 최신순으로 조회하며, 응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다.
+     */
+    @ApiResponseFormat(message = "상품별 리뷰 목록이 성공적으로 조회되었습니다.")
+    @GetMapping("/cursor")
+    @Operation(summary = "상품별 리뷰 목록 커서 조회", description = "특정 상품의 리뷰 목록을 커서 기반으로 조회합니다. 전체 개수는 제공하지 않습니다.")
+    public ReviewCursorResponse<ReviewSummaryResponse> getProductReviewsByCursor(
+            @PathVariable
+            @Positive(message = "상품 ID는 양수여야 합니다")
+            Long productId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10")
+            @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다")
+            @Max(value = ReviewService.MAX_CURSOR_PAGE_SIZE, message = "페이지 크기는 100 이하여야 합니다")
+            int size) {
+
+        return reviewService.getProductReviewsByCursor(productId, cursor, size);
+    }
+
+    /**
+     * RE-05: 리뷰 패싯 조회 (상품별)
+     * 평점 범위, 사이즈 핏, 쿠셔닝, 안정성을 조합해 최신순으로 페이징하고 패싯 값별 건수를 함께 반환합니다.
+     */
+    @ApiResponseFormat(message = "상품별 리뷰 패싯 조회가 완료되었습니다.")
+    @GetMapping("/facets")
+    @Operation(summary = "상품별 리뷰 패싯 조회", description = "평점 범위와 착용감 조건을 조합해 리뷰를 페이징 조회하고, 조건 값별 리뷰 수를 함께 제공합니다.")
+    public ReviewFacetResponse getReviewFacets(
+            @PathVariable
+            @Positive(message = "상품 ID는 양수여야 합니다")
+            Long productId,
+            @Valid @ModelAttribute ReviewFilterRequest filter,
+            @PageableDefault(size = 10, page = 0)
+            Pageable pageable) {
+
+        return reviewService.getReviewFacets(productId, filter, pageable);
+    }
+
+    /**
+     * RE-06: 리뷰 내보내기 (상품별)
+     * 상품의 활성 리뷰 전체를 NDJSON 또는 CSV 로 스트리밍합니다. 응답은 ApiResponse 로 감싸지 않습니다.
+     */
+    @GetMapping("/export")
+    @PreAuthorize("hasAnyRole('ADMIN', 'SELLER')")
+    @Operation(summary = "상품별 리뷰 내보내기", description = "상품의 리뷰 전체를 NDJSON(기본) 또는 CSV 파일로 내려받습니다. 관리자/판매자 전용입니다.")
+    public ResponseEntity<StreamingResponseBody> exportProductReviews(
+            @PathVariable
+            @Positive(message = "상품 ID는 양수여야 합니다")
+            Long productId,
+            @RequestParam(defaultValue = "ndjson") String format) {
+
+        ReviewExportFormat exportFormat = ReviewExportFormat.from(format);
+        log.info("상품 리뷰 내보내기 요청 - productId: {}, 형식: {}", productId, exportFormat);
+
+        StreamingResponseBody body = out -> reviewExportService.exportProductReviews(productId, exportFormat, out);
+        String fileName = "reviews-product-" + productId + "." + exportFormat.getExtension();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+}
@@ -2,6 +2,8 @@ package com.cMall.feedShop.review.presentation;
 
 import com.cMall.feedShop.review.application.dto.request.ReviewCreateRequest;
 import com.cMall.feedShop.review.application.dto.response.ReviewCreateResponse;
+import com.cMall.feedShop.review.application.dto.response.ReviewCursorResponse;
+import com.cMall.feedShop.review.application.dto.response.ReviewDetailResponse;
 import com.cMall.feedShop.review.application.ReviewService;
 import com.cMall.feedShop.common.aop.ApiResponseFormat;
 
@@ -15,11 +17,14 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Positive;
 
 /**
  * SPRINT1 - 사용자 중심 리뷰 API 컨트롤러
  * RE-01: 리뷰 작성
+ * 사용자별 리뷰 목록 조회 (커서 기반)
  */
 @Slf4j
 @RestController
@@ -48,4 +53,24 @@ public class ReviewUserController {
         log.info("리뷰 등록 요청 - 사용자: {}, 상품: {}", userId, request.getProductId());
         return reviewService.createReview(request);
     }
-}
\ No newline at end of file
+
+    /**
+     * 사용자별 리뷰 목록 조회 (커서 기반)
+     * 최신순으로 조회하며, 응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다.
+     */
+    @ApiResponseFormat(message = "사용자별 리뷰 목록이 성공적으로 조회되었습니다.")
+    @GetMapping("/cursor")
+    @Operation(summary = "사용자별 리뷰 목록 커서 조회", description = "사용자가 작성한 리뷰 목록을 커서 기반으로 조회합니다. 전체 개수는 제공하지 않습니다.")
+    public ReviewCursorResponse<ReviewDetailResponse> getUserReviewsByCursor(
+            @PathVariable
+            @Positive(message = "사용자 ID는 양수여야 합니다")
+            Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10")
+            @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다")
+            @Max(value = ReviewService.MAX_CURSOR_PAGE_SIZE, message = "페이지 크기는 100 이하여야 합니다")
+            int size) {
+
+        return reviewService.getUserReviewsByCursor(userId, cursor, size);
+    }
+}
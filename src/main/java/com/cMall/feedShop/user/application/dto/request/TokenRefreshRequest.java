@@ -0,0 +1,14 @@
+package com.cMall.feedShop.user.application.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@Getter
+@Setter
+public class TokenRefreshRequest {
+    @NotBlank(message = "리프레시 토큰은 필수입니다.")
+    private String refreshToken;
+}
@@ -13,4 +13,5 @@ public class UserLoginResponse {
     private UserRole role;
     private String token;
     private String nickname;
+    private String refreshToken; // 액세스 토큰 재발급용 (POST /api/auth/refresh, 사용 시 회전)
 }
@@ -7,9 +7,11 @@ import com.cMall.feedShop.user.domain.model.User;
 import com.cMall.feedShop.user.domain.repository.UserRepository;
 import com.cMall.feedShop.common.exception.BusinessException;
 import com.cMall.feedShop.user.infrastructure.security.JwtTokenProvider;
+import com.cMall.feedShop.user.infrastructure.security.RefreshTokenManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.security.authentication.AuthenticationManager; // AuthenticationManager import 추가
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken; // UsernamePasswordAuthenticationToken import 추가
 import org.springframework.security.core.Authentication; // Authentication import 추가
@@ -23,6 +25,7 @@ public class UserAuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtProvider;
     private final AuthenticationManager authenticationManager; // AuthenticationManager 주입
+    private final RefreshTokenManager refreshTokenManager;
 
     /**
      * 사용자 로그인 처리 메서드.
@@ -42,10 +45,9 @@ public class UserAuthService {
             // AuthenticationManager가 CustomUserDetailsService를 통해 사용자를 로드하고 비밀번호를 검증합니다.
             Authentication authentication = authenticationManager.authenticate(authenticationToken);
 
-            // 인증 성공 후, 사용자 정보 로드 (CustomUserDetailsService에서 이미 이메일로 찾았음)
-            // JWT 토큰 생성에 필요한 정보를 얻기 위해 User 객체를 다시 조회합니다.
-            User user = userRepository.findByEmail(request.getEmail())
-                    .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, "존재하지 않는 회원입니다."));
+            // 인증 성공 후, 인증 결과의 principal 을 그대로 사용합니다.
+            // CustomUserDetailsService 가 프로필까지 fetch join 으로 조회했으므로 추가 쿼리가 없습니다.
+            User user = (User) authentication.getPrincipal();
 
             // 닉네임 가져오기 (UserProfile이 연관되어 있다면)
             String nickname = null;
@@ -60,11 +62,14 @@ public class UserAuthService {
             // 위 코드는 AuthenticationManager.authenticate()가 이미 처리하므로 불필요합니다.
 
             // 3. 로그인 성공 시, JWT 토큰 발급
-            // generateAccessToken 메서드에 email과 role을 직접 전달합니다.
-            String token = jwtProvider.generateAccessToken(user.getEmail(), user.getRole().name());
+            // 요청 인증 시 DB 조회가 없도록 userId, email, role, nickname 을 클레임으로 담습니다.
+            String token = jwtProvider.generateAccessToken(user.getId(), user.getEmail(), user.getRole().name(), nickname);
 
-            // 4. 로그인 응답 반환
-            return new UserLoginResponse(user.getLoginId(), user.getRole(), token, nickname);
+            // 4. 리프레시 토큰 발급 (새 family)
+            String refreshToken = refreshTokenManager.issue(user.getId());
+
+            // 5. 로그인 응답 반환
+            return new UserLoginResponse(user.getLoginId(), user.getRole(), token, nickname, refreshToken);
         } catch (UsernameNotFoundException e) {
             // 사용자를 찾을 수 없을 때 (CustomUserDetailsService에서 발생)
             throw new BusinessException(ErrorCode.USER_NOT_FOUND, "존재하지 않는 회원입니다.");
@@ -74,5 +79,36 @@ public class UserAuthService {
         }
     }
 
+    /**
+     * 리프레시 토큰으로 액세스 토큰 재발급.
+     * 리프레시 토큰은 회전되어 새 토큰이 함께 반환되며, 이미 사용된 토큰이 다시 오면 해당 로그인 세션(family) 전체가 폐기됩니다.
+     *
+     * @throws BusinessException 유효하지 않은 토큰이거나 사용할 수 없는 계정인 경우 (UNAUTHORIZED)
+     */
+    @Transactional
+    public UserLoginResponse refresh(String refreshToken) {
+        RefreshTokenManager.Rotation rotation = refreshTokenManager.rotate(refreshToken);
+
+        User user = userRepository.findById(rotation.userId())
+                .filter(User::isEnabled)
+                .orElse(null);
+        if (user == null) {
+            refreshTokenManager.revoke(rotation.refreshToken());
+            throw new BusinessException(ErrorCode.UNAUTHORIZED, "사용할 수 없는 계정입니다.");
+        }
+
+        String nickname = user.getUserProfile() != null ? user.getUserProfile().getNickname() : null;
+        String token = jwtProvider.generateAccessToken(user.getId(), user.getEmail(), user.getRole().name(), nickname);
+        return new UserLoginResponse(user.getLoginId(), user.getRole(), token, nickname, rotation.refreshToken());
+    }
+
+    /**
+     * 로그아웃: 리프레시 토큰이 속한 로그인 세션(family) 폐기.
+     * 이미 발급된 액세스 토큰은 만료(jwt.access-token-expiration-ms)까지 유효합니다.
+     */
+    public void logout(String refreshToken) {
+        refreshTokenManager.revoke(refreshToken);
+    }
+
     // 기타 인증 관련 메서드 (예: 회원가입, 비밀번호 재설정 등)를 여기에 추가.
 }
@@ -0,0 +1,58 @@
+package com.cMall.feedShop.user.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 리프레시 토큰 영속 테이블 (재시작 복구 + 인스턴스 간 공유)
+ * - 토큰 원문은 저장하지 않고 SHA-256 해시(base64url 43자)를 PK 로 사용합니다.
+ * - 시각은 epoch millis(BIGINT)로 저장해 DB 종류와 무관하게 같은 스키마를 씁니다.
+ * - 쓰기는 RefreshTokenManager 가 모아서 일괄 반영(write-behind)하므로, 저장 전 조회(merge)가 없도록 항상 신규로 취급합니다.
+ */
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_refresh_tokens_family_id", columnList = "family_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RefreshToken implements Persistable<String> {
+
+    @Id
+    @Column(name = "token_hash", length = 43, nullable = false)
+    private String tokenHash;
+
+    @Column(name = "family_id", nullable = false)
+    private long familyId;
+
+    @Column(name = "user_id", nullable = false)
+    private long userId;
+
+    @Column(name = "expires_at", nullable = false)
+    private long expiresAt;
+
+    // 회전되어 더 이상 사용할 수 없는 토큰 (재사용 감지용으로 만료 시까지 보관)
+    @Column(name = "used", nullable = false)
+    private boolean used;
+
+    public RefreshToken(String tokenHash, long familyId, long userId, long expiresAt, boolean used) {
+        this.tokenHash = tokenHash;
+        this.familyId = familyId;
+        this.userId = userId;
+        this.expiresAt = expiresAt;
+        this.used = used;
+    }
+
+    @Override
+    public String getId() {
+        return tokenHash;
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
@@ -0,0 +1,35 @@
+package com.cMall.feedShop.user.domain.repository;
+
+import com.cMall.feedShop.user.domain.model.RefreshToken;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+
+    // 기동 시 메모리 인덱스 복구용 (expires_at 인덱스 범위 조회)
+    List<RefreshToken> findByExpiresAtGreaterThan(long now);
+
+    // 만료 토큰 정리 - 배치 크기만큼 PK 만 조회 (expires_at 인덱스 범위 조회)
+    @Query("SELECT t.tokenHash FROM RefreshToken t WHERE t.expiresAt <= :now")
+    List<String> findExpiredTokenHashes(@Param("now") long now, Pageable pageable);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE RefreshToken t SET t.used = true WHERE t.tokenHash IN :tokenHashes")
+    int markUsed(@Param("tokenHashes") Collection<String> tokenHashes);
+
+    // 회전 시 사용 처리 - 다른 인스턴스에서 이미 사용/삭제했으면 0 (재사용 감지)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE RefreshToken t SET t.used = true WHERE t.tokenHash = :tokenHash AND t.used = false")
+    int markUsedIfUnused(@Param("tokenHash") String tokenHash);
+
+    // 로그아웃/재사용 감지 시 family 전체 삭제 (family_id 인덱스)
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM RefreshToken t WHERE t.familyId IN :familyIds")
+    int deleteByFamilyIdIn(@Param("familyIds") Collection<Long> familyIds);
+}
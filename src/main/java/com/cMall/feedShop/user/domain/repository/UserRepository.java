@@ -2,6 +2,8 @@ package com.cMall.feedShop.user.domain.repository;
 
 import com.cMall.feedShop.user.domain.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -12,4 +14,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByLoginId(String loginId);
 
     Optional<User> findByEmail(String email);
+
+    // 로그인용 - 프로필을 함께 조회해 인증 후 닉네임 접근 시 추가 쿼리가 없도록 함
+    @Query("SELECT u FROM User u LEFT JOIN FETCH u.userProfile WHERE u.email = :email")
+    Optional<User> findWithProfileByEmail(@Param("email") String email);
 }
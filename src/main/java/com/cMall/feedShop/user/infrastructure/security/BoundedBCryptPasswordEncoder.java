@@ -0,0 +1,195 @@
+package com.cMall.feedShop.user.infrastructure.security;
+
+import com.cMall.feedShop.common.exception.BusinessException;
+import com.cMall.feedShop.common.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 전용 스레드 풀에서 BCrypt 해시/검증을 수행하는 PasswordEncoder
+ * - BCrypt 는 일부러 CPU 를 많이 쓰므로, 톰캣 요청 스레드가 아닌 고정 크기 풀에서만 계산해
+ *   로그인/회원가입이 몰려도 다른 API 가 CPU 를 뺏기지 않게 합니다.
+ * - 대기 큐가 가득 차거나 대기 시간이 timeout 을 넘으면 바로 503(SERVICE_UNAVAILABLE)으로 거절합니다.
+ * - 저장된 해시의 cost 가 설정값과 다르면 upgradeEncoding 이 true 를 반환해,
+ *   DaoAuthenticationProvider 가 로그인 성공 시 새 cost 로 다시 해시합니다 (UserDetailsPasswordService).
+ * 메트릭: feedshop.password.hashing.duration / .wait (operation 태그), .rejected, executor 큐/스레드 지표(password.hashing)
+ */
+@Slf4j
+public class BoundedBCryptPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    public static final String METRIC_PREFIX = "feedshop.password.hashing";
+    private static final String EXECUTOR_NAME = "password.hashing";
+    private static final Pattern BCRYPT_COST = Pattern.compile("\\A\\$2[aby]?\\$(\\d\\d)\\$");
+
+    private final PasswordEncoder delegate;
+    private final int strength;
+    private final long timeoutNanos;
+    private final ThreadPoolExecutor executor;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer waitTimer;
+    private final Counter rejectedCounter;
+
+    public BoundedBCryptPasswordEncoder(int strength, int threads, int queueCapacity, Duration timeout,
+                                        MeterRegistry registry) {
+        this(new BCryptPasswordEncoder(strength), strength, threads, queueCapacity, timeout, registry);
+    }
+
+    BoundedBCryptPasswordEncoder(PasswordEncoder delegate, int strength, int threads, int queueCapacity,
+                                 Duration timeout, MeterRegistry registry) {
+        if (threads < 1 || queueCapacity < 1) {
+            throw new IllegalArgumentException("해시 스레드 수와 대기 큐 크기는 1 이상이어야 합니다.");
+        }
+        this.delegate = delegate;
+        this.strength = strength;
+        this.timeoutNanos = timeout.toNanos();
+        // AbortPolicy: 큐가 가득 차면 호출 스레드에서 대신 계산하지 않고 바로 거절
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new HashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        if (registry != null) {
+            new ExecutorServiceMetrics(executor, EXECUTOR_NAME, List.of()).bindTo(registry);
+            this.encodeTimer = durationTimer("encode", registry);
+            this.matchesTimer = durationTimer("matches", registry);
+            this.waitTimer = Timer.builder(METRIC_PREFIX + ".wait")
+                    .description("비밀번호 해시 작업 큐 대기 시간")
+                    .publishPercentileHistogram()
+                    .register(registry);
+            this.rejectedCounter = Counter.builder(METRIC_PREFIX + ".rejected")
+                    .description("큐 포화/대기 시간 초과로 거절된 비밀번호 해시 작업 수")
+                    .register(registry);
+        } else {
+            this.encodeTimer = null;
+            this.matchesTimer = null;
+            this.waitTimer = null;
+            this.rejectedCounter = null;
+        }
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> delegate.encode(rawPassword), encodeTimer);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> delegate.matches(rawPassword, encodedPassword), matchesTimer);
+    }
+
+    /**
+     * 저장된 해시의 cost 가 현재 설정과 다르면 (올리든 내리든) 재해시 대상입니다.
+     * BCrypt 형식이 아니면 기본 구현에 맡깁니다.
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        if (!matcher.find()) {
+            return delegate.upgradeEncoding(encodedPassword);
+        }
+        return Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    private <T> T submit(Callable<T> task, Timer timer) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                if (waitTimer != null) {
+                    waitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                }
+                try {
+                    return task.call();
+                } finally {
+                    if (timer != null) {
+                        timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            throw reject("비밀번호 해시 대기열이 가득 찼습니다. queueSize=" + getQueueSize());
+        }
+
+        try {
+            return future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw reject("비밀번호 해시 대기 시간이 초과되었습니다.");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw reject("비밀번호 해시 대기 중 인터럽트되었습니다.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("비밀번호 해시 중 오류가 발생했습니다.", cause);
+        }
+    }
+
+    private BusinessException reject(String reason) {
+        if (rejectedCounter != null) {
+            rejectedCounter.increment();
+        }
+        log.warn("비밀번호 해시 요청 거절: {}", reason);
+        return new BusinessException(ErrorCode.SERVICE_UNAVAILABLE);
+    }
+
+    private static Timer durationTimer(String operation, MeterRegistry registry) {
+        return Timer.builder(METRIC_PREFIX + ".duration")
+                .description("비밀번호 해시 계산 시간 (큐 대기 제외)")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private static final class HashingThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.cMall.feedShop.user.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Authorization: Bearer 액세스 토큰을 Authentication 으로 바꾸는 필터
+ * - 토큰은 요청마다 미리 만들어 둔 JwtParser 로 한 번만 검증하고, 인증 주체(UserPrincipal)는 클레임만으로 만듭니다 (DB 조회 없음).
+ * - 검증된 인증 정보는 토큰 SHA-256 해시를 키로 한 크기 제한 캐시에 두고, 토큰 exp 또는 max-ttl 중 이른 시각에 만료시킵니다.
+ *   같은 토큰의 반복 요청은 서명 검증과 클레임 파싱을 건너뜁니다.
+ * - 토큰이 없거나 유효하지 않으면 인증 없이 다음 필터로 넘기고, 보호된 리소스는 EntryPoint 가 401 을 반환합니다.
+ */
+@Slf4j
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    public static final String CACHE_NAME = "jwtAuthentication";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final Cache<String, CachedAuthentication> cache;
+
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, long maxSize, Duration maxTtl,
+                                   MeterRegistry registry) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry(maxTtl.toNanos()))
+                .recordStats()
+                .build();
+        if (registry != null) {
+            CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String token = resolveToken(request);
+        if (token != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            Authentication authentication = authenticate(token);
+            if (authentication != null) {
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(authentication);
+                SecurityContextHolder.setContext(context);
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private Authentication authenticate(String token) {
+        String key = hash(token);
+        CachedAuthentication cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached.authentication();
+        }
+
+        Claims claims;
+        UserPrincipal principal;
+        try {
+            claims = jwtTokenProvider.parseClaims(token);
+            // 사용자 클레임이 없는 토큰(리프레시 토큰 등)은 API 인증에 사용할 수 없음
+            principal = jwtTokenProvider.toPrincipal(claims);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("유효하지 않은 JWT: {}", e.getMessage());
+            return null;
+        }
+        if (claims.getExpiration() == null) {
+            return null;
+        }
+
+        Authentication authentication =
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities());
+        cache.put(key, new CachedAuthentication(authentication, claims.getExpiration().getTime()));
+        return authentication;
+    }
+
+    private static String resolveToken(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.startsWith(BEARER_PREFIX)) {
+            return null;
+        }
+        String token = header.substring(BEARER_PREFIX.length()).trim();
+        return token.isEmpty() ? null : token;
+    }
+
+    // 캐시 키: 토큰 원문을 메모리에 남기지 않도록 SHA-256 해시 사용
+    private static String hash(String token) {
+        return TokenHashes.sha256(token);
+    }
+
+    private record CachedAuthentication(Authentication authentication, long expiresAtMillis) {
+    }
+
+    /**
+     * 항목별 만료: 토큰 exp 까지 남은 시간과 max-ttl 중 짧은 쪽. 읽기/갱신은 남은 시간을 바꾸지 않습니다.
+     */
+    private record TokenExpiry(long maxTtlNanos) implements Expiry<String, CachedAuthentication> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedAuthentication value, long currentTime) {
+            long untilExp = Duration.ofMillis(value.expiresAtMillis() - System.currentTimeMillis()).toNanos();
+            return Math.max(0L, Math.min(untilExp, maxTtlNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedAuthentication value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedAuthentication value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
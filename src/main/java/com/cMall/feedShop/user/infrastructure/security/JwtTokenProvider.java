@@ -1,5 +1,6 @@
 package com.cMall.feedShop.user.infrastructure.security;
 
+import com.cMall.feedShop.user.domain.enums.UserRole;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -17,6 +18,10 @@ import java.util.Map;
 @Component
 public class JwtTokenProvider {
 
+    public static final String USER_ID_CLAIM = "userId";
+    public static final String ROLE_CLAIM = "role";
+    public static final String NICKNAME_CLAIM = "nickname";
+
     @Value("${jwt.secret}")
     private String secretKey;
 
@@ -28,6 +33,9 @@ public class JwtTokenProvider {
 
     private Key key;
 
+    // 서명 키가 고정이므로 파서는 한 번만 만들어 재사용 (JwtParser 는 불변/스레드 안전)
+    private JwtParser parser;
+
     @PostConstruct
     public void init() {
         // 시크릿 키는 최소 256비트 (HS256) 또는 512비트 (HS512) 이상을 권장합니다.
@@ -35,22 +43,32 @@ public class JwtTokenProvider {
         // 만약 짧다면, "your_super_secret_key_for_jwt_signing_which_should_be_at_least_256_bit"
         // 와 같이 안전한 값을 사용해야 합니다.
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes());
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
     }
 
-    // AccessToken 생성: subject를 email로 설정하고 role을 클레임에 추가
-    public String generateAccessToken(String email, String role) { // <-- 시그니처 변경: UserDetails 대신 email과 role 직접 받음
+    // AccessToken 생성: subject 는 email, 요청 인증에 필요한 사용자 정보(userId, role, nickname)는 클레임으로 포함
+    // JwtAuthenticationFilter 가 이 클레임만으로 UserPrincipal 을 만들어 요청마다 사용자를 조회하지 않습니다.
+    public String generateAccessToken(Long userId, String email, String role, String nickname) {
         Map<String, Object> claims = new HashMap<>();
-        claims.put("role", role); // 클레임에 사용자 역할 추가
+        claims.put(USER_ID_CLAIM, userId);
+        claims.put(ROLE_CLAIM, role); // 클레임에 사용자 역할 추가
+        if (nickname != null) {
+            claims.put(NICKNAME_CLAIM, nickname);
+        }
 
         return Jwts.builder()
                 .setClaims(claims) // 클레임 설정
-                .setSubject(email) // <-- 토큰의 주체(subject)를 email로 설정
+                .setSubject(email) // 토큰의 주체(subject)를 email로 설정
                 .setIssuedAt(new Date()) // 발행 시간
                 .setExpiration(new Date(System.currentTimeMillis() + accessTokenExpiration)) // 만료 시간
                 .signWith(key, SignatureAlgorithm.HS256) // 서명 알고리즘과 시크릿 키
                 .compact(); // 토큰 생성
     }
 
+    /**
+     * @deprecated 폐기할 수 없는 JWT 리프레시 토큰입니다. 회전/폐기가 가능한 RefreshTokenManager 를 사용하세요.
+     */
+    @Deprecated
     public String generateRefreshToken(String username) {
         // refresh token의 subject도 email로 할지 loginId로 할지 결정해야 합니다.
         // 여기서는 기존대로 username (즉, loginId)을 사용합니다.
@@ -64,7 +82,7 @@ public class JwtTokenProvider {
 
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+            parser.parseClaimsJws(token);
             return true;
         } catch (SecurityException | MalformedJwtException e) {
             log.warn("Invalid JWT signature: {}", e.getMessage()); // JWT 서명 문제
@@ -80,11 +98,28 @@ public class JwtTokenProvider {
 
     // 토큰에서 email (subject)을 가져오는 메서드
     public String getEmailFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return parseClaims(token).getSubject();
+    }
+
+    /**
+     * 서명/만료를 검증하고 클레임을 반환합니다. 검증에 실패하면 JwtException 을 던집니다.
+     * 요청 하나에서 validateToken + getEmailFromToken 처럼 두 번 검증하지 않도록 이 메서드 한 번으로 처리합니다.
+     */
+    public Claims parseClaims(String token) {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    /**
+     * 검증된 액세스 토큰 클레임으로 인증 주체를 만듭니다.
+     * userId/role 클레임이 없는 토큰(리프레시 토큰, 이전 형식 토큰)은 IllegalArgumentException 을 던집니다.
+     */
+    public UserPrincipal toPrincipal(Claims claims) {
+        Long userId = claims.get(USER_ID_CLAIM, Long.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+        if (userId == null || role == null) {
+            throw new IllegalArgumentException("액세스 토큰에 사용자 클레임이 없습니다.");
+        }
+        return new UserPrincipal(userId, claims.getSubject(), UserRole.valueOf(role),
+                claims.get(NICKNAME_CLAIM, String.class));
     }
 }
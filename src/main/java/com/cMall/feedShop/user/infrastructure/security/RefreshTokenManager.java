@@ -1,4 +1,456 @@
 package com.cMall.feedShop.user.infrastructure.security;
 
+import com.cMall.feedShop.common.exception.BusinessException;
+import com.cMall.feedShop.common.exception.ErrorCode;
+import com.cMall.feedShop.user.domain.model.RefreshToken;
+import com.cMall.feedShop.user.domain.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 리프레시 토큰 저장소 (회전 + 재사용 감지)
+ * - 토큰은 SecureRandom 32바이트 불투명 문자열이며, SHA-256 해시를 키로 한 메모리 캐시에서 O(1) 검증합니다.
+ *   캐시에 없으면(다른 인스턴스에서 발급/복구된 토큰) refresh_tokens 를 PK 로 조회해 캐시에 올립니다.
+ * - 회전: 사용한 토큰은 used 로 표시하고 같은 family 의 새 토큰을 발급합니다.
+ *   DB 에 반영된 토큰은 조건부 UPDATE(used = false 인 행만)로 사용 처리하며, 갱신된 행이 없으면
+ *   다른 인스턴스에서 이미 사용/폐기된 것이므로 재사용으로 보고 family 전체를 폐기합니다.
+ * - 로그아웃/폐기는 family 인덱스로 메모리의 토큰들을 지우고, DB 는 family_id 인덱스로 다른 인스턴스 발급분까지 삭제합니다.
+ * - 발급/폐기 쓰기는 모아서 flush-interval 마다 일괄 반영합니다(write-behind). 기동 시 미만료 토큰을 캐시로 미리 올립니다.
+ *   대기 쓰기가 max-pending-writes 이상이면 새 토큰 발급/회전을 503 으로 거절합니다. (DB 장애 시 메모리 보호, 로그아웃은 항상 받음)
+ *   같은 묶음이 max-flush-attempts 번 연속 실패하면 한 건씩 반영하고, 그래도 실패하는 건은 로그를 남기고 버립니다.
+ *   새 토큰은 반영 전(최대 flush-interval)까지 발급한 인스턴스에서만 인식되고,
+ *   반영 전 장애가 나면 마지막 flush 이후 발급분은 유실되어 해당 사용자는 다시 로그인해야 합니다.
+ * - 만료 토큰은 sweep-interval 마다 메모리에서 제거하고, DB 는 expires_at 인덱스 범위로 batch-size 씩 삭제합니다.
+ * 메트릭: feedshop.refresh.token.pending.writes (반영 대기 쓰기 수)
+ */
+@Slf4j
+@Component
 public class RefreshTokenManager {
+
+    public static final String PENDING_WRITES_METRIC = "feedshop.refresh.token.pending.writes";
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final long ttlMillis;
+    private final int batchSize;
+    private final int maxPendingWrites;
+    private final int maxFlushAttempts;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final ConcurrentMap<String, TokenEntry> tokens = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Set<String>> families = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedDeque<PendingWrite> pendingWrites = new ConcurrentLinkedDeque<>();
+    // ConcurrentLinkedDeque.size() 는 O(n) 이므로 대기 건수를 따로 셉니다
+    private final AtomicInteger pendingWriteCount = new AtomicInteger();
+    // 맨 앞 묶음의 연속 실패 횟수 (flush 는 한 번에 하나만 실행)
+    private int failedFlushAttempts;
+
+    @Autowired
+    public RefreshTokenManager(RefreshTokenRepository refreshTokenRepository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${jwt.refresh-token-expiration-ms:1209600000}") long ttlMillis,
+                               @Value("${auth.refresh-token.batch-size:500}") int batchSize,
+                               @Value("${auth.refresh-token.max-pending-writes:100000}") int maxPendingWrites,
+                               @Value("${auth.refresh-token.max-flush-attempts:5}") int maxFlushAttempts,
+                               ObjectProvider<MeterRegistry> meterRegistry) {
+        this(refreshTokenRepository, transactionManager, ttlMillis, batchSize, maxPendingWrites, maxFlushAttempts,
+                Clock.systemUTC(), meterRegistry.getIfAvailable());
+    }
+
+    RefreshTokenManager(RefreshTokenRepository refreshTokenRepository, PlatformTransactionManager transactionManager,
+                        long ttlMillis, int batchSize, int maxPendingWrites, int maxFlushAttempts,
+                        Clock clock, MeterRegistry registry) {
+        if (maxPendingWrites < 1 || maxFlushAttempts < 1) {
+            throw new IllegalArgumentException("대기 쓰기 한도와 반영 시도 횟수는 1 이상이어야 합니다.");
+        }
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ttlMillis = ttlMillis;
+        this.batchSize = batchSize;
+        this.maxPendingWrites = maxPendingWrites;
+        this.maxFlushAttempts = maxFlushAttempts;
+        this.clock = clock;
+        if (registry != null) {
+            Gauge.builder(PENDING_WRITES_METRIC, this, RefreshTokenManager::pendingWriteCount)
+                    .description("DB 반영 대기 중인 리프레시 토큰 쓰기 수")
+                    .register(registry);
+        }
+    }
+
+    /**
+     * 기동 시 DB 의 미만료 토큰으로 메모리 인덱스 복구
+     */
+    @PostConstruct
+    public void restore() {
+        try {
+            List<RefreshToken> stored = refreshTokenRepository.findByExpiresAtGreaterThan(clock.millis());
+            for (RefreshToken token : stored) {
+                cache(token);
+            }
+            log.info("리프레시 토큰 복구 완료 - {}건", stored.size());
+        } catch (RuntimeException e) {
+            log.warn("리프레시 토큰 복구 실패, 빈 인덱스로 시작합니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 로그인 시 새 family 의 리프레시 토큰 발급
+     */
+    public String issue(Long userId) {
+        ensureWriteCapacity();
+        long familyId = secureRandom.nextLong();
+        families.put(familyId, ConcurrentHashMap.newKeySet());
+        return issueInFamily(familyId, userId);
+    }
+
+    /**
+     * 리프레시 토큰 회전
+     * 유효하면 기존 토큰을 사용 처리하고 같은 family 의 새 토큰을 돌려줍니다.
+     * 호출자 트랜잭션이 있으면 사용 처리(조건부 UPDATE)가 그 트랜잭션에 참여하므로 읽기 전용이면 안 됩니다.
+     *
+     * @throws BusinessException 모르는/만료된 토큰이거나 재사용이 감지된 경우 (UNAUTHORIZED),
+     *                           반영 대기 쓰기가 한도에 찬 경우 (SERVICE_UNAVAILABLE)
+     */
+    public Rotation rotate(String rawToken) {
+        ensureWriteCapacity();
+        String hash = TokenHashes.sha256(rawToken);
+        TokenEntry entry = find(hash);
+        if (entry == null) {
+            throw invalidToken();
+        }
+        if (entry.isExpired(clock.millis())) {
+            remove(hash, entry);
+            throw invalidToken();
+        }
+        if (!entry.used.compareAndSet(false, true) || !markUsed(hash, entry)) {
+            log.warn("리프레시 토큰 재사용 감지 - userId: {}, family 전체를 폐기합니다.", entry.userId);
+            revokeFamily(entry.familyId);
+            throw invalidToken();
+        }
+        return new Rotation(entry.userId, issueInFamily(entry.familyId, entry.userId));
+    }
+
+    /**
+     * 로그아웃: 토큰이 속한 family 전체 폐기 (모르는 토큰은 무시)
+     */
+    public void revoke(String rawToken) {
+        TokenEntry entry = find(TokenHashes.sha256(rawToken));
+        if (entry != null) {
+            revokeFamily(entry.familyId);
+        }
+    }
+
+    public int size() {
+        return tokens.size();
+    }
+
+    public int pendingWriteCount() {
+        return pendingWriteCount.get();
+    }
+
+    private void ensureWriteCapacity() {
+        if (pendingWriteCount.get() >= maxPendingWrites) {
+            log.warn("리프레시 토큰 반영 대기 {}건이 한도에 도달해 발급을 거절합니다.", pendingWriteCount.get());
+            throw new BusinessException(ErrorCode.SERVICE_UNAVAILABLE);
+        }
+    }
+
+    private void enqueue(PendingWrite write) {
+        pendingWrites.add(write);
+        pendingWriteCount.incrementAndGet();
+    }
+
+    private String issueInFamily(long familyId, long userId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        String hash = TokenHashes.sha256(rawToken);
+
+        TokenEntry entry = new TokenEntry(familyId, userId, clock.millis() + ttlMillis, false, false);
+        tokens.put(hash, entry);
+        // 동시에 family 가 폐기됐다면 (computeIfPresent 가 null) 새 토큰도 발급하지 않음
+        // insert 는 family 잠금 안에서 넣어, 폐기(family 삭제)보다 항상 먼저 반영되도록 합니다.
+        if (families.computeIfPresent(familyId, (id, hashes) -> {
+            hashes.add(hash);
+            enqueue(new Insert(new RefreshToken(hash, familyId, userId, entry.expiresAt, false), entry));
+            return hashes;
+        }) == null) {
+            tokens.remove(hash, entry);
+            throw invalidToken();
+        }
+        return rawToken;
+    }
+
+    /**
+     * 캐시 조회, 없으면 DB 를 PK 로 조회해 캐시에 올립니다. (다른 인스턴스에서 발급된 토큰)
+     */
+    private TokenEntry find(String hash) {
+        TokenEntry cached = tokens.get(hash);
+        if (cached != null) {
+            return cached;
+        }
+        Optional<RefreshToken> stored = refreshTokenRepository.findById(hash);
+        return stored.map(this::cache).orElse(null);
+    }
+
+    private TokenEntry cache(RefreshToken token) {
+        TokenEntry loaded = new TokenEntry(token.getFamilyId(), token.getUserId(), token.getExpiresAt(), token.isUsed(), true);
+        TokenEntry existing = tokens.putIfAbsent(token.getTokenHash(), loaded);
+        if (existing != null) {
+            return existing;
+        }
+        families.computeIfAbsent(loaded.familyId, id -> ConcurrentHashMap.newKeySet()).add(token.getTokenHash());
+        return loaded;
+    }
+
+    /**
+     * 사용 처리. DB 에 반영된 토큰은 조건부 UPDATE 로 처리하고, 이미 사용/삭제되어 갱신된 행이 없으면 false
+     * 아직 반영 전인 토큰은 이 인스턴스만 알고 있으므로 메모리 표시로 충분하며 DB 는 일괄 반영합니다.
+     */
+    private boolean markUsed(String hash, TokenEntry entry) {
+        if (!entry.persisted) {
+            enqueue(new MarkUsed(hash));
+            return true;
+        }
+        try {
+            Integer updated = transactionTemplate.execute(status -> refreshTokenRepository.markUsedIfUnused(hash));
+            return updated != null && updated > 0;
+        } catch (RuntimeException e) {
+            // DB 오류는 재사용이 아니므로 다시 시도할 수 있게 되돌림
+            entry.used.set(false);
+            throw e;
+        }
+    }
+
+    private void revokeFamily(long familyId) {
+        Set<String> hashes = families.remove(familyId);
+        if (hashes != null) {
+            for (String hash : hashes) {
+                tokens.remove(hash);
+            }
+        }
+        // 다른 인스턴스에서 발급된 같은 family 토큰도 지우도록 family 단위로 삭제
+        enqueue(new DeleteFamily(familyId));
+    }
+
+    private void remove(String hash, TokenEntry entry) {
+        if (tokens.remove(hash, entry)) {
+            families.computeIfPresent(entry.familyId, (id, hashes) -> {
+                hashes.remove(hash);
+                return hashes.isEmpty() ? null : hashes;
+            });
+        }
+    }
+
+    /**
+     * 쌓인 쓰기를 batch-size 단위 트랜잭션으로 반영 (insert -> used 표시 -> family 삭제 순)
+     * 실패한 묶음은 큐 앞에 되돌려 다음 주기에 다시 시도하고, max-flush-attempts 번째 실패에서는 한 건씩 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${auth.refresh-token.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        List<PendingWrite> batch = new ArrayList<>(batchSize);
+        while (true) {
+            batch.clear();
+            PendingWrite write;
+            while (batch.size() < batchSize && (write = pendingWrites.poll()) != null) {
+                pendingWriteCount.decrementAndGet();
+                batch.add(write);
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                writeBatch(batch);
+                failedFlushAttempts = 0;
+            } catch (RuntimeException e) {
+                if (++failedFlushAttempts < maxFlushAttempts) {
+                    for (int i = batch.size() - 1; i >= 0; i--) {
+                        pendingWrites.addFirst(batch.get(i));
+                        pendingWriteCount.incrementAndGet();
+                    }
+                    log.error("리프레시 토큰 반영 실패 ({}/{}) - 대기 {}건, 다음 주기에 재시도: {}",
+                            failedFlushAttempts, maxFlushAttempts, pendingWriteCount(), e.getMessage());
+                    return;
+                }
+                failedFlushAttempts = 0;
+                writeOneByOne(batch);
+            }
+        }
+    }
+
+    /**
+     * 재시도 한도를 넘은 묶음을 한 건씩 반영합니다. 실패하는 건은 뒤의 쓰기를 막지 않도록 로그만 남기고 버립니다.
+     * (버린 발급분은 이 인스턴스 메모리에서만 유효하고, 버린 행은 만료 정리에서 지워집니다)
+     */
+    private void writeOneByOne(List<PendingWrite> batch) {
+        int dropped = 0;
+        for (PendingWrite write : batch) {
+            try {
+                writeBatch(List.of(write));
+            } catch (RuntimeException e) {
+                dropped++;
+                log.error("리프레시 토큰 반영 실패, 버립니다 - {}: {}", write.describe(), e.getMessage());
+            }
+        }
+        log.warn("리프레시 토큰 묶음을 한 건씩 반영 - {}건 중 {}건 실패", batch.size(), dropped);
+    }
+
+    private void writeBatch(List<PendingWrite> batch) {
+        List<RefreshToken> inserts = new ArrayList<>();
+        List<TokenEntry> insertedEntries = new ArrayList<>();
+        List<String> usedHashes = new ArrayList<>();
+        Set<Long> deletedFamilies = new HashSet<>();
+        for (PendingWrite write : batch) {
+            if (write instanceof Insert insert) {
+                inserts.add(insert.token());
+                insertedEntries.add(insert.entry());
+            } else if (write instanceof MarkUsed markUsed) {
+                usedHashes.add(markUsed.tokenHash());
+            } else if (write instanceof DeleteFamily deleteFamily) {
+                deletedFamilies.add(deleteFamily.familyId());
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!inserts.isEmpty()) {
+                refreshTokenRepository.saveAll(inserts);
+            }
+            if (!usedHashes.isEmpty()) {
+                refreshTokenRepository.markUsed(usedHashes);
+            }
+            if (!deletedFamilies.isEmpty()) {
+                refreshTokenRepository.deleteByFamilyIdIn(deletedFamilies);
+            }
+        });
+        // 이후 회전은 DB 조건부 UPDATE 로 다른 인스턴스와 경합을 가림
+        for (TokenEntry entry : insertedEntries) {
+            entry.persisted = true;
+        }
+    }
+
+    /**
+     * 만료 토큰 정리
+     * - 메모리: 인덱스에서 제거 (DB 삭제는 아래 범위 삭제가 담당)
+     * - DB: expires_at 인덱스로 만료분 PK 를 batch-size 씩 조회해 짧은 트랜잭션으로 삭제
+     */
+    @Scheduled(fixedDelayString = "${auth.refresh-token.sweep-interval-ms:600000}")
+    public void sweepExpired() {
+        long now = clock.millis();
+        int removedInMemory = 0;
+        for (var entry : tokens.entrySet()) {
+            if (entry.getValue().isExpired(now)) {
+                remove(entry.getKey(), entry.getValue());
+                removedInMemory++;
+            }
+        }
+
+        int removedInDb = 0;
+        try {
+            List<String> expired;
+            do {
+                expired = refreshTokenRepository.findExpiredTokenHashes(now, PageRequest.of(0, batchSize));
+                if (!expired.isEmpty()) {
+                    List<String> hashes = expired;
+                    transactionTemplate.executeWithoutResult(status -> refreshTokenRepository.deleteAllByIdInBatch(hashes));
+                    removedInDb += expired.size();
+                }
+            } while (expired.size() == batchSize);
+        } catch (RuntimeException e) {
+            log.warn("만료 리프레시 토큰 DB 정리 실패: {}", e.getMessage());
+        }
+
+        if (removedInMemory > 0 || removedInDb > 0) {
+            log.info("만료 리프레시 토큰 정리 - 메모리: {}건, DB: {}건", removedInMemory, removedInDb);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private static BusinessException invalidToken() {
+        return new BusinessException(ErrorCode.UNAUTHORIZED, "유효하지 않은 리프레시 토큰입니다.");
+    }
+
+    /**
+     * 회전 결과: 토큰 주인과 새 리프레시 토큰
+     */
+    public record Rotation(long userId, String refreshToken) {
+    }
+
+    private static final class TokenEntry {
+        private final long familyId;
+        private final long userId;
+        private final long expiresAt;
+        private final AtomicBoolean used;
+        // refresh_tokens 에 반영됨 (다른 인스턴스도 조회 가능)
+        private volatile boolean persisted;
+
+        private TokenEntry(long familyId, long userId, long expiresAt, boolean used, boolean persisted) {
+            this.familyId = familyId;
+            this.userId = userId;
+            this.expiresAt = expiresAt;
+            this.used = new AtomicBoolean(used);
+            this.persisted = persisted;
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+    }
+
+    private sealed interface PendingWrite permits Insert, MarkUsed, DeleteFamily {
+
+        // 로그용 설명 (토큰 해시는 남기지 않음)
+        String describe();
+    }
+
+    private record Insert(RefreshToken token, TokenEntry entry) implements PendingWrite {
+        @Override
+        public String describe() {
+            return "insert(userId=" + token.getUserId() + ", familyId=" + token.getFamilyId() + ")";
+        }
+    }
+
+    private record MarkUsed(String tokenHash) implements PendingWrite {
+        @Override
+        public String describe() {
+            return "markUsed";
+        }
+    }
+
+    private record DeleteFamily(long familyId) implements PendingWrite {
+        @Override
+        public String describe() {
+            return "deleteFamily(familyId=" + familyId + ")";
+        }
+    }
 }
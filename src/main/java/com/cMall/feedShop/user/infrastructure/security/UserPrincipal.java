@@ -0,0 +1,78 @@
+package com.cMall.feedShop.user.infrastructure.security;
+
+import com.cMall.feedShop.user.domain.enums.UserRole;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JWT 클레임만으로 만든 불변 인증 주체
+ * - JPA User 엔티티(지연 로딩 UserProfile 포함) 대신 SecurityContext 에 저장되어,
+ *   authentication.principal.userId 같은 표현식이 DB 조회 없이 평가됩니다.
+ * - 계정 상태(차단/탈퇴)는 토큰 발급(로그인) 시점에 검증되므로 여기서는 항상 활성으로 봅니다.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode(of = {"userId", "email", "role"})
+public final class UserPrincipal implements UserDetails {
+
+    private final Long userId;
+    private final String email;
+    private final UserRole role;
+    private final String nickname;
+    @ToString.Exclude
+    private final List<GrantedAuthority> authorities;
+
+    public UserPrincipal(Long userId, String email, UserRole role, String nickname) {
+        if (userId == null || email == null || role == null) {
+            throw new IllegalArgumentException("userId, email, role 은 필수입니다.");
+        }
+        this.userId = userId;
+        this.email = email;
+        this.role = role;
+        this.nickname = nickname;
+        this.authorities = List.of(new SimpleGrantedAuthority(role.name()));
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    // 비밀번호는 보관하지 않음 (토큰 인증)
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+}
@@ -3,13 +3,15 @@ package com.cMall.feedShop.user.infrastructure.service; // 또는 적절한 패
 import com.cMall.feedShop.user.domain.model.User;
 import com.cMall.feedShop.user.domain.repository.UserRepository;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 // 스프링 컨테이너에 빈으로 등록되도록 @Service 어노테이션을 붙입니다.
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
@@ -23,7 +25,8 @@ public class CustomUserDetailsService implements UserDetailsService {
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         // 여기서 'username' 파라미터는 React에서 보낸 'email' 값입니다.
         // 따라서, email로 사용자를 조회해야 합니다.
-        User user = userRepository.findByEmail(username) // <-- findByLoginId 대신 findByEmail 사용
+        // 로그인 응답에 필요한 프로필까지 한 번의 쿼리로 조회 (UserAuthService 는 인증 결과의 principal 을 그대로 사용)
+        User user = userRepository.findWithProfileByEmail(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + username));
 
         // User 엔티티가 UserDetails를 구현하고 있으므로, User 객체 자체를 반환할 수 있습니다.
@@ -32,6 +35,21 @@ public class CustomUserDetailsService implements UserDetailsService {
         return user;
     }
 
+    /**
+     * 로그인 성공 시 BCrypt cost 가 바뀌었으면 DaoAuthenticationProvider 가 새로 해시한 비밀번호로 호출합니다.
+     * User.getUsername() 은 loginId 를 반환하므로 loginId 로 다시 조회해 비밀번호만 바꿉니다.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        return userRepository.findByLoginId(userDetails.getUsername())
+                .map(user -> {
+                    user.setPassword(newPassword);
+                    return (UserDetails) user;
+                })
+                .orElse(userDetails);
+    }
+
 //    @Override
 //    public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
 //        // 데이터베이스에서 loginId를 사용하여 User 엔티티를 조회합니다.
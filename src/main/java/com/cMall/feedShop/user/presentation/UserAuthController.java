@@ -1,5 +1,6 @@
 package com.cMall.feedShop.user.presentation; // 현재 패키지 유지, 필요시 com.cMall.feedShop.auth.presentation으로 변경 권장
 
+import com.cMall.feedShop.user.application.dto.request.TokenRefreshRequest;
 import com.cMall.feedShop.user.application.dto.request.UserLoginRequest;
 
 import com.cMall.feedShop.user.application.dto.request.UserSignUpRequest;
@@ -40,4 +41,15 @@ public class UserAuthController {
         // 로그인 인증은 AuthService에 위임
         return ResponseEntity.ok(userAuthService.login(request));
     }
+
+    @PostMapping("/refresh") // POST /api/auth/refresh - 액세스 토큰 재발급 (리프레시 토큰 회전)
+    public ResponseEntity<UserLoginResponse> refresh(@Valid @RequestBody TokenRefreshRequest request) {
+        return ResponseEntity.ok(userAuthService.refresh(request.getRefreshToken()));
+    }
+
+    @PostMapping("/logout") // POST /api/auth/logout - 리프레시 토큰 폐기
+    public ResponseEntity<Void> logout(@Valid @RequestBody TokenRefreshRequest request) {
+        userAuthService.logout(request.getRefreshToken());
+        return ResponseEntity.noContent().build();
+    }
 }
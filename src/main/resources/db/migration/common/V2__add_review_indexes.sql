@@ -0,0 +1,22 @@
+-- 리뷰 조회 패턴별 인덱스 (MySQL/H2 공통)
+-- 엔티티(Review, ReviewImage)의 @Table(indexes) 와 동일하게 유지합니다.
+
+-- 상품별/사용자별 최신순 목록 (오프셋/커서 페이징, 상품 집계)
+CREATE INDEX idx_reviews_product_status_created ON reviews (product_id, status, created_at, review_id);
+CREATE INDEX idx_reviews_user_status_created ON reviews (user_id, status, created_at, review_id);
+
+-- 중복 리뷰 확인 (userId + productId + status)
+CREATE INDEX idx_reviews_user_product_status ON reviews (user_id, product_id, status);
+
+-- 상품 내 특성별 필터링
+CREATE INDEX idx_reviews_product_size_fit_status ON reviews (product_id, size_fit, status);
+CREATE INDEX idx_reviews_product_cushion_status ON reviews (product_id, cushion, status);
+CREATE INDEX idx_reviews_product_stability_status ON reviews (product_id, stability, status);
+
+-- 특성별 평균 평점 (rating 포함 커버링 인덱스)
+CREATE INDEX idx_reviews_size_fit_status_rating ON reviews (size_fit, status, rating);
+CREATE INDEX idx_reviews_cushion_status_rating ON reviews (cushion, status, rating);
+CREATE INDEX idx_reviews_stability_status_rating ON reviews (stability, status, rating);
+
+-- 리뷰별 이미지 목록 (순서대로)
+CREATE INDEX idx_review_images_review_order ON review_images (review_id, image_order);
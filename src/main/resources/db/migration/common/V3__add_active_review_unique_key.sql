@@ -0,0 +1,27 @@
+-- 사용자당 상품별 활성 리뷰 1건 제약 (MySQL/H2 공통)
+-- active_user_id 는 ACTIVE 상태일 때만 user_id, 나머지는 NULL 인 생성 컬럼입니다.
+-- 유니크 인덱스는 NULL 을 중복으로 보지 않으므로 삭제/숨김 리뷰는 제약에서 빠지고, 삭제 후 재작성이 가능합니다.
+-- 엔티티(Review)의 active_user_id 컬럼 정의, @Table(uniqueConstraints) 와 동일하게 유지합니다.
+
+-- 기존 중복 활성 리뷰 정리: 같은 (user_id, product_id) 중 가장 최근 리뷰만 남기고 DELETED 처리
+-- (MySQL 은 갱신 대상 테이블을 서브쿼리에서 직접 참조할 수 없어 파생 테이블로 한 번 감쌉니다)
+-- 상품 집계(product_review_stats)는 다음 재계산 배치에서 맞춰집니다.
+UPDATE reviews
+SET status = 'DELETED'
+WHERE review_id IN (
+    SELECT review_id FROM (
+        SELECT older.review_id
+        FROM reviews older
+        JOIN reviews newer
+          ON newer.user_id = older.user_id
+         AND newer.product_id = older.product_id
+         AND newer.status = 'ACTIVE'
+         AND newer.review_id > older.review_id
+        WHERE older.status = 'ACTIVE'
+    ) duplicated
+);
+
+ALTER TABLE reviews
+    ADD COLUMN active_user_id BIGINT GENERATED ALWAYS AS (CASE WHEN status = 'ACTIVE' THEN user_id END);
+
+CREATE UNIQUE INDEX uk_reviews_active_user_product ON reviews (product_id, active_user_id);
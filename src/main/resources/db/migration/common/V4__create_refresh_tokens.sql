@@ -0,0 +1,14 @@
+-- 리프레시 토큰 (MySQL/H2 공통)
+-- 토큰 원문 대신 SHA-256 해시(base64url 43자)를 PK 로 저장하고, 시각은 epoch millis 로 저장합니다.
+-- 유효성 검사/회전/로그아웃은 애플리케이션 메모리 인덱스에서 처리하고, 이 테이블은 재시작 복구용으로 일괄 반영됩니다.
+-- 엔티티(RefreshToken)의 컬럼/인덱스 정의와 동일하게 유지합니다.
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    token_hash VARCHAR(43) NOT NULL,
+    family_id  BIGINT      NOT NULL,
+    user_id    BIGINT      NOT NULL,
+    expires_at BIGINT      NOT NULL,
+    used       BOOLEAN     NOT NULL DEFAULT FALSE,
+    PRIMARY KEY (token_hash)
+);
+
+CREATE INDEX idx_refresh_tokens_expires_at ON refresh_tokens (expires_at);
@@ -0,0 +1,3 @@
+-- 리뷰 검색 색인 동기화 (재시작 시 스냅샷 이후 변경분만 조회)
+-- 엔티티(Review)의 @Table(indexes) 와 동일하게 유지합니다.
+CREATE INDEX idx_reviews_updated_at ON reviews (updated_at, review_id);
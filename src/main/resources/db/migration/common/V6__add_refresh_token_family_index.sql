@@ -0,0 +1,3 @@
+-- 리프레시 토큰 family 단위 삭제 (로그아웃/재사용 감지 시 다른 인스턴스 발급분까지 삭제)
+-- 엔티티(RefreshToken)의 @Table(indexes) 와 동일하게 유지합니다.
+CREATE INDEX idx_refresh_tokens_family_id ON refresh_tokens (family_id);
@@ -0,0 +1,3 @@
+-- review_images ID 할당용 시퀀스 (allocationSize 와 동일한 증가폭)
+
+CREATE SEQUENCE IF NOT EXISTS review_images_seq START WITH 1 INCREMENT BY 50;
@@ -0,0 +1,31 @@
+-- 상품별 리뷰 집계 테이블 (H2 - 테스트/로컬)
+-- 기존 운영 DB 는 V1 이 baseline 처리되어 실행되지 않으므로, V1 이후 추가된 테이블은 별도 버전으로 만듭니다.
+-- 엔티티(ProductReviewStats)의 컬럼 정의와 동일하게 유지합니다.
+
+CREATE TABLE IF NOT EXISTS product_review_stats (
+    product_id         BIGINT      NOT NULL,
+    review_count       BIGINT      NOT NULL,
+    rating_sum         BIGINT      NOT NULL,
+    rating_1_count     BIGINT      NOT NULL,
+    rating_2_count     BIGINT      NOT NULL,
+    rating_3_count     BIGINT      NOT NULL,
+    rating_4_count     BIGINT      NOT NULL,
+    rating_5_count     BIGINT      NOT NULL,
+    size_fit_1_count   BIGINT      NOT NULL,
+    size_fit_2_count   BIGINT      NOT NULL,
+    size_fit_3_count   BIGINT      NOT NULL,
+    size_fit_4_count   BIGINT      NOT NULL,
+    size_fit_5_count   BIGINT      NOT NULL,
+    cushion_1_count    BIGINT      NOT NULL,
+    cushion_2_count    BIGINT      NOT NULL,
+    cushion_3_count    BIGINT      NOT NULL,
+    cushion_4_count    BIGINT      NOT NULL,
+    cushion_5_count    BIGINT      NOT NULL,
+    stability_1_count  BIGINT      NOT NULL,
+    stability_2_count  BIGINT      NOT NULL,
+    stability_3_count  BIGINT      NOT NULL,
+    stability_4_count  BIGINT      NOT NULL,
+    stability_5_count  BIGINT      NOT NULL,
+    updated_at         TIMESTAMP(6),
+    PRIMARY KEY (product_id)
+);
@@ -0,0 +1,26 @@
+-- 리뷰 모듈 테이블 (H2 - 테스트/로컬)
+
+CREATE TABLE IF NOT EXISTS reviews (
+    review_id    BIGINT        GENERATED BY DEFAULT AS IDENTITY,
+    user_id      BIGINT        NOT NULL,
+    product_id   BIGINT        NOT NULL,
+    review_title VARCHAR(100),
+    rating       INT           NOT NULL,
+    content      VARCHAR(1000),
+    size_fit     VARCHAR(20),
+    cushion      VARCHAR(20),
+    stability    VARCHAR(20),
+    status       VARCHAR(20)   NOT NULL,
+    created_at   TIMESTAMP(6)  NOT NULL,
+    updated_at   TIMESTAMP(6),
+    PRIMARY KEY (review_id)
+);
+
+CREATE TABLE IF NOT EXISTS review_images (
+    image_id    BIGINT       NOT NULL,
+    review_id   BIGINT       NOT NULL,
+    image_url   VARCHAR(500) NOT NULL,
+    image_order INT,
+    created_at  TIMESTAMP(6)  NOT NULL,
+    PRIMARY KEY (image_id)
+);
@@ -0,0 +1,15 @@
+-- review_images ID 할당용 시퀀스 테이블 (MySQL 은 시퀀스 미지원 - Hibernate 테이블 방식)
+-- 기존 데이터가 있는 DB 도 실행되므로, 기존 최대 ID 이후부터 할당되도록 맞춥니다.
+-- Hibernate pooled 옵티마이저는 읽은 값 v 에 대해 v-49..v 를 할당하므로 (allocationSize 50)
+-- 시작 값은 최대 ID + 50 이어야 첫 구간이 기존 ID 와 겹치지 않습니다.
+
+CREATE TABLE IF NOT EXISTS review_images_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO review_images_seq (next_val)
+SELECT COALESCE(MAX(image_id), 0) + 50 FROM review_images
+WHERE NOT EXISTS (SELECT 1 FROM review_images_seq);
+
+UPDATE review_images_seq
+SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(image_id), 0) + 50 FROM review_images));
@@ -0,0 +1,28 @@
+-- 리뷰 모듈 테이블 (MySQL)
+-- 기존 운영 DB 는 baseline(V1) 처리되므로 신규 환경에서만 실행됩니다.
+-- 기존 운영 스키마의 스냅샷이므로 수정하지 않고, 새 테이블은 이후 버전(V1_2 등)으로 추가합니다.
+
+CREATE TABLE IF NOT EXISTS reviews (
+    review_id    BIGINT        NOT NULL AUTO_INCREMENT,
+    user_id      BIGINT        NOT NULL,
+    product_id   BIGINT        NOT NULL,
+    review_title VARCHAR(100),
+    rating       INT           NOT NULL,
+    content      VARCHAR(1000),
+    size_fit     VARCHAR(20),
+    cushion      VARCHAR(20),
+    stability    VARCHAR(20),
+    status       VARCHAR(20)   NOT NULL,
+    created_at   DATETIME(6)   NOT NULL,
+    updated_at   DATETIME(6),
+    PRIMARY KEY (review_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS review_images (
+    image_id    BIGINT       NOT NULL,
+    review_id   BIGINT       NOT NULL,
+    image_url   VARCHAR(500) NOT NULL,
+    image_order INT,
+    created_at  DATETIME(6)  NOT NULL,
+    PRIMARY KEY (image_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
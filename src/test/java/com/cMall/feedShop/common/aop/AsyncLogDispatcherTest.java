@@ -0,0 +1,72 @@
+package com.cMall.feedShop.common.aop;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.cMall.feedShop.common.trace.TraceContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncLogDispatcherTest {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(LoggingAspect.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        TraceContext.clear();
+    }
+
+    @Test
+    @DisplayName("Given start log queued before error_When drain_Then error is written after start with stack trace and trace id")
+    void givenStartLogQueuedBeforeError_whenDrain_thenErrorIsWrittenAfterStartWithStackTraceAndTraceId() throws InterruptedException {
+        // given
+        AsyncLogDispatcher dispatcher = new AsyncLogDispatcher(100, 10, 100);
+        TraceContext.set("trace-1");
+
+        // when
+        dispatcher.dispatch(Level.INFO, "[API-START] {}", "ReviewController.create");
+        dispatcher.dispatchError("[API-ERROR] {}", "ReviewController.create", new IllegalStateException("boom"));
+        dispatcher.destroy();
+
+        // then
+        List<String> messages = appender.list.stream().map(ILoggingEvent::getFormattedMessage).toList();
+        assertEquals(List.of("[API-START] ReviewController.create", "[API-ERROR] ReviewController.create"), messages);
+        ILoggingEvent error = appender.list.get(1);
+        assertEquals("boom", error.getThrowableProxy().getMessage());
+        assertEquals("trace-1", error.getMDCPropertyMap().get(TraceContext.TRACE_ID_KEY));
+        assertEquals("trace-1", TraceContext.current());
+    }
+
+    @Test
+    @DisplayName("Given stopped dispatcher_When dispatch error_Then write it on the caller thread instead of dropping it")
+    void givenStoppedDispatcher_whenDispatchError_thenWriteItOnCallerThreadInsteadOfDropping() throws InterruptedException {
+        // given - 종료된 전송기 (큐를 비울 워커 없음)
+        AsyncLogDispatcher dispatcher = new AsyncLogDispatcher(1, 1, 10);
+        dispatcher.destroy();
+        TraceContext.set("trace-2");
+
+        // when
+        dispatcher.dispatchError("[DB-ERROR] {}", "ReviewRepository.save", new IllegalStateException("db down"));
+
+        // then
+        assertEquals(1, appender.list.size());
+        assertEquals("trace-2", appender.list.get(0).getMDCPropertyMap().get(TraceContext.TRACE_ID_KEY));
+        assertEquals("trace-2", TraceContext.current());
+    }
+}
@@ -0,0 +1,76 @@
+package com.cMall.feedShop.common.aop;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogPayloadTest {
+
+    @Test
+    @DisplayName("Given sensitive fields_When render args_Then mask password card number and email")
+    void givenSensitiveFields_whenRenderArgs_thenMaskPasswordCardNumberAndEmail() {
+        // given
+        Object[] args = {
+                "LoginRequest(password=secret123, email=user@example.com)",
+                "Payment(card=1234-5678-9012-3456)",
+                null
+        };
+
+        // when
+        String rendered = LogPayload.args(args).toString();
+
+        // then
+        assertEquals("[LoginRequest(password=***, email=user***@example.com), "
+                + "Payment(card=****-****-****-****), null]", rendered);
+    }
+
+    @Test
+    @DisplayName("Given long result_When render result_Then summarize and mask")
+    void givenLongResult_whenRenderResult_thenSummarizeAndMask() {
+        // given
+        String longResult = "password=secret " + "x".repeat(300);
+
+        // when
+        String rendered = LogPayload.result(longResult).toString();
+
+        // then
+        assertTrue(rendered.startsWith("String[password=*** x"));
+        assertTrue(rendered.endsWith("...]"));
+        assertFalse(rendered.contains("secret"));
+    }
+
+    @Test
+    @DisplayName("Given argument mutated after capture_When render on worker_Then keep value at capture time")
+    void givenArgumentMutatedAfterCapture_whenRenderOnWorker_thenKeepValueAtCaptureTime() {
+        // given - 요청 스레드에서 페이로드를 만든 뒤 인자가 바뀜
+        StringBuilder request = new StringBuilder("Order(status=PENDING)");
+        LogPayload payload = LogPayload.args(new Object[]{request});
+        request.setLength(0);
+        request.append("Order(status=CHANGED)");
+
+        // when
+        String rendered = payload.toString();
+
+        // then
+        assertEquals("[Order(status=PENDING)]", rendered);
+    }
+
+    @Test
+    @DisplayName("Given object failing toString_When render_Then return placeholder instead of throwing")
+    void givenObjectFailingToString_whenRender_thenReturnPlaceholder() {
+        // given
+        Object broken = new Object() {
+            @Override
+            public String toString() {
+                throw new IllegalStateException("no session");
+            }
+        };
+
+        // when
+        String rendered = LogPayload.result(broken).toString();
+
+        // then
+        assertTrue(rendered.contains("IllegalStateException"));
+    }
+}
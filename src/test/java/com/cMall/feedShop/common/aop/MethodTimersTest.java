@@ -0,0 +1,86 @@
+package com.cMall.feedShop.common.aop;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class MethodTimersTest {
+
+    private MeterRegistry registry;
+    private ProceedingJoinPoint joinPoint;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        registry = new SimpleMeterRegistry();
+
+        SampleService bean = new SampleService();
+        MethodSignature signature = mock(MethodSignature.class);
+        when(signature.getMethod()).thenReturn(SampleService.class.getMethod("findReview"));
+
+        joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(joinPoint.getThis()).thenReturn(bean);
+        when(joinPoint.getTarget()).thenReturn(bean);
+    }
+
+    @Test
+    @DisplayName("Given repeated calls_When record_Then reuse one timer tagged by layer class and method")
+    void givenRepeatedCalls_whenRecord_thenReuseOneTimerTaggedByLayerClassAndMethod() {
+        // given
+        MethodTimers methodTimers = new MethodTimers(provider(registry), true);
+
+        // when
+        methodTimers.record("service", joinPoint, TimeUnit.MILLISECONDS.toNanos(5), true);
+        methodTimers.record("service", joinPoint, TimeUnit.MILLISECONDS.toNanos(15), true);
+        methodTimers.record("service", joinPoint, TimeUnit.MILLISECONDS.toNanos(20), false);
+
+        // then
+        Timer success = registry.get(MethodTimers.METRIC_NAME)
+                .tags("layer", "service", "class", "SampleService", "method", "findReview", "outcome", "SUCCESS")
+                .timer();
+        assertEquals(2, success.count());
+        assertEquals(20.0, success.totalTime(TimeUnit.MILLISECONDS), 0.001);
+
+        Timer error = registry.get(MethodTimers.METRIC_NAME).tags("outcome", "ERROR").timer();
+        assertEquals(1, error.count());
+        assertEquals(2, registry.find(MethodTimers.METRIC_NAME).timers().size());
+    }
+
+    @Test
+    @DisplayName("Given metrics disabled_When record_Then register nothing")
+    void givenMetricsDisabled_whenRecord_thenRegisterNothing() {
+        // given
+        MethodTimers methodTimers = new MethodTimers(provider(registry), false);
+
+        // when
+        methodTimers.record("service", joinPoint, 1_000, true);
+
+        // then
+        assertFalse(methodTimers.isEnabled());
+        assertTrue(registry.getMeters().isEmpty());
+    }
+
+    @SuppressWarnings("unchecked")
+    private ObjectProvider<MeterRegistry> provider(MeterRegistry meterRegistry) {
+        ObjectProvider<MeterRegistry> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(meterRegistry);
+        return provider;
+    }
+
+    static class SampleService {
+        public String findReview() {
+            return "review";
+        }
+    }
+}
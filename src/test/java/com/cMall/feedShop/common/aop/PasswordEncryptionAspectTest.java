@@ -0,0 +1,76 @@
+package com.cMall.feedShop.common.aop;
+
+import com.cMall.feedShop.annotation.CustomEncryption;
+import com.cMall.feedShop.user.domain.service.PasswordEncryptionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class PasswordEncryptionAspectTest {
+
+    private PasswordEncryptionService passwordEncryptionService;
+    private PasswordEncryptionAspect aspect;
+
+    @BeforeEach
+    void setUp() {
+        passwordEncryptionService = mock(PasswordEncryptionService.class);
+        when(passwordEncryptionService.encrypt(anyString())).thenAnswer(invocation -> "enc(" + invocation.getArgument(0) + ")");
+        aspect = new PasswordEncryptionAspect(passwordEncryptionService);
+    }
+
+    @Test
+    @DisplayName("Given annotated fields in class hierarchy_When field encryption_Then encrypt only annotated string fields")
+    void givenAnnotatedFieldsInClassHierarchy_whenFieldEncryption_thenEncryptOnlyAnnotatedStringFields() {
+        // given
+        ChangePasswordRequest request = new ChangePasswordRequest("old-pw", "new-pw", "user01");
+
+        // when
+        aspect.fieldEncryption(request);
+
+        // then
+        assertEquals("enc(old-pw)", request.currentPassword);
+        assertEquals("enc(new-pw)", request.newPassword);
+        assertEquals("user01", request.loginId);
+    }
+
+    @Test
+    @DisplayName("Given null value or class without annotated fields_When field encryption_Then skip")
+    void givenNullValueOrClassWithoutAnnotatedFields_whenFieldEncryption_thenSkip() {
+        // given
+        ChangePasswordRequest emptyRequest = new ChangePasswordRequest(null, null, "user01");
+
+        // when
+        aspect.fieldEncryption(emptyRequest);
+        aspect.fieldEncryption("plain string argument");
+        aspect.fieldEncryption(null);
+
+        // then
+        assertNull(emptyRequest.currentPassword);
+        verifyNoInteractions(passwordEncryptionService);
+    }
+
+    static class PasswordRequest {
+        @CustomEncryption
+        protected String currentPassword;
+
+        PasswordRequest(String currentPassword) {
+            this.currentPassword = currentPassword;
+        }
+    }
+
+    static class ChangePasswordRequest extends PasswordRequest {
+        @CustomEncryption
+        private String newPassword;
+        private final String loginId;
+
+        ChangePasswordRequest(String currentPassword, String newPassword, String loginId) {
+            super(currentPassword);
+            this.newPassword = newPassword;
+            this.loginId = loginId;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.cMall.feedShop.common.trace;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MdcTaskDecoratorTest {
+
+    private final MdcTaskDecorator decorator = new MdcTaskDecorator();
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("Given trace id on caller_When task runs on pool thread_Then trace id is propagated and restored")
+    void givenTraceIdOnCaller_whenTaskRunsOnPoolThread_thenTraceIdIsPropagatedAndRestored() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // given
+            executor.submit(() -> TraceContext.set("pool-thread-own")).get();
+            TraceContext.set("request-1");
+
+            // when - 호출 스레드에서 감싸고 풀 스레드에서 실행
+            AtomicReference<String> seen = new AtomicReference<>();
+            executor.submit(decorator.decorate(() -> seen.set(TraceContext.current()))).get();
+
+            // then
+            assertEquals("request-1", seen.get());
+            assertEquals("pool-thread-own", executor.submit(TraceContext::current).get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Given no MDC on caller_When task runs_Then worker MDC is empty during task")
+    void givenNoMdcOnCaller_whenTaskRuns_thenWorkerMdcIsEmptyDuringTask() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // given
+            executor.submit(() -> TraceContext.set("stale")).get();
+            Runnable task = decorator.decorate(() -> assertNull(TraceContext.current()));
+
+            // when & then
+            executor.submit(task).get();
+            assertEquals("stale", executor.submit(TraceContext::current).get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.cMall.feedShop.common.trace;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TraceIdFilterTest {
+
+    private final TraceIdFilter filter = new TraceIdFilter();
+
+    @AfterEach
+    void tearDown() {
+        TraceContext.clear();
+    }
+
+    @Test
+    @DisplayName("Given incoming trace id header_When filter_Then reuse it in MDC and response")
+    void givenIncomingTraceIdHeader_whenFilter_thenReuseItInMdcAndResponse() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/reviews/1");
+        request.addHeader(TraceContext.TRACE_ID_HEADER, "gateway-abc.123");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<String> traceIdInChain = new AtomicReference<>();
+
+        // when
+        filter.doFilter(request, response, (req, res) -> traceIdInChain.set(TraceContext.current()));
+
+        // then
+        assertEquals("gateway-abc.123", traceIdInChain.get());
+        assertEquals("gateway-abc.123", response.getHeader(TraceContext.TRACE_ID_HEADER));
+        assertNull(TraceContext.current());
+    }
+
+    @Test
+    @DisplayName("Given missing or unsafe header_When filter_Then generate new trace id")
+    void givenMissingOrUnsafeHeader_whenFilter_thenGenerateNewTraceId() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/reviews/1");
+        request.addHeader(TraceContext.TRACE_ID_HEADER, "abc\nINFO forged log line");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request, response, new MockFilterChain());
+
+        // then
+        String traceId = response.getHeader(TraceContext.TRACE_ID_HEADER);
+        assertNotNull(traceId);
+        assertTrue(TraceContext.isValid(traceId));
+        assertNotEquals("abc\nINFO forged log line", traceId);
+    }
+
+    @Test
+    @DisplayName("Given many threads_When generate trace ids_Then all ids are unique")
+    void givenManyThreads_whenGenerateTraceIds_thenAllIdsAreUnique() throws InterruptedException {
+        // given
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        for (int i = 0; i < 8; i++) {
+            executor.execute(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    ids.add(TraceContext.generate());
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        // then
+        assertEquals(80_000, ids.size());
+    }
+}
@@ -0,0 +1,181 @@
+package com.cMall.feedShop.config;
+
+import com.cMall.feedShop.common.trace.TraceContext;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * vthreads 프로파일 검증 (Java 21 이상에서만 실행: ./gradlew test -PjavaVersion=21)
+ * - Tomcat 요청 스레드와 applicationTaskExecutor 가 가상 스레드인지
+ * - traceId(MDC) 전파, 트랜잭션 경계, Hikari 풀 크기 제한
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.datasource.url=jdbc:h2:mem:vthreads;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE")
+@ActiveProfiles({"test", "vthreads"})
+class VirtualThreadExecutionTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private AsyncTaskExecutor taskExecutor;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @AfterEach
+    void tearDown() {
+        TraceContext.clear();
+    }
+
+    @Test
+    @DisplayName("Given vthreads profile_When HTTP request_Then handled on virtual thread with request trace id")
+    void givenVthreadsProfile_whenHttpRequest_thenHandledOnVirtualThreadWithRequestTraceId() {
+        // given
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(TraceContext.TRACE_ID_HEADER, "vthread-request-1");
+
+        // when
+        ResponseEntity<Map> response = restTemplate.exchange(
+                "/public/test/thread-probe", HttpMethod.GET, new HttpEntity<>(headers), Map.class);
+
+        // then
+        assertTrue(response.getStatusCode().is2xxSuccessful());
+        assertEquals(Boolean.TRUE, response.getBody().get("virtual"));
+        assertEquals("vthread-request-1", response.getBody().get("traceId"));
+    }
+
+    @Test
+    @DisplayName("Given trace id on caller_When task runs on applicationTaskExecutor_Then virtual thread sees trace id")
+    void givenTraceIdOnCaller_whenTaskRunsOnApplicationTaskExecutor_thenVirtualThreadSeesTraceId() throws Exception {
+        // given
+        TraceContext.set("async-1");
+
+        // when
+        AtomicReference<String> seen = new AtomicReference<>();
+        Boolean virtual = taskExecutor.submit(() -> {
+            seen.set(TraceContext.current());
+            return isVirtual(Thread.currentThread());
+        }).get();
+
+        // then
+        assertTrue(virtual);
+        assertEquals("async-1", seen.get());
+    }
+
+    @Test
+    @DisplayName("Given transaction on virtual thread_When task is handed to executor_Then transaction does not cross threads")
+    void givenTransactionOnVirtualThread_whenTaskIsHandedToExecutor_thenTransactionDoesNotCrossThreads() throws Exception {
+        // given
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // when
+        List<Boolean> observed = taskExecutor.submit(() -> transactionTemplate.execute(status -> {
+            boolean outer = TransactionSynchronizationManager.isActualTransactionActive();
+            try {
+                boolean inner = taskExecutor.submit(TransactionSynchronizationManager::isActualTransactionActive).get();
+                return List.of(outer, inner);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        })).get();
+
+        // then
+        assertEquals(List.of(true, false), observed);
+        assertFalse(TransactionSynchronizationManager.isActualTransactionActive());
+    }
+
+    @Test
+    @DisplayName("Given more concurrent transactions than pool size_When all run on virtual threads_Then pool stays bounded and drains")
+    void givenMoreConcurrentTransactionsThanPoolSize_whenAllRunOnVirtualThreads_thenPoolStaysBoundedAndDrains() throws Exception {
+        // given
+        HikariDataSource hikari = assertInstanceOf(HikariDataSource.class, dataSource);
+        int maxPoolSize = hikari.getMaximumPoolSize();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // when
+        List<Future<Long>> results = new ArrayList<>();
+        for (int i = 0; i < maxPoolSize * 10; i++) {
+            results.add(taskExecutor.submit(() -> transactionTemplate.execute(
+                    status -> jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class))));
+        }
+        for (Future<Long> result : results) {
+            assertNotNull(result.get());
+        }
+
+        // then
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        assertEquals(20, maxPoolSize);
+        assertEquals(5000L, hikari.getConnectionTimeout());
+        assertTrue(pool.getTotalConnections() <= maxPoolSize);
+        assertEquals(0, pool.getActiveConnections());
+    }
+
+    // 기본 빌드(Java 17)에서도 컴파일되도록 Thread.isVirtual() 은 리플렉션으로 호출
+    private static boolean isVirtual(Thread thread) {
+        try {
+            return (boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+        } catch (ReflectiveOperationException e) {
+            return false;
+        }
+    }
+
+    @TestConfiguration
+    static class ThreadProbeConfig {
+
+        @Bean
+        ThreadProbeController threadProbeController() {
+            return new ThreadProbeController();
+        }
+    }
+
+    @RestController
+    static class ThreadProbeController {
+
+        @GetMapping("/public/test/thread-probe")
+        Map<String, Object> probe() {
+            return Map.of("virtual", isVirtual(Thread.currentThread()),
+                    "traceId", String.valueOf(TraceContext.current()));
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.cMall.feedShop.review.application.service;
+
+import com.cMall.feedShop.config.CacheConfig;
+import com.cMall.feedShop.review.application.ProductReviewStatsService;
+import com.cMall.feedShop.review.domain.entity.Cushion;
+import com.cMall.feedShop.review.domain.entity.ProductReviewStats;
+import com.cMall.feedShop.review.domain.entity.Review;
+import com.cMall.feedShop.review.domain.entity.ReviewAggregate;
+import com.cMall.feedShop.review.domain.entity.ReviewSnapshot;
+import com.cMall.feedShop.review.domain.entity.ReviewStatus;
+import com.cMall.feedShop.review.domain.entity.SizeFit;
+import com.cMall.feedShop.review.domain.entity.Stability;
+import com.cMall.feedShop.review.domain.repository.ProductReviewStatsRepository;
+import com.cMall.feedShop.review.domain.repository.ReviewRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig({CacheConfig.class, ProductReviewStatsService.class})
+class ProductReviewAggregateCacheTest {
+
+    @Autowired
+    private ProductReviewStatsService productReviewStatsService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockBean
+    private ProductReviewStatsRepository statsRepository;
+
+    @MockBean
+    private ReviewRepository reviewRepository;
+
+    private ProductReviewStats stats;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CacheConfig.PRODUCT_REVIEW_AGGREGATE).clear();
+        stats = ProductReviewStats.from(ReviewAggregate.empty(1L));
+
+        when(statsRepository.findById(1L)).thenReturn(Optional.of(stats));
+        when(statsRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(stats));
+    }
+
+    @Test
+    @DisplayName("Given cached aggregate_When get aggregate again_Then skip stats table")
+    void givenCachedAggregate_whenGetAggregateAgain_thenSkipStatsTable() {
+        // when
+        productReviewStatsService.getAggregate(1L);
+        productReviewStatsService.getAggregate(1L);
+
+        // then
+        verify(statsRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Given cached aggregate_When review of product changes_Then evict and reload")
+    void givenCachedAggregate_whenReviewOfProductChanges_thenEvictAndReload() {
+        // given
+        assertTrue(productReviewStatsService.getAggregate(1L).isEmpty());
+
+        // when
+        productReviewStatsService.applyChange(null, ReviewSnapshot.of(review(1L)));
+
+        // then
+        ReviewAggregate reloaded = productReviewStatsService.getAggregate(1L);
+        assertEquals(1L, reloaded.getTotalReviews());
+        verify(statsRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Given cached aggregates_When other product changes_Then keep cached entry")
+    void givenCachedAggregates_whenOtherProductChanges_thenKeepCachedEntry() {
+        // given
+        ProductReviewStats otherStats = ProductReviewStats.from(ReviewAggregate.empty(2L));
+        when(statsRepository.findByIdForUpdate(2L)).thenReturn(Optional.of(otherStats));
+        productReviewStatsService.getAggregate(1L);
+
+        // when
+        productReviewStatsService.applyChange(null, ReviewSnapshot.of(review(2L)));
+        productReviewStatsService.getAggregate(1L);
+
+        // then
+        verify(statsRepository, times(1)).findById(1L);
+    }
+
+    private Review review(Long productId) {
+        return Review.builder()
+                .reviewId(10L)
+                .userId(1L)
+                .productId(productId)
+                .content("집계 캐시 테스트용 리뷰입니다")
+                .rating(5)
+                .sizeFit(SizeFit.PERFECT)
+                .cushioning(Cushion.SOFT)
+                .stability(Stability.STABLE)
+                .status(ReviewStatus.ACTIVE)
+                .build();
+    }
+}
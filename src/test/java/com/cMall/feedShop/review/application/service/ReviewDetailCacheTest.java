@@ -0,0 +1,121 @@
+package com.cMall.feedShop.review.application.service;
+
+import com.cMall.feedShop.config.CacheConfig;
+import com.cMall.feedShop.review.application.ProductReviewStatsService;
+import com.cMall.feedShop.review.application.ReviewSearchIndexer;
+import com.cMall.feedShop.review.application.ReviewService;
+import com.cMall.feedShop.review.application.dto.request.ReviewUpdateRequest;
+import com.cMall.feedShop.review.application.dto.response.ReviewDetailResponse;
+import com.cMall.feedShop.review.domain.entity.Cushion;
+import com.cMall.feedShop.review.domain.entity.Review;
+import com.cMall.feedShop.review.domain.entity.ReviewStatus;
+import com.cMall.feedShop.review.domain.entity.SizeFit;
+import com.cMall.feedShop.review.domain.entity.Stability;
+import com.cMall.feedShop.review.domain.repository.ReviewImageRepository;
+import com.cMall.feedShop.review.domain.repository.ReviewRepository;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.ArrayList;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig({CacheConfig.class, ReviewService.class})
+class ReviewDetailCacheTest {
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockBean
+    private ReviewRepository reviewRepository;
+
+    @MockBean
+    private ReviewImageRepository reviewImageRepository;
+
+    @MockBean
+    private ProductReviewStatsService productReviewStatsService;
+
+    @MockBean
+    private ReviewSearchIndexer reviewSearchIndexer;
+
+    private Review review;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CacheConfig.REVIEW_DETAIL).clear();
+
+        review = Review.builder()
+                .reviewId(1L)
+                .userId(1L)
+                .productId(1L)
+                .content("캐시 테스트용 리뷰 내용입니다")
+                .rating(5)
+                .sizeFit(SizeFit.PERFECT)
+                .cushioning(Cushion.SOFT)
+                .stability(Stability.STABLE)
+                .status(ReviewStatus.ACTIVE)
+                .build();
+
+        when(reviewRepository.findById(1L)).thenReturn(Optional.of(review));
+        when(reviewImageRepository.findByReviewIdOrderByImageOrder(1L)).thenReturn(new ArrayList<>());
+    }
+
+    @Test
+    @DisplayName("Given cached review detail_When get review detail again_Then skip repository")
+    void givenCachedReviewDetail_whenGetReviewDetailAgain_thenSkipRepository() {
+        // when
+        ReviewDetailResponse first = reviewService.getReviewDetail(1L);
+        ReviewDetailResponse second = reviewService.getReviewDetail(1L);
+
+        // then
+        assertSame(first, second);
+        verify(reviewRepository, times(1)).findById(1L);
+        verify(reviewImageRepository, times(1)).findByReviewIdOrderByImageOrder(1L);
+
+        CacheStats stats = nativeCache().stats();
+        assertEquals(1L, stats.hitCount());
+        assertEquals(1L, stats.missCount());
+    }
+
+    @Test
+    @DisplayName("Given cached review detail_When update or hide review_Then evict cached detail")
+    void givenCachedReviewDetail_whenUpdateOrHideReview_thenEvictCachedDetail() {
+        // given
+        reviewService.getReviewDetail(1L);
+
+        // when - 수정
+        reviewService.updateReview(1L, ReviewUpdateRequest.builder().rating(3).build());
+
+        // then
+        assertEquals(3, reviewService.getReviewDetail(1L).getRating());
+
+        // when - 숨김
+        reviewService.hideReview(1L);
+        reviewService.getReviewDetail(1L);
+
+        // then - 최초 조회 + 수정 + 수정 후 조회 + 숨김 + 숨김 후 조회
+        verify(reviewRepository, times(5)).findById(1L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache() {
+        Cache cache = cacheManager.getCache(CacheConfig.REVIEW_DETAIL);
+        if (cache instanceof TransactionAwareCacheDecorator decorator) {
+            cache = decorator.getTargetCache();
+        }
+        return (com.github.benmanes.caffeine.cache.Cache<Object, Object>) cache.getNativeCache();
+    }
+}
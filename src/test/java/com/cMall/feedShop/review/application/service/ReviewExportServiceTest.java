@@ -0,0 +1,132 @@
+package com.cMall.feedShop.review.application.service;
+
+import com.cMall.feedShop.review.application.ReviewExportFormat;
+import com.cMall.feedShop.review.application.ReviewExportService;
+import com.cMall.feedShop.review.domain.entity.Cushion;
+import com.cMall.feedShop.review.domain.entity.ReviewStatus;
+import com.cMall.feedShop.review.domain.entity.SizeFit;
+import com.cMall.feedShop.review.domain.entity.Stability;
+import com.cMall.feedShop.review.domain.repository.ReviewExportRow;
+import com.cMall.feedShop.review.infrastructure.jpa.ReviewExportReader;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewExportServiceTest {
+
+    @Mock
+    private ReviewExportReader reviewExportReader;
+
+    private ObjectMapper objectMapper;
+    private ReviewExportService reviewExportService;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        reviewExportService = new ReviewExportService(reviewExportReader, objectMapper);
+    }
+
+    @Test
+    @DisplayName("Given streamed reviews_When export as NDJSON_Then write one JSON object per line with image urls")
+    void givenStreamedReviews_whenExportAsNdjson_thenWriteOneJsonObjectPerLineWithImageUrls() throws IOException {
+        // given
+        givenRows(
+                row(1L, "편한 신발", "쿠션이 좋아요", List.of("https://example.com/1-1.jpg", "https://example.com/1-2.jpg")),
+                row(2L, "보통", "그냥 그래요", List.of()));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        reviewExportService.exportProductReviews(1L, ReviewExportFormat.NDJSON, out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals(1L, first.get("reviewId").asLong());
+        assertEquals("편한 신발", first.get("reviewTitle").asText());
+        assertEquals("PERFECT", first.get("sizeFit").asText());
+        assertEquals(2, first.get("imageUrls").size());
+        assertEquals("2025-01-01T12:00:00", first.get("createdAt").asText());
+        assertEquals(0, objectMapper.readTree(lines[1]).get("imageUrls").size());
+    }
+
+    @Test
+    @DisplayName("Given content with comma quote and newline_When export as CSV_Then quote fields per RFC 4180")
+    void givenContentWithCommaQuoteAndNewline_whenExportAsCsv_thenQuoteFieldsPerRfc4180() throws IOException {
+        // given
+        givenRows(row(1L, "좋아요, 추천", "발볼이 \"넓은\" 편\n두 번째 줄", List.of("https://example.com/a.jpg", "https://example.com/b.jpg")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        reviewExportService.exportProductReviews(1L, ReviewExportFormat.CSV, out);
+
+        // then
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertEquals("reviewId,userId,productId,reviewTitle,content,rating,sizeFit,cushioning,stability,createdAt,imageUrls\r\n"
+                        + "1,10,1,\"좋아요, 추천\",\"발볼이 \"\"넓은\"\" 편\n두 번째 줄\",5,PERFECT,NORMAL,STABLE,2025-01-01T12:00,"
+                        + "https://example.com/a.jpg https://example.com/b.jpg\r\n",
+                csv);
+    }
+
+    @Test
+    @DisplayName("Given client disconnects_When export_Then rethrow IOException")
+    void givenClientDisconnects_whenExport_thenRethrowIoException() {
+        // given
+        givenRows(row(1L, "제목", "내용", List.of()), row(2L, "제목", "내용", List.of()));
+        OutputStream broken = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // when & then
+        assertThrows(IOException.class,
+                () -> reviewExportService.exportProductReviews(1L, ReviewExportFormat.CSV, broken));
+    }
+
+    @Test
+    @DisplayName("Given unknown format name_When parse export format_Then throw IllegalArgumentException")
+    void givenUnknownFormatName_whenParseExportFormat_thenThrowIllegalArgumentException() {
+        assertEquals(ReviewExportFormat.CSV, ReviewExportFormat.from("csv"));
+        assertThrows(IllegalArgumentException.class, () -> ReviewExportFormat.from("xlsx"));
+    }
+
+    private void givenRows(ReviewExportRow... rows) {
+        when(reviewExportReader.forEachByProduct(eq(1L), eq(ReviewStatus.ACTIVE), any())).thenAnswer(invocation -> {
+            Consumer<ReviewExportRow> consumer = invocation.getArgument(2);
+            for (ReviewExportRow row : rows) {
+                consumer.accept(row);
+            }
+            return (long) rows.length;
+        });
+    }
+
+    private ReviewExportRow row(Long reviewId, String title, String content, List<String> imageUrls) {
+        return new ReviewExportRow(reviewId, reviewId * 10, 1L, title, content, 5,
+                SizeFit.PERFECT, Cushion.NORMAL, Stability.STABLE, LocalDateTime.of(2025, 1, 1, 12, 0), imageUrls);
+    }
+}
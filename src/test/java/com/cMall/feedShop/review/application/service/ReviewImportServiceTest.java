@@ -0,0 +1,181 @@
+package com.cMall.feedShop.review.application.service;
+
+import com.cMall.feedShop.review.application.ProductReviewStatsService;
+import com.cMall.feedShop.review.application.ReviewImportFormat;
+import com.cMall.feedShop.review.application.ReviewImportRow;
+import com.cMall.feedShop.review.application.ReviewImportService;
+import com.cMall.feedShop.review.application.ReviewImportWriter;
+import com.cMall.feedShop.review.application.dto.response.ReviewImportResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewImportServiceTest {
+
+    private static final String CSV_HEADER = "userId,productId,reviewTitle,rating,content,sizeFit,cushioning,stability,imageUrls\n";
+
+    @Mock
+    private ReviewImportWriter reviewImportWriter;
+
+    @Mock
+    private ProductReviewStatsService productReviewStatsService;
+
+    private ReviewImportService reviewImportService;
+
+    @BeforeEach
+    void setUp() {
+        reviewImportService = new ReviewImportService(reviewImportWriter, productReviewStatsService,
+                new ObjectMapper(), 2, 2, 100);
+    }
+
+    @Test
+    @DisplayName("Given sample-data json_When import_Then write every review in batches and rebuild stats per product")
+    void givenSampleDataJson_whenImport_thenWriteEveryReviewInBatchesAndRebuildStatsPerProduct() throws IOException {
+        // given
+        when(reviewImportWriter.write(anyList())).thenReturn(List.of());
+
+        // when
+        ReviewImportResponse response;
+        try (InputStream in = getClass().getResourceAsStream("/data/sample-data.json")) {
+            response = reviewImportService.importReviews(in, ReviewImportFormat.JSON);
+        }
+
+        // then - 샘플 20건, 상품 5개
+        assertTrue(response.isCompleted());
+        assertEquals(20, response.getTotalRows());
+        assertEquals(20, response.getImportedRows());
+        assertEquals(0, response.getFailedRows());
+        assertTrue(response.getErrors().isEmpty());
+        verify(reviewImportWriter, times(10)).write(anyList());
+        verify(productReviewStatsService, times(5)).rebuild(anyLong());
+    }
+
+    @Test
+    @DisplayName("Given csv with invalid and duplicate rows_When import_Then skip them with row errors and import the rest")
+    void givenCsvWithInvalidAndDuplicateRows_whenImport_thenSkipThemWithRowErrorsAndImportTheRest() {
+        // given
+        when(reviewImportWriter.write(anyList())).thenReturn(List.of());
+        String csv = CSV_HEADER +
+                "1,1,\"편한, 신발\",5,\"쿠션이 \"\"정말\"\" 좋아요\nㅎㅎ\",PERFECT,SOFT,STABLE,https://example.com/1.jpg https://example.com/2.jpg\n" +
+                "2,1,평점 오류,6,내용,PERFECT,SOFT,STABLE,\n" +
+                "3,1,사이즈 오류,4,내용,HUGE,SOFT,STABLE,\n" +
+                "1,1,중복,4,내용,PERFECT,SOFT,STABLE,\n" +
+                "4,2,정상,4,내용,small,normal,stable,\n";
+
+        // when
+        ReviewImportResponse response = reviewImportService.importReviews(input(csv), ReviewImportFormat.CSV);
+
+        // then
+        assertEquals(5, response.getTotalRows());
+        assertEquals(2, response.getImportedRows());
+        assertEquals(3, response.getFailedRows());
+        assertEquals(List.of(2L, 3L, 4L), response.getErrors().stream().map(ReviewImportResponse.RowError::getRow).toList());
+        assertEquals("평점은 1점에서 5점 사이여야 합니다.", response.getErrors().get(0).getMessage());
+        verify(reviewImportWriter).write(argThat(rows -> rows.size() == 2
+                && rows.get(0).request().getContent().equals("쿠션이 \"정말\" 좋아요\nㅎㅎ")
+                && rows.get(0).request().getImageUrls().size() == 2));
+        verify(productReviewStatsService).rebuild(1L);
+        verify(productReviewStatsService).rebuild(2L);
+    }
+
+    @Test
+    @DisplayName("Given batch write fails_When import_Then retry row by row and report only the failing row")
+    void givenBatchWriteFails_whenImport_thenRetryRowByRowAndReportOnlyTheFailingRow() {
+        // given - 2행이 저장 시 제약 위반
+        when(reviewImportWriter.write(anyList())).thenAnswer(invocation -> {
+            List<ReviewImportRow> rows = invocation.getArgument(0);
+            if (rows.stream().anyMatch(row -> row.rowNumber() == 2)) {
+                throw new DataIntegrityViolationException("uk_reviews_active_user_product");
+            }
+            return List.of();
+        });
+        String csv = CSV_HEADER +
+                "1,1,제목,5,내용,PERFECT,SOFT,STABLE,\n" +
+                "2,1,제목,4,내용,PERFECT,SOFT,STABLE,\n";
+
+        // when
+        ReviewImportResponse response = reviewImportService.importReviews(input(csv), ReviewImportFormat.CSV);
+
+        // then - 배치 1회 + 행 단위 2회
+        assertEquals(1, response.getImportedRows());
+        assertEquals(1, response.getFailedRows());
+        assertEquals(2L, response.getErrors().get(0).getRow());
+        verify(reviewImportWriter, times(3)).write(anyList());
+    }
+
+    @Test
+    @DisplayName("Given rows already reviewed in db_When import_Then report them as duplicates")
+    void givenRowsAlreadyReviewedInDb_whenImport_thenReportThemAsDuplicates() {
+        // given
+        when(reviewImportWriter.write(anyList())).thenAnswer(invocation -> {
+            List<ReviewImportRow> rows = invocation.getArgument(0);
+            return rows.subList(1, rows.size());
+        });
+        String csv = CSV_HEADER +
+                "1,1,제목,5,내용,PERFECT,SOFT,STABLE,\n" +
+                "2,1,제목,4,내용,PERFECT,SOFT,STABLE,\n";
+
+        // when
+        ReviewImportResponse response = reviewImportService.importReviews(input(csv), ReviewImportFormat.CSV);
+
+        // then
+        assertEquals(1, response.getImportedRows());
+        assertEquals(1, response.getFailedRows());
+        assertEquals("이미 해당 상품에 대한 리뷰를 작성하셨습니다.", response.getErrors().get(0).getMessage());
+    }
+
+    @Test
+    @DisplayName("Given json broken in the middle_When import_Then keep rows read so far and mark import incomplete")
+    void givenJsonBrokenInTheMiddle_whenImport_thenKeepRowsReadSoFarAndMarkImportIncomplete() {
+        // given
+        when(reviewImportWriter.write(anyList())).thenReturn(List.of());
+        String json = "{\"reviews\": [" +
+                "{\"userId\": 1, \"productId\": 1, \"rating\": 5, \"sizeFit\": \"PERFECT\", \"cushioning\": \"SOFT\", \"stability\": \"STABLE\"}," +
+                "{\"userId\": 2, \"productId\": 1, \"rating\": \"다섯\", \"sizeFit\": \"PERFECT\", \"cushioning\": \"SOFT\", \"stability\": \"STABLE\"}," +
+                "{\"userId\": 3, \"productId\": ";
+
+        // when
+        ReviewImportResponse response = reviewImportService.importReviews(input(json), ReviewImportFormat.JSON);
+
+        // then
+        assertFalse(response.isCompleted());
+        assertEquals(2, response.getTotalRows());
+        assertEquals(1, response.getImportedRows());
+        assertEquals(1, response.getFailedRows());
+        assertEquals(List.of(2L, 3L), response.getErrors().stream().map(ReviewImportResponse.RowError::getRow).toList());
+        verify(productReviewStatsService).rebuild(1L);
+    }
+
+    @Test
+    @DisplayName("Given csv without required column_When import_Then throw IllegalArgumentException")
+    void givenCsvWithoutRequiredColumn_whenImport_thenThrowIllegalArgumentException() {
+        // given
+        String csv = "userId,productId,rating\n1,1,5\n";
+
+        // when & then
+        assertThrows(IllegalArgumentException.class,
+                () -> reviewImportService.importReviews(input(csv), ReviewImportFormat.CSV));
+        verifyNoInteractions(reviewImportWriter, productReviewStatsService);
+    }
+
+    private InputStream input(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,102 @@
+package com.cMall.feedShop.review.application.service;
+
+import com.cMall.feedShop.review.application.ReviewSearchIndexer;
+import com.cMall.feedShop.review.domain.entity.Cushion;
+import com.cMall.feedShop.review.domain.entity.Review;
+import com.cMall.feedShop.review.domain.entity.ReviewStatus;
+import com.cMall.feedShop.review.domain.entity.SizeFit;
+import com.cMall.feedShop.review.domain.entity.Stability;
+import com.cMall.feedShop.review.domain.repository.ReviewRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 다른 인스턴스에서 쓴 리뷰가 주기적 변경분 반영으로 색인에 들어오는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class ReviewSearchIndexerTest {
+
+    private static final long CATCH_UP_MARGIN_MS = 60_000L;
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    private ReviewSearchIndexer reviewSearchIndexer;
+
+    @BeforeEach
+    void setUp() {
+        // 스냅샷 없이 시작하므로 DB 에서 전체 재구축
+        reviewSearchIndexer = new ReviewSearchIndexer(reviewRepository, "", CATCH_UP_MARGIN_MS);
+        when(reviewRepository.findNextBatchByStatus(eq(0L), eq(ReviewStatus.ACTIVE), any(Pageable.class)))
+                .thenReturn(List.of(review(1L)));
+        reviewSearchIndexer.restore();
+    }
+
+    @Test
+    @DisplayName("Given review written on another instance_When refresh changes_Then index contains the review")
+    void givenReviewWrittenOnAnotherInstance_whenRefreshChanges_thenIndexContainsTheReview() {
+        // given
+        LocalDateTime beforeRefresh = LocalDateTime.now();
+        when(reviewRepository.findChangedAfter(any(LocalDateTime.class), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(review(2L)));
+
+        // when
+        reviewSearchIndexer.refreshChanges();
+
+        // then
+        assertEquals(2, reviewSearchIndexer.size());
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(reviewRepository).findChangedAfter(since.capture(), eq(0L), any(Pageable.class));
+        assertFalse(since.getValue().isAfter(beforeRefresh.minusNanos(CATCH_UP_MARGIN_MS * 1_000_000)));
+    }
+
+    @Test
+    @DisplayName("Given changes already caught up_When refresh changes again_Then read from previous refresh time minus margin")
+    void givenChangesAlreadyCaughtUp_whenRefreshChangesAgain_thenReadFromPreviousRefreshTimeMinusMargin() {
+        // given
+        when(reviewRepository.findChangedAfter(any(LocalDateTime.class), anyLong(), any(Pageable.class)))
+                .thenReturn(List.of());
+        reviewSearchIndexer.refreshChanges();
+        LocalDateTime firstRefreshDone = LocalDateTime.now();
+
+        // when
+        reviewSearchIndexer.refreshChanges();
+
+        // then
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(reviewRepository, times(2)).findChangedAfter(since.capture(), eq(0L), any(Pageable.class));
+        assertFalse(since.getAllValues().get(1).isBefore(since.getAllValues().get(0)));
+        assertFalse(since.getAllValues().get(1).isAfter(firstRefreshDone.minusNanos(CATCH_UP_MARGIN_MS * 1_000_000)));
+    }
+
+    private Review review(Long reviewId) {
+        return Review.builder()
+                .reviewId(reviewId)
+                .userId(reviewId)
+                .productId(1L)
+                .reviewTitle("색인 동기화 테스트")
+                .content("다른 인스턴스에서 작성된 리뷰입니다")
+                .rating(5)
+                .sizeFit(SizeFit.PERFECT)
+                .cushioning(Cushion.SOFT)
+                .stability(Stability.STABLE)
+                .status(ReviewStatus.ACTIVE)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -1,29 +1,56 @@
 package com.cMall.feedShop.review.application.service;
 
+import com.cMall.feedShop.review.application.ProductReviewStatsService;
+import com.cMall.feedShop.review.application.ReviewCursor;
+import com.cMall.feedShop.review.application.ReviewSearchIndexer;
 import com.cMall.feedShop.review.application.ReviewService;
 import com.cMall.feedShop.review.domain.entity.Review;
+import com.cMall.feedShop.review.domain.entity.ReviewAggregate;
+import com.cMall.feedShop.review.domain.entity.ReviewImage;
+import com.cMall.feedShop.review.domain.entity.ReviewSnapshot;
 import com.cMall.feedShop.review.domain.entity.ReviewStatus;
 import com.cMall.feedShop.review.domain.entity.SizeFit;
 import com.cMall.feedShop.review.domain.entity.Cushion;
 import com.cMall.feedShop.review.domain.entity.Stability;
+import com.cMall.feedShop.review.domain.event.ReviewChangedEvent;
 import com.cMall.feedShop.review.domain.repository.ReviewRepository;
 import com.cMall.feedShop.review.domain.repository.ReviewImageRepository; // 추가
+import com.cMall.feedShop.review.infrastructure.search.ReviewSearchIndex;
 import com.cMall.feedShop.review.application.dto.request.ReviewCreateRequest;
+import com.cMall.feedShop.review.application.dto.request.ReviewFilterRequest;
+import com.cMall.feedShop.review.application.dto.request.ReviewSearchRequest;
 import com.cMall.feedShop.review.application.dto.request.ReviewUpdateRequest;
+import com.cMall.feedShop.review.application.dto.response.ProductReviewSummaryResponse;
 import com.cMall.feedShop.review.application.dto.response.ReviewCreateResponse;
+import com.cMall.feedShop.review.application.dto.response.ReviewCursorResponse;
+import com.cMall.feedShop.review.application.dto.response.ReviewFacetResponse;
+import com.cMall.feedShop.review.application.dto.response.ReviewSearchResponse;
+import com.cMall.feedShop.review.application.dto.response.ReviewSummaryResponse;
 import com.cMall.feedShop.review.application.dto.response.ReviewDetailResponse;
 import com.cMall.feedShop.review.application.exception.ReviewException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import static org.mockito.Mockito.*;
 import static org.junit.jupiter.api.Assertions.*;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.List;
+import java.util.Map;
 import java.util.ArrayList;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +62,15 @@ public class ReviewServiceTest {
     @Mock
     private ReviewImageRepository reviewImageRepository; // Mock 추가
 
+    @Mock
+    private ProductReviewStatsService productReviewStatsService;
+
+    @Mock
+    private ReviewSearchIndexer reviewSearchIndexer;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ReviewService reviewService;
 
@@ -71,8 +107,7 @@ public class ReviewServiceTest {
     @DisplayName("Given 5-level shoe characteristics_When create review_Then return detailed response")
     void given5LevelShoeCharacteristics_whenCreateReview_thenReturnDetailedResponse() {
         // given
-        when(reviewRepository.existsByUserIdAndProductIdAndStatusActive(1L, 1L)).thenReturn(false);
-        when(reviewRepository.save(any(Review.class))).thenReturn(review);
+        when(reviewRepository.saveAndFlush(any(Review.class))).thenReturn(review);
 
         // when
         ReviewCreateResponse response = reviewService.createReview(createRequest);
@@ -83,7 +118,8 @@ public class ReviewServiceTest {
         assertEquals(SizeFit.PERFECT, response.getSizeFit());
         assertEquals(Cushion.VERY_SOFT, response.getCushioning());
         assertEquals(Stability.VERY_STABLE, response.getStability());
-        verify(reviewRepository, times(1)).save(any(Review.class));
+        verify(reviewRepository, times(1)).saveAndFlush(any(Review.class));
+        verify(productReviewStatsService, times(1)).applyChange(isNull(), any(ReviewSnapshot.class));
     }
 
     @Test
@@ -112,8 +148,7 @@ public class ReviewServiceTest {
                 .status(ReviewStatus.ACTIVE)
                 .build();
 
-        when(reviewRepository.existsByUserIdAndProductIdAndStatusActive(1L, 2L)).thenReturn(false);
-        when(reviewRepository.save(any(Review.class))).thenReturn(extremeReview);
+        when(reviewRepository.saveAndFlush(any(Review.class))).thenReturn(extremeReview);
 
         // when
         ReviewCreateResponse response = reviewService.createReview(extremeRequest);
@@ -127,6 +162,69 @@ public class ReviewServiceTest {
         assertTrue(response.getContent().contains("최악의 신발"));
     }
 
+    @Test
+    @DisplayName("Given multiple image urls_When create review_Then save images in one batch")
+    @SuppressWarnings("unchecked")
+    void givenMultipleImageUrls_whenCreateReview_thenSaveImagesInOneBatch() {
+        // given
+        ReviewCreateRequest requestWithImages = ReviewCreateRequest.builder()
+                .content(createRequest.getContent())
+                .rating(5)
+                .userId(1L)
+                .productId(1L)
+                .sizeFit(SizeFit.PERFECT)
+                .cushioning(Cushion.VERY_SOFT)
+                .stability(Stability.VERY_STABLE)
+                .imageUrls(List.of("https://img/1.jpg", "https://img/2.jpg", "https://img/3.jpg"))
+                .build();
+
+        when(reviewRepository.saveAndFlush(any(Review.class))).thenReturn(review);
+
+        // when
+        ReviewCreateResponse response = reviewService.createReview(requestWithImages);
+
+        // then
+        ArgumentCaptor<List<ReviewImage>> imagesCaptor = ArgumentCaptor.forClass(List.class);
+        verify(reviewImageRepository, times(1)).saveAll(imagesCaptor.capture());
+        verify(reviewImageRepository, never()).save(any(ReviewImage.class));
+
+        List<ReviewImage> savedImages = imagesCaptor.getValue();
+        assertEquals(3, savedImages.size());
+        assertEquals(1, savedImages.get(0).getImageOrder());
+        assertEquals(3, savedImages.get(2).getImageOrder());
+        assertTrue(savedImages.stream().allMatch(image -> image.getReviewId().equals(1L)));
+        assertEquals(3, response.getImageUrls().size());
+    }
+
+    @Test
+    @DisplayName("Given active review unique key violation_When create review_Then throw review already exists")
+    void givenActiveReviewUniqueKeyViolation_whenCreateReview_thenThrowReviewAlreadyExists() {
+        // given - 동시 요청 등으로 이미 활성 리뷰가 있으면 INSERT 시 유니크 제약 위반
+        ConstraintViolationException violation = new ConstraintViolationException(
+                "duplicate key", new SQLException(), "PUBLIC.UK_REVIEWS_ACTIVE_USER_PRODUCT_INDEX_8");
+        when(reviewRepository.saveAndFlush(any(Review.class)))
+                .thenThrow(new DataIntegrityViolationException("could not execute statement", violation));
+
+        // when & then
+        assertThrows(ReviewException.ReviewAlreadyExistsException.class,
+                () -> reviewService.createReview(createRequest));
+        verifyNoInteractions(reviewImageRepository, productReviewStatsService);
+    }
+
+    @Test
+    @DisplayName("Given other integrity violation_When create review_Then rethrow original exception")
+    void givenOtherIntegrityViolation_whenCreateReview_thenRethrowOriginalException() {
+        // given
+        DataIntegrityViolationException notNullViolation = new DataIntegrityViolationException(
+                "could not execute statement",
+                new ConstraintViolationException("null value", new SQLException(), "NN_REVIEWS_RATING"));
+        when(reviewRepository.saveAndFlush(any(Review.class))).thenThrow(notNullViolation);
+
+        // when & then
+        assertSame(notNullViolation, assertThrows(DataIntegrityViolationException.class,
+                () -> reviewService.createReview(createRequest)));
+    }
+
     // RE-02: 5단계 필터링으로 리뷰 목록 조회
     @Test
     @DisplayName("Given very big size filter_When get filtered reviews_Then return matching reviews")
@@ -149,7 +247,7 @@ public class ReviewServiceTest {
                 .thenReturn(reviews);
 
         // ReviewImageRepository Mock 설정 추가
-        when(reviewImageRepository.findByReviewIdOrderByImageOrder(any())).thenReturn(new ArrayList<>());
+        when(reviewImageRepository.findAllByReviewIdIn(anyCollection())).thenReturn(new ArrayList<>());
 
         // when
         List<ReviewDetailResponse> responses = reviewService.getReviewsBySizeFit(productId, targetSizeFit);
@@ -181,7 +279,7 @@ public class ReviewServiceTest {
                 .thenReturn(reviews);
 
         // ReviewImageRepository Mock 설정 추가
-        when(reviewImageRepository.findByReviewIdOrderByImageOrder(any())).thenReturn(new ArrayList<>());
+        when(reviewImageRepository.findAllByReviewIdIn(anyCollection())).thenReturn(new ArrayList<>());
 
         // when
         List<ReviewDetailResponse> responses = reviewService.getReviewsByCushioning(productId, targetCushioning);
@@ -214,6 +312,131 @@ public class ReviewServiceTest {
         assertEquals(Stability.VERY_STABLE, response.getStability());
     }
 
+    @Test
+    @DisplayName("Given page of user reviews_When get user reviews_Then load images in one query")
+    void givenPageOfUserReviews_whenGetUserReviews_thenLoadImagesInOneQuery() {
+        // given
+        Long userId = 1L;
+        Pageable pageable = PageRequest.of(0, 20);
+        Review secondReview = Review.builder()
+                .reviewId(2L)
+                .content("두 번째 리뷰입니다. 이미지가 없어요")
+                .rating(4)
+                .userId(userId)
+                .productId(2L)
+                .sizeFit(SizeFit.BIG)
+                .cushioning(Cushion.SOFT)
+                .stability(Stability.STABLE)
+                .status(ReviewStatus.ACTIVE)
+                .build();
+
+        when(reviewRepository.findByUserIdAndStatus(userId, ReviewStatus.ACTIVE, pageable))
+                .thenReturn(new PageImpl<>(List.of(review, secondReview), pageable, 2));
+        when(reviewImageRepository.findAllByReviewIdIn(List.of(1L, 2L))).thenReturn(List.of(
+                ReviewImage.builder().imageId(10L).reviewId(1L).imageUrl("https://img/1-1.jpg").imageOrder(1).build(),
+                ReviewImage.builder().imageId(11L).reviewId(1L).imageUrl("https://img/1-2.jpg").imageOrder(2).build()
+        ));
+
+        // when
+        Page<ReviewDetailResponse> responses = reviewService.getUserReviews(userId, pageable);
+
+        // then
+        assertEquals(2, responses.getContent().size());
+        assertEquals(List.of("https://img/1-1.jpg", "https://img/1-2.jpg"), responses.getContent().get(0).getImageUrls());
+        assertTrue(responses.getContent().get(1).getImageUrls().isEmpty());
+        verify(reviewImageRepository, times(1)).findAllByReviewIdIn(anyCollection());
+        verify(reviewImageRepository, never()).findByReviewIdOrderByImageOrder(any());
+    }
+
+    @Test
+    @DisplayName("Given product reviews_When get product reviews_Then fetch page slice and aggregate without count query")
+    void givenProductReviews_whenGetProductReviews_thenFetchSliceAndAggregateWithoutCount() {
+        // given
+        Long productId = 1L;
+        Pageable pageable = PageRequest.of(0, 10);
+        long[] ratings = {0, 0, 1, 0, 3};
+        long[] sizeFits = {0, 0, 4, 0, 0};
+        long[] cushionings = {0, 4, 0, 0, 0};
+        long[] stabilities = {0, 0, 0, 4, 0};
+
+        when(reviewRepository.findSliceByProductIdAndStatus(productId, ReviewStatus.ACTIVE, pageable))
+                .thenReturn(new SliceImpl<>(List.of(review), pageable, false));
+        when(productReviewStatsService.getAggregate(productId))
+                .thenReturn(ReviewAggregate.of(productId, 4L, 18L, ratings, sizeFits, cushionings, stabilities));
+        when(reviewImageRepository.findAllByReviewIdIn(anyCollection())).thenReturn(new ArrayList<>());
+
+        // when
+        ProductReviewSummaryResponse response = reviewService.getProductReviews(productId, pageable);
+
+        // then
+        assertEquals(4L, response.getTotalReviews());
+        assertEquals(4.5, response.getAverageRating());
+        assertEquals(3L, response.getRatingDistribution().getFiveStar());
+        assertEquals("PERFECT", response.getMostCommonSizeFit());
+        assertEquals(1, response.getRecentReviews().size());
+        verify(reviewRepository, never()).findByProductIdAndStatus(any(), any(), any());
+        verify(reviewRepository, never()).countByProductIdAndStatus(any(), any());
+        verify(reviewRepository, never()).findAverageRatingByProductId(any());
+    }
+
+    @Test
+    @DisplayName("Given more reviews than page size_When get product reviews by cursor_Then return next cursor of last item")
+    void givenMoreReviewsThanPageSize_whenGetProductReviewsByCursor_thenReturnNextCursor() {
+        // given
+        Long productId = 1L;
+        LocalDateTime now = LocalDateTime.of(2025, 7, 1, 12, 0, 0);
+        List<Review> fetched = List.of(
+                reviewAt(30L, now),
+                reviewAt(20L, now.minusMinutes(1)),
+                reviewAt(10L, now.minusMinutes(2))
+        );
+        when(reviewRepository.findFirstPageByProductId(eq(productId), eq(ReviewStatus.ACTIVE), argThat(p -> p.getPageSize() == 3)))
+                .thenReturn(fetched);
+        when(reviewImageRepository.findAllByReviewIdIn(anyCollection())).thenReturn(new ArrayList<>());
+
+        // when
+        ReviewCursorResponse<ReviewSummaryResponse> response = reviewService.getProductReviewsByCursor(productId, null, 2);
+
+        // then
+        assertEquals(2, response.getSize());
+        assertTrue(response.isHasNext());
+        ReviewCursor next = ReviewCursor.decode(response.getNextCursor());
+        assertEquals(20L, next.getReviewId());
+        assertEquals(now.minusMinutes(1), next.getCreatedAt());
+        verify(reviewRepository, never()).countByProductIdAndStatus(any(), any());
+    }
+
+    @Test
+    @DisplayName("Given cursor_When get product reviews by cursor_Then seek after cursor and finish on last page")
+    void givenCursor_whenGetProductReviewsByCursor_thenSeekAfterCursor() {
+        // given
+        Long productId = 1L;
+        LocalDateTime createdAt = LocalDateTime.of(2025, 7, 1, 11, 59, 0);
+        String cursor = ReviewCursor.from(reviewAt(20L, createdAt)).encode();
+
+        when(reviewRepository.findNextPageByProductId(eq(productId), eq(ReviewStatus.ACTIVE), eq(createdAt), eq(20L), any()))
+                .thenReturn(List.of(reviewAt(10L, createdAt.minusMinutes(1))));
+        when(reviewImageRepository.findAllByReviewIdIn(anyCollection())).thenReturn(new ArrayList<>());
+
+        // when
+        ReviewCursorResponse<ReviewSummaryResponse> response = reviewService.getProductReviewsByCursor(productId, cursor, 2);
+
+        // then
+        assertEquals(1, response.getSize());
+        assertFalse(response.isHasNext());
+        assertNull(response.getNextCursor());
+        assertEquals(10L, response.getContent().get(0).getReviewId());
+    }
+
+    @Test
+    @DisplayName("Given malformed cursor_When get user reviews by cursor_Then throw exception")
+    void givenMalformedCursor_whenGetUserReviewsByCursor_thenThrowException() {
+        // when & then
+        assertThrows(IllegalArgumentException.class,
+                () -> reviewService.getUserReviewsByCursor(1L, "not-a-valid-cursor", 10));
+        verifyNoInteractions(reviewRepository);
+    }
+
     // RE-04: 시간 경과에 따른 특성 변화 업데이트
     @Test
     @DisplayName("Given wearing time effect_When update review characteristics_Then reflect changes")
@@ -239,5 +462,115 @@ public class ReviewServiceTest {
         // then
         verify(reviewRepository, times(1)).findById(reviewId);
         verify(reviewRepository, times(1)).save(any(Review.class));
+        verify(productReviewStatsService, times(1)).applyChange(
+                argThat(before -> before.getRating() == 5 && before.getSizeFit() == SizeFit.PERFECT),
+                argThat(after -> after.getRating() == 3 && after.getSizeFit() == SizeFit.BIG));
+    }
+
+    @Test
+    @DisplayName("Given owner_When delete review_Then mark deleted and remove from stats")
+    void givenOwner_whenDeleteReview_thenMarkDeletedAndRemoveFromStats() {
+        // given
+        Long reviewId = 1L;
+        when(reviewRepository.findById(reviewId)).thenReturn(Optional.of(review));
+
+        // when
+        reviewService.deleteReview(reviewId, 1L);
+
+        // then
+        assertTrue(review.isDeleted());
+        verify(reviewRepository, times(1)).saveAndFlush(review);
+        verify(productReviewStatsService, times(1)).applyChange(
+                argThat(ReviewSnapshot::isActive),
+                argThat(after -> !after.isActive()));
+        verify(eventPublisher, times(1)).publishEvent(
+                argThat((Object event) -> event instanceof ReviewChangedEvent changed && !changed.getAfter().isActive()));
+    }
+
+    @Test
+    @DisplayName("Given other user_When delete review_Then throw access denied")
+    void givenOtherUser_whenDeleteReview_thenThrowAccessDenied() {
+        // given
+        Long reviewId = 1L;
+        when(reviewRepository.findById(reviewId)).thenReturn(Optional.of(review));
+
+        // when & then
+        assertThrows(ReviewException.ReviewAccessDeniedException.class,
+                () -> reviewService.deleteReview(reviewId, 2L));
+        assertTrue(review.isActive());
+        verify(reviewRepository, never()).saveAndFlush(any(Review.class));
+        verifyNoInteractions(productReviewStatsService);
+    }
+
+    @Test
+    @DisplayName("Given ranked search hits_When search reviews_Then keep index order and skip reviews deactivated since indexing")
+    void givenRankedSearchHits_whenSearchReviews_thenKeepIndexOrderAndSkipReviewsDeactivatedSinceIndexing() {
+        // given
+        ReviewSearchRequest request = new ReviewSearchRequest();
+        request.setProductId(1L);
+        request.setKeyword("편한 신발");
+        request.setMinRating(4);
+        Review first = reviewAt(3L, LocalDateTime.now());
+        Review second = reviewAt(1L, LocalDateTime.now());
+        Review hidden = reviewAt(2L, LocalDateTime.now());
+        hidden.hide();
+        when(reviewSearchIndexer.search(any(ReviewSearchIndex.Criteria.class), eq(0L), eq(3)))
+                .thenReturn(new ReviewSearchIndex.Hits(List.of(3L, 2L, 1L), 7));
+        when(reviewRepository.findAllById(List.of(3L, 2L, 1L))).thenReturn(List.of(second, hidden, first));
+        when(reviewImageRepository.findAllByReviewIdIn(anyList())).thenReturn(List.of());
+
+        // when
+        ReviewSearchResponse response = reviewService.searchReviews(request, PageRequest.of(0, 3));
+
+        // then
+        assertEquals(List.of(3L, 1L), response.getContent().stream().map(ReviewSummaryResponse::getReviewId).toList());
+        assertEquals(7L, response.getTotalElements());
+        assertEquals(3, response.getTotalPages());
+        assertTrue(response.isHasNext());
+        verify(reviewSearchIndexer).search(argThat(criteria -> criteria.productId().equals(1L)
+                && "편한 신발".equals(criteria.keyword()) && criteria.minRating() == 4), eq(0L), eq(3));
+    }
+
+    @Test
+    @DisplayName("Given facet page from index_When get review facets_Then return page with facet counts keyed by name")
+    void givenFacetPageFromIndex_whenGetReviewFacets_thenReturnPageWithFacetCountsKeyedByName() {
+        // given
+        ReviewFilterRequest filter = new ReviewFilterRequest(4, 5, SizeFit.PERFECT, null, null);
+        Review newest = reviewAt(2L, LocalDateTime.now());
+        Review older = reviewAt(1L, LocalDateTime.now().minusDays(1));
+        ReviewSearchIndex.FacetPage facetPage = new ReviewSearchIndex.FacetPage(List.of(2L, 1L), 2,
+                Map.of(5, 1L, 4, 1L), Map.of(SizeFit.PERFECT, 2L), Map.of(Cushion.NORMAL, 2L), Map.of(Stability.STABLE, 2L));
+        when(reviewSearchIndexer.facets(eq(1L), any(ReviewSearchIndex.FacetFilter.class), eq(0L), eq(10)))
+                .thenReturn(facetPage);
+        when(reviewRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(older, newest));
+        when(reviewImageRepository.findAllByReviewIdIn(anyList())).thenReturn(List.of());
+
+        // when
+        ReviewFacetResponse response = reviewService.getReviewFacets(1L, filter, PageRequest.of(0, 10));
+
+        // then
+        assertEquals(List.of(2L, 1L), response.getContent().stream().map(ReviewSummaryResponse::getReviewId).toList());
+        assertEquals(2L, response.getTotalElements());
+        assertFalse(response.isHasNext());
+        assertEquals(2L, response.getSizeFitCounts().get("PERFECT"));
+        assertEquals(2L, response.getCushioningCounts().get("NORMAL"));
+        verify(reviewSearchIndexer).facets(eq(1L), argThat(facetFilter -> facetFilter.minRating() == 4
+                && facetFilter.maxRating() == 5 && facetFilter.sizeFit() == SizeFit.PERFECT), eq(0L), eq(10));
+        verify(reviewRepository, never()).findFacetCountsByProductIdAndStatus(anyLong(), any());
+    }
+
+    private Review reviewAt(Long reviewId, LocalDateTime createdAt) {
+        return Review.builder()
+                .reviewId(reviewId)
+                .content("커서 페이징 테스트용 리뷰입니다")
+                .rating(4)
+                .userId(1L)
+                .productId(1L)
+                .sizeFit(SizeFit.PERFECT)
+                .cushioning(Cushion.NORMAL)
+                .stability(Stability.STABLE)
+                .status(ReviewStatus.ACTIVE)
+                .createdAt(createdAt)
+                .build();
     }
-}
\ No newline at end of file
+}
@@ -1,7 +1,10 @@
 package com.cMall.feedShop.review.application.service;
 
+import com.cMall.feedShop.review.application.ProductReviewStatsService;
 import com.cMall.feedShop.review.application.ReviewStatisticsService;
+import com.cMall.feedShop.review.domain.repository.ReviewFacetCount;
 import com.cMall.feedShop.review.domain.repository.ReviewRepository;
+import com.cMall.feedShop.review.domain.entity.ReviewAggregate;
 import com.cMall.feedShop.review.domain.entity.ReviewStatus;
 import com.cMall.feedShop.review.domain.entity.Cushion;
 import com.cMall.feedShop.review.domain.entity.SizeFit;
@@ -29,6 +32,9 @@ class ReviewStatisticsServiceTest {
     @Mock
     private ReviewRepository reviewRepository;
 
+    @Mock
+    private ProductReviewStatsService productReviewStatsService;
+
     @InjectMocks
     private ReviewStatisticsService reviewStatisticsService;
 
@@ -38,16 +44,12 @@ class ReviewStatisticsServiceTest {
         // given
         Long productId = 1L;
 
-        // Repository 메서드 mocking
-        when(reviewRepository.findAverageRatingByProductId(productId)).thenReturn(4.5);
-        when(reviewRepository.countByProductIdAndStatus(productId, ReviewStatus.ACTIVE)).thenReturn(10L);
-
-        // 평점별 분포 mocking
-        when(reviewRepository.countByProductIdAndStatusAndRating(productId, ReviewStatus.ACTIVE, 5)).thenReturn(6L);
-        when(reviewRepository.countByProductIdAndStatusAndRating(productId, ReviewStatus.ACTIVE, 4)).thenReturn(3L);
-        when(reviewRepository.countByProductIdAndStatusAndRating(productId, ReviewStatus.ACTIVE, 3)).thenReturn(1L);
-        when(reviewRepository.countByProductIdAndStatusAndRating(productId, ReviewStatus.ACTIVE, 2)).thenReturn(0L);
-        when(reviewRepository.countByProductIdAndStatusAndRating(productId, ReviewStatus.ACTIVE, 1)).thenReturn(0L);
+        // 상품 집계 mocking (평점 5점 6개, 4점 3개, 3점 1개)
+        when(productReviewStatsService.getAggregate(productId)).thenReturn(ReviewAggregate.from(productId, List.of(
+                facetCount(5, SizeFit.PERFECT, Cushion.VERY_SOFT, Stability.VERY_STABLE, 6L),
+                facetCount(4, SizeFit.BIG, Cushion.SOFT, Stability.STABLE, 3L),
+                facetCount(3, SizeFit.PERFECT, Cushion.NORMAL, Stability.NORMAL, 1L)
+        )));
 
         // when
         ReviewStatisticsResponse response = reviewStatisticsService.getProductStatistics(productId);
@@ -58,8 +60,13 @@ class ReviewStatisticsServiceTest {
         assertEquals(4.5, response.getAverageRating());
         assertEquals(10L, response.getTotalReviews());
         assertEquals(6L, response.getRatingDistribution().get(5));
-        verify(reviewRepository, times(1)).findAverageRatingByProductId(productId);
-        verify(reviewRepository, times(1)).countByProductIdAndStatus(productId, ReviewStatus.ACTIVE);
+        assertEquals(0L, response.getRatingDistribution().get(1));
+        assertEquals(7L, response.getSizeFitDistribution().get("PERFECT"));
+        assertEquals(3L, response.getSizeFitDistribution().get("BIG"));
+        assertEquals(6L, response.getStabilityDistribution().get("VERY_STABLE"));
+        assertEquals(3L, response.getCushioningDistribution().get("SOFT"));
+        verify(productReviewStatsService, times(1)).getAggregate(productId);
+        verifyNoInteractions(reviewRepository);
     }
 
     @Test
@@ -98,9 +105,12 @@ class ReviewStatisticsServiceTest {
                         .build()
         );
 
-        // Repository mocking
-        when(reviewRepository.findAverageRatingByProductId(productId)).thenReturn(4.2);
-        when(reviewRepository.countByProductIdAndStatus(productId, ReviewStatus.ACTIVE)).thenReturn(25L);
+        // 상품 집계 mocking (5점 10개, 4점 10개, 3점 5개 -> 평균 4.2)
+        when(productReviewStatsService.getAggregate(productId)).thenReturn(ReviewAggregate.from(productId, List.of(
+                facetCount(5, SizeFit.PERFECT, Cushion.VERY_SOFT, Stability.VERY_STABLE, 10L),
+                facetCount(4, SizeFit.PERFECT, Cushion.SOFT, Stability.STABLE, 10L),
+                facetCount(3, SizeFit.SMALL, Cushion.NORMAL, Stability.NORMAL, 5L)
+        )));
 
         // when
         ProductReviewSummaryResponse response = reviewStatisticsService.getProductReviewSummary(productId);
@@ -108,10 +118,13 @@ class ReviewStatisticsServiceTest {
         // then
         assertNotNull(response);
         assertEquals(productId, response.getProductId());
-        assertEquals(4.2, response.getAverageRating());
+        assertEquals(4.2, response.getAverageRating(), 0.001);
         assertEquals(25L, response.getTotalReviews());
-        verify(reviewRepository, times(1)).findAverageRatingByProductId(productId);
-        verify(reviewRepository, times(1)).countByProductIdAndStatus(productId, ReviewStatus.ACTIVE);
+        assertEquals(10L, response.getRatingDistribution().getFiveStar());
+        assertEquals(5L, response.getRatingDistribution().getThreeStar());
+        assertEquals("PERFECT", response.getMostCommonSizeFit());
+        verify(productReviewStatsService, times(1)).getAggregate(productId);
+        verifyNoInteractions(reviewRepository);
     }
 
     @Test
@@ -177,12 +190,42 @@ class ReviewStatisticsServiceTest {
         // given
         Long invalidProductId = 999L;
 
-        when(reviewRepository.findAverageRatingByProductId(invalidProductId)).thenReturn(null);
-        when(reviewRepository.countByProductIdAndStatus(invalidProductId, ReviewStatus.ACTIVE)).thenReturn(0L);
+        when(productReviewStatsService.getAggregate(invalidProductId))
+                .thenReturn(ReviewAggregate.empty(invalidProductId));
 
         // when & then
         assertThrows(IllegalArgumentException.class, () -> {
             reviewStatisticsService.getProductStatistics(invalidProductId);
         });
     }
-}
\ No newline at end of file
+
+    private ReviewFacetCount facetCount(Integer rating, SizeFit sizeFit, Cushion cushioning,
+                                        Stability stability, Long reviewCount) {
+        return new ReviewFacetCount() {
+            @Override
+            public Integer getRating() {
+                return rating;
+            }
+
+            @Override
+            public SizeFit getSizeFit() {
+                return sizeFit;
+            }
+
+            @Override
+            public Cushion getCushioning() {
+                return cushioning;
+            }
+
+            @Override
+            public Stability getStability() {
+                return stability;
+            }
+
+            @Override
+            public Long getReviewCount() {
+                return reviewCount;
+            }
+        };
+    }
+}
@@ -0,0 +1,148 @@
+package com.cMall.feedShop.review.domain.entity;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductReviewStatsTest {
+
+    @Test
+    @DisplayName("Given new active review_When apply_Then increase count and histograms")
+    void givenNewActiveReview_whenApply_thenIncreaseCountAndHistograms() {
+        // given
+        ProductReviewStats stats = ProductReviewStats.from(ReviewAggregate.empty(1L));
+        Review review = review(5, SizeFit.PERFECT, Cushion.VERY_SOFT, Stability.VERY_STABLE);
+
+        // when
+        stats.apply(null, ReviewSnapshot.of(review));
+
+        // then
+        ReviewAggregate aggregate = stats.toAggregate();
+        assertEquals(1L, aggregate.getTotalReviews());
+        assertEquals(5.0, aggregate.getAverageRating());
+        assertEquals(1L, aggregate.getRatingCount(5));
+        assertEquals(1L, aggregate.getSizeFitCount(SizeFit.PERFECT));
+        assertEquals(1L, aggregate.getCushioningCount(Cushion.VERY_SOFT));
+        assertEquals(1L, aggregate.getStabilityCount(Stability.VERY_STABLE));
+    }
+
+    @Test
+    @DisplayName("Given updated rating and facets_When apply_Then move counts between buckets")
+    void givenUpdatedRatingAndFacets_whenApply_thenMoveCountsBetweenBuckets() {
+        // given
+        Review review = review(5, SizeFit.PERFECT, Cushion.VERY_SOFT, Stability.VERY_STABLE);
+        ProductReviewStats stats = ProductReviewStats.from(ReviewAggregate.empty(1L));
+        stats.apply(null, ReviewSnapshot.of(review));
+
+        ReviewSnapshot before = ReviewSnapshot.of(review);
+        review.updateRating(3);
+        review.updateSizeFit(SizeFit.BIG);
+
+        // when
+        stats.apply(before, ReviewSnapshot.of(review));
+
+        // then
+        ReviewAggregate aggregate = stats.toAggregate();
+        assertEquals(1L, aggregate.getTotalReviews());
+        assertEquals(3L, aggregate.getRatingSum());
+        assertEquals(0L, aggregate.getRatingCount(5));
+        assertEquals(1L, aggregate.getRatingCount(3));
+        assertEquals(0L, aggregate.getSizeFitCount(SizeFit.PERFECT));
+        assertEquals(1L, aggregate.getSizeFitCount(SizeFit.BIG));
+    }
+
+    @Test
+    @DisplayName("Given delete hide restore transitions_When apply_Then only active reviews are counted")
+    void givenStatusTransitions_whenApply_thenOnlyActiveReviewsAreCounted() {
+        // given
+        Review review = review(4, SizeFit.SMALL, Cushion.NORMAL, Stability.STABLE);
+        ProductReviewStats stats = ProductReviewStats.from(ReviewAggregate.empty(1L));
+        stats.apply(null, ReviewSnapshot.of(review));
+
+        // when - 숨김
+        ReviewSnapshot beforeHide = ReviewSnapshot.of(review);
+        review.hide();
+        stats.apply(beforeHide, ReviewSnapshot.of(review));
+
+        // then
+        assertTrue(stats.toAggregate().isEmpty());
+        assertEquals(0L, stats.toAggregate().getSizeFitCount(SizeFit.SMALL));
+
+        // when - 복구
+        ReviewSnapshot beforeRestore = ReviewSnapshot.of(review);
+        review.restore();
+        stats.apply(beforeRestore, ReviewSnapshot.of(review));
+
+        // then
+        assertEquals(1L, stats.toAggregate().getTotalReviews());
+        assertEquals(1L, stats.toAggregate().getRatingCount(4));
+
+        // when - 삭제 후 다시 삭제 상태 변경(비활성 -> 비활성)
+        ReviewSnapshot beforeDelete = ReviewSnapshot.of(review);
+        review.delete();
+        stats.apply(beforeDelete, ReviewSnapshot.of(review));
+        stats.apply(ReviewSnapshot.of(review), ReviewSnapshot.of(review));
+
+        // then
+        assertEquals(0L, stats.toAggregate().getTotalReviews());
+        assertEquals(0L, stats.toAggregate().getRatingSum());
+    }
+
+    @Test
+    @DisplayName("Given drifted stats_When overwrite with recomputed aggregate_Then replace all values")
+    void givenDriftedStats_whenOverwrite_thenReplaceAllValues() {
+        // given
+        ProductReviewStats stats = ProductReviewStats.from(ReviewAggregate.empty(1L));
+        stats.apply(null, ReviewSnapshot.of(review(1, SizeFit.VERY_SMALL, Cushion.VERY_FIRM, Stability.VERY_UNSTABLE)));
+
+        long[] ratings = {0, 0, 0, 0, 2};
+        long[] sizeFits = {0, 0, 2, 0, 0};
+        long[] cushionings = {2, 0, 0, 0, 0};
+        long[] stabilities = {0, 0, 0, 0, 2};
+        ReviewAggregate recomputed = ReviewAggregate.of(1L, 2L, 10L, ratings, sizeFits, cushionings, stabilities);
+
+        // when
+        stats.overwrite(recomputed);
+
+        // then
+        ReviewAggregate aggregate = stats.toAggregate();
+        assertEquals(2L, aggregate.getTotalReviews());
+        assertEquals(5.0, aggregate.getAverageRating());
+        assertEquals(0L, aggregate.getRatingCount(1));
+        assertEquals(2L, aggregate.getRatingCount(5));
+    }
+
+    @Test
+    @DisplayName("Given stats missing the review_When apply removal_Then keep negative values instead of clamping")
+    void givenStatsMissingTheReview_whenApplyRemoval_thenKeepNegativeValuesInsteadOfClamping() {
+        // given - 집계에 반영되지 않은 리뷰 (드리프트)
+        ProductReviewStats stats = ProductReviewStats.from(ReviewAggregate.empty(1L));
+        Review review = review(4, SizeFit.SMALL, Cushion.NORMAL, Stability.STABLE);
+        ReviewSnapshot before = ReviewSnapshot.of(review);
+        review.delete();
+
+        // when
+        stats.apply(before, ReviewSnapshot.of(review));
+
+        // then
+        assertTrue(stats.hasNegativeValue());
+        assertEquals(-1L, stats.getReviewCount());
+        assertEquals(-4L, stats.getRatingSum());
+        assertEquals(-1L, stats.toAggregate().getRatingCount(4));
+        assertEquals(-1L, stats.toAggregate().getSizeFitCount(SizeFit.SMALL));
+    }
+
+    private Review review(int rating, SizeFit sizeFit, Cushion cushioning, Stability stability) {
+        return Review.builder()
+                .reviewId(1L)
+                .userId(1L)
+                .productId(1L)
+                .content("집계 테스트용 리뷰 내용입니다")
+                .rating(rating)
+                .sizeFit(sizeFit)
+                .cushioning(cushioning)
+                .stability(stability)
+                .status(ReviewStatus.ACTIVE)
+                .build();
+    }
+}
@@ -0,0 +1,42 @@
+package com.cMall.feedShop.review.fixture;
+
+import com.cMall.feedShop.review.application.dto.request.ReviewCreateRequest;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * data/sample-data.json 의 리뷰 샘플 로더 (성능 테스트/벤치마크 시드 데이터)
+ */
+public class SampleReviewData {
+
+    private static final String SAMPLE_DATA_PATH = "/data/sample-data.json";
+
+    public static List<ReviewCreateRequest> load() {
+        try (InputStream in = SampleReviewData.class.getResourceAsStream(SAMPLE_DATA_PATH)) {
+            if (in == null) {
+                throw new IllegalStateException("샘플 데이터 파일을 찾을 수 없습니다: " + SAMPLE_DATA_PATH);
+            }
+            ObjectMapper objectMapper = new ObjectMapper();
+            JsonNode reviews = objectMapper.readTree(in).path("reviews");
+            return List.copyOf(objectMapper.convertValue(reviews, new TypeReference<List<ReviewCreateRequest>>() {}));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 샘플 리뷰를 템플릿으로 사용해 (userId, productId) 가 겹치지 않는 요청을 만듭니다.
+     */
+    public static ReviewCreateRequest request(List<ReviewCreateRequest> templates, int index, long userId, long productId) {
+        return templates.get(index % templates.size()).toBuilder()
+                .userId(userId)
+                .productId(productId)
+                .build();
+    }
+}
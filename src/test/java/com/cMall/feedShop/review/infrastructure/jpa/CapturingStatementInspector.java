@@ -0,0 +1,36 @@
+package com.cMall.feedShop.review.infrastructure.jpa;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 테스트용 - Hibernate 가 실행하는 SQL 을 수집합니다.
+ * hibernate.session_factory.statement_inspector 로 등록해서 사용
+ */
+public class CapturingStatementInspector implements StatementInspector {
+
+    private static final Queue<String> STATEMENTS = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    public static void clear() {
+        STATEMENTS.clear();
+    }
+
+    public static List<String> drain() {
+        List<String> statements = new ArrayList<>();
+        String sql;
+        while ((sql = STATEMENTS.poll()) != null) {
+            statements.add(sql);
+        }
+        return statements;
+    }
+}
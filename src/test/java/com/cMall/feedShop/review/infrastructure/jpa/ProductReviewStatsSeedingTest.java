@@ -0,0 +1,157 @@
+package com.cMall.feedShop.review.infrastructure.jpa;
+
+import com.cMall.feedShop.review.application.ProductReviewStatsService;
+import com.cMall.feedShop.review.domain.entity.Cushion;
+import com.cMall.feedShop.review.domain.entity.ProductReviewStats;
+import com.cMall.feedShop.review.domain.entity.Review;
+import com.cMall.feedShop.review.domain.entity.ReviewAggregate;
+import com.cMall.feedShop.review.domain.entity.ReviewSnapshot;
+import com.cMall.feedShop.review.domain.entity.ReviewStatus;
+import com.cMall.feedShop.review.domain.entity.SizeFit;
+import com.cMall.feedShop.review.domain.entity.Stability;
+import com.cMall.feedShop.review.domain.repository.ProductReviewStatsRepository;
+import com.cMall.feedShop.review.domain.repository.ReviewRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 집계 행이 없는 상품의 첫 증분 갱신 검증
+ * 커넥션 풀을 1개로 제한해, 집계 행 생성이 쓰기 트랜잭션의 커넥션만으로 끝나는지(두 번째 커넥션을 기다리지 않는지) 함께 확인합니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ProductReviewStatsService.class)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reviewstatsseed;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.datasource.hikari.maximum-pool-size=1",
+        "spring.datasource.hikari.connection-timeout=2000"
+})
+class ProductReviewStatsSeedingTest {
+
+    @Autowired
+    private ProductReviewStatsService productReviewStatsService;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private ProductReviewStatsRepository statsRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("Given product without stats row_When first review is written_Then row is created in the same transaction with every review")
+    void givenProductWithoutStatsRow_whenFirstReviewIsWritten_thenRowIsCreatedInSameTransactionWithEveryReview() {
+        // given - 집계 행이 생기기 전에 작성된 리뷰
+        reviewRepository.saveAllAndFlush(List.of(review(1L, 1L, 5), review(2L, 1L, 3), review(3L, 1L, 4)));
+
+        // when
+        Review written = reviewRepository.saveAndFlush(review(4L, 1L, 2));
+        productReviewStatsService.applyChange(null, ReviewSnapshot.of(written));
+
+        // then
+        assertStatsMatchReviews(1L);
+        assertEquals(4L, stored(1L).getTotalReviews());
+    }
+
+    @Test
+    @DisplayName("Given product without stats row_When a review is deleted_Then row excludes the deleted review")
+    void givenProductWithoutStatsRow_whenReviewIsDeleted_thenRowExcludesTheDeletedReview() {
+        // given
+        List<Review> reviews = reviewRepository.saveAllAndFlush(List.of(review(1L, 2L, 5), review(2L, 2L, 1)));
+        Review target = reviews.get(1);
+        ReviewSnapshot before = ReviewSnapshot.of(target);
+
+        // when
+        target.delete();
+        reviewRepository.saveAndFlush(target);
+        productReviewStatsService.applyChange(before, ReviewSnapshot.of(target));
+
+        // then
+        assertStatsMatchReviews(2L);
+        assertEquals(1L, stored(2L).getTotalReviews());
+    }
+
+    @Test
+    @DisplayName("Given product without stats row_When rebuild then write a review_Then row is created once and keeps every review")
+    void givenProductWithoutStatsRow_whenRebuildThenWriteReview_thenRowIsCreatedOnceAndKeepsEveryReview() {
+        // given - 일괄 등록 직후처럼 집계 행 없이 리뷰만 있는 상품
+        reviewRepository.saveAllAndFlush(List.of(review(1L, 5L, 5), review(2L, 5L, 2)));
+
+        // when
+        ReviewAggregate rebuilt = productReviewStatsService.rebuild(5L);
+        Review written = reviewRepository.saveAndFlush(review(3L, 5L, 4));
+        productReviewStatsService.applyChange(null, ReviewSnapshot.of(written));
+
+        // then
+        assertEquals(2L, rebuilt.getTotalReviews());
+        assertStatsMatchReviews(5L);
+        assertEquals(3L, stored(5L).getTotalReviews());
+    }
+
+    @Test
+    @DisplayName("Given existing stats row_When insert if absent_Then keep existing row and transaction stays usable")
+    void givenExistingStatsRow_whenInsertIfAbsent_thenKeepExistingRowAndTransactionStaysUsable() {
+        // given
+        statsRepository.saveAndFlush(ProductReviewStats.from(ReviewAggregate.empty(3L)));
+        entityManager.clear();
+        ProductReviewStats other = ProductReviewStats.from(ReviewAggregate.empty(3L));
+        other.apply(null, ReviewSnapshot.of(review(1L, 3L, 5)));
+
+        // when
+        boolean inserted = statsRepository.insertIfAbsent(other);
+
+        // then
+        assertFalse(inserted);
+        assertEquals(0L, stored(3L).getTotalReviews());
+        assertTrue(statsRepository.insertIfAbsent(ProductReviewStats.from(ReviewAggregate.empty(4L))));
+        assertTrue(statsRepository.existsById(4L));
+    }
+
+    private void assertStatsMatchReviews(Long productId) {
+        ReviewAggregate stored = stored(productId);
+        ReviewAggregate recomputed = ReviewAggregate.from(productId,
+                reviewRepository.findFacetCountsByProductIdAndStatus(productId, ReviewStatus.ACTIVE));
+        assertEquals(recomputed.getTotalReviews(), stored.getTotalReviews());
+        assertEquals(recomputed.getRatingSum(), stored.getRatingSum());
+        assertEquals(recomputed.getRatingDistribution(), stored.getRatingDistribution());
+        assertEquals(recomputed.getSizeFitDistribution(), stored.getSizeFitDistribution());
+        assertEquals(recomputed.getCushioningDistribution(), stored.getCushioningDistribution());
+        assertEquals(recomputed.getStabilityDistribution(), stored.getStabilityDistribution());
+    }
+
+    private ReviewAggregate stored(Long productId) {
+        entityManager.flush();
+        entityManager.clear();
+        return statsRepository.findById(productId)
+                .map(ProductReviewStats::toAggregate)
+                .orElseThrow();
+    }
+
+    private Review review(Long userId, Long productId, int rating) {
+        return Review.builder()
+                .userId(userId)
+                .productId(productId)
+                .reviewTitle("집계 초기화 테스트")
+                .content("집계 초기화 테스트용 리뷰입니다")
+                .rating(rating)
+                .sizeFit(SizeFit.PERFECT)
+                .cushioning(Cushion.SOFT)
+                .stability(Stability.STABLE)
+                .status(ReviewStatus.ACTIVE)
+                .build();
+    }
+}
@@ -0,0 +1,96 @@
+package com.cMall.feedShop.review.infrastructure.jpa;
+
+import com.cMall.feedShop.review.domain.entity.ReviewImage;
+import com.cMall.feedShop.review.domain.repository.ReviewImageRepository;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MySQL 마이그레이션의 review_images_seq 시작 값 검증
+ * 이미지가 이미 있는 기존 DB 에 V1_1 이후를 적용한 뒤, Hibernate 테이블 방식(pooled) 할당으로 새 이미지를 저장해
+ * 기존 ID 와 겹치지 않는지 확인합니다.
+ * - H2 MySQL 모드 + MySQLDialect 로 운영과 같은 테이블 기반 ID 할당 경로를 탑니다.
+ * - 기동 시에는 V1 까지만 적용하고(spring.flyway.target), 기존 이미지를 넣은 뒤 나머지를 적용합니다.
+ * - Flyway 가 별도 커넥션으로 실행되므로 테스트 트랜잭션 없이 실행합니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reviewimageseq;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.flyway.enabled=true",
+        "spring.flyway.locations=" + ReviewImageSequenceMigrationTest.COMMON_LOCATION + "," + ReviewImageSequenceMigrationTest.MYSQL_LOCATION,
+        "spring.flyway.target=1",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MySQLDialect"
+})
+class ReviewImageSequenceMigrationTest {
+
+    static final String COMMON_LOCATION = "classpath:db/migration/common";
+    static final String MYSQL_LOCATION = "classpath:db/migration/mysql";
+
+    private static final long EXISTING_IMAGE_COUNT = 120;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ReviewImageRepository reviewImageRepository;
+
+    @Test
+    @DisplayName("Given existing review images_When migrate and save new images_Then new ids never overlap existing ids")
+    void givenExistingReviewImages_whenMigrateAndSaveNewImages_thenNewIdsNeverOverlapExistingIds() {
+        // given - 시퀀스 테이블이 생기기 전부터 있던 이미지
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate("INSERT INTO review_images (image_id, review_id, image_url, image_order, created_at) VALUES (?, ?, ?, ?, ?)",
+                LongStream.rangeClosed(1, EXISTING_IMAGE_COUNT)
+                        .mapToObj(imageId -> new Object[]{imageId, imageId, "https://example.com/" + imageId + ".jpg", 1, now})
+                        .toList());
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations(COMMON_LOCATION, MYSQL_LOCATION)
+                .load()
+                .migrate();
+
+        // when - 할당 구간(50)을 두 번 넘기도록 저장
+        List<ReviewImage> saved = reviewImageRepository.saveAll(IntStream.range(0, 120)
+                .mapToObj(order -> ReviewImage.builder()
+                        .reviewId(1L)
+                        .imageUrl("https://example.com/new/" + order + ".jpg")
+                        .imageOrder(order + 1)
+                        .build())
+                .toList());
+
+        // then
+        Set<Long> newIds = new HashSet<>();
+        for (ReviewImage image : saved) {
+            assertTrue(image.getImageId() > EXISTING_IMAGE_COUNT, "기존 ID 와 겹침: " + image.getImageId());
+            assertTrue(newIds.add(image.getImageId()), "중복 ID: " + image.getImageId());
+        }
+        assertEquals(EXISTING_IMAGE_COUNT + saved.size(), reviewImageRepository.count());
+    }
+}
@@ -0,0 +1,173 @@
+package com.cMall.feedShop.review.infrastructure.jpa;
+
+import com.cMall.feedShop.review.domain.entity.Cushion;
+import com.cMall.feedShop.review.domain.entity.Review;
+import com.cMall.feedShop.review.domain.entity.ReviewImage;
+import com.cMall.feedShop.review.domain.entity.ReviewStatus;
+import com.cMall.feedShop.review.domain.entity.SizeFit;
+import com.cMall.feedShop.review.domain.entity.Stability;
+import com.cMall.feedShop.review.domain.repository.ReviewImageRepository;
+import com.cMall.feedShop.review.domain.repository.ReviewRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ReviewRepository 쿼리 실행 계획 검증
+ * Flyway 마이그레이션으로 만든 스키마에서 각 쿼리가 생성하는 SQL 을 EXPLAIN 해서
+ * 테이블 전체 스캔(tableScan)이 발생하면 실패합니다.
+ */
+@DataJpaTest
+@Import(ReviewExportReader.class)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.cMall.feedShop.review.infrastructure.jpa.CapturingStatementInspector"
+})
+class ReviewQueryPlanTest {
+
+    private static final int PRODUCT_COUNT = 20;
+    private static final int REVIEWS_PER_PRODUCT = 15;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private ReviewImageRepository reviewImageRepository;
+
+    @Autowired
+    private ReviewExportReader reviewExportReader;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        SizeFit[] sizeFits = SizeFit.values();
+        Cushion[] cushions = Cushion.values();
+        Stability[] stabilities = Stability.values();
+        ReviewStatus[] statuses = ReviewStatus.values();
+
+        List<Review> reviews = new ArrayList<>();
+        for (int product = 1; product <= PRODUCT_COUNT; product++) {
+            for (int i = 0; i < REVIEWS_PER_PRODUCT; i++) {
+                reviews.add(Review.builder()
+                        .userId((long) i + 1)
+                        .productId((long) product)
+                        .reviewTitle("실행 계획 테스트 리뷰")
+                        .content("실행 계획 검증용 리뷰 내용입니다")
+                        .rating(i % 5 + 1)
+                        .sizeFit(sizeFits[i % sizeFits.length])
+                        .cushioning(cushions[(i + product) % cushions.length])
+                        .stability(stabilities[(i + 2 * product) % stabilities.length])
+                        .status(statuses[i % statuses.length])
+                        .build());
+            }
+        }
+        List<Review> saved = reviewRepository.saveAll(reviews);
+
+        List<ReviewImage> images = new ArrayList<>();
+        for (Review review : saved.subList(0, 50)) {
+            images.add(ReviewImage.builder()
+                    .reviewId(review.getReviewId())
+                    .imageUrl("https://example.com/reviews/" + review.getReviewId() + ".jpg")
+                    .imageOrder(1)
+                    .build());
+        }
+        reviewImageRepository.saveAll(images);
+
+        entityManager.flush();
+        entityManager.clear();
+        CapturingStatementInspector.clear();
+    }
+
+    @Test
+    @DisplayName("Given migrated schema_When explain every review query_Then no query does a table scan")
+    void givenMigratedSchema_whenExplainEveryReviewQuery_thenNoQueryDoesTableScan() {
+        // given - 조회 패턴별 쿼리 (findAll, findDistinctProductIds, countByStatus 는 전체 조회가 목적이라 제외)
+        LocalDateTime cursorTime = LocalDateTime.now();
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("findByProductIdAndStatus", () -> reviewRepository.findByProductIdAndStatus(1L, ReviewStatus.ACTIVE, PageRequest.of(1, 5)));
+        queries.put("findSliceByProductIdAndStatus", () -> reviewRepository.findSliceByProductIdAndStatus(1L, ReviewStatus.ACTIVE, PageRequest.of(1, 5)));
+        queries.put("findByUserIdAndStatus", () -> reviewRepository.findByUserIdAndStatus(1L, ReviewStatus.ACTIVE, PageRequest.of(1, 5)));
+        queries.put("findFirstPageByProductId", () -> reviewRepository.findFirstPageByProductId(1L, ReviewStatus.ACTIVE, PageRequest.of(0, 11)));
+        queries.put("findNextPageByProductId", () -> reviewRepository.findNextPageByProductId(1L, ReviewStatus.ACTIVE, cursorTime, 100L, PageRequest.of(0, 11)));
+        queries.put("findFirstPageByUserId", () -> reviewRepository.findFirstPageByUserId(1L, ReviewStatus.ACTIVE, PageRequest.of(0, 11)));
+        queries.put("findNextPageByUserId", () -> reviewRepository.findNextPageByUserId(1L, ReviewStatus.ACTIVE, cursorTime, 100L, PageRequest.of(0, 11)));
+        queries.put("countByProductIdAndStatus", () -> reviewRepository.countByProductIdAndStatus(1L, ReviewStatus.ACTIVE));
+        queries.put("countByProductIdAndStatusAndRating", () -> reviewRepository.countByProductIdAndStatusAndRating(1L, ReviewStatus.ACTIVE, 5));
+        queries.put("existsByUserIdAndProductIdAndStatusActive", () -> reviewRepository.existsByUserIdAndProductIdAndStatusActive(1L, 1L));
+        queries.put("findActiveAuthorKeys", () -> reviewRepository.findActiveAuthorKeys(List.of(1L, 2L, 3L), List.of(1L, 2L)));
+        queries.put("findAverageRatingByProductId", () -> reviewRepository.findAverageRatingByProductId(1L));
+        queries.put("findFacetCountsByProductIdAndStatus", () -> reviewRepository.findFacetCountsByProductIdAndStatus(1L, ReviewStatus.ACTIVE));
+        queries.put("findAverageRatingByCushioning", () -> reviewRepository.findAverageRatingByCushioning(Cushion.SOFT, ReviewStatus.ACTIVE));
+        queries.put("findAverageRatingBySizeFit", () -> reviewRepository.findAverageRatingBySizeFit(SizeFit.PERFECT, ReviewStatus.ACTIVE));
+        queries.put("findAverageRatingByStability", () -> reviewRepository.findAverageRatingByStability(Stability.STABLE, ReviewStatus.ACTIVE));
+        queries.put("findByProductIdAndSizeFitAndStatus", () -> reviewRepository.findByProductIdAndSizeFitAndStatus(1L, SizeFit.PERFECT, ReviewStatus.ACTIVE));
+        queries.put("findByProductIdAndCushioningAndStatus", () -> reviewRepository.findByProductIdAndCushioningAndStatus(1L, Cushion.SOFT, ReviewStatus.ACTIVE));
+        queries.put("findByProductIdAndStabilityAndStatus", () -> reviewRepository.findByProductIdAndStabilityAndStatus(1L, Stability.STABLE, ReviewStatus.ACTIVE));
+        queries.put("findChangedAfter", () -> reviewRepository.findChangedAfter(cursorTime.minusDays(1), 0L, PageRequest.of(0, 100)));
+        queries.put("findNextBatchByStatus", () -> reviewRepository.findNextBatchByStatus(0L, ReviewStatus.ACTIVE, PageRequest.of(0, 100)));
+        queries.put("ReviewExportReader.forEachByProduct", () -> reviewExportReader.forEachByProduct(1L, ReviewStatus.ACTIVE, row -> { }));
+        queries.put("findByReviewIdOrderByImageOrder", () -> reviewImageRepository.findByReviewIdOrderByImageOrder(1L));
+        queries.put("findAllByReviewIdIn", () -> reviewImageRepository.findAllByReviewIdIn(List.of(1L, 2L, 3L)));
+
+        // when
+        List<String> violations = new ArrayList<>();
+        queries.forEach((name, query) -> {
+            CapturingStatementInspector.clear();
+            query.run();
+            List<String> statements = CapturingStatementInspector.drain();
+            assertFalse(statements.isEmpty(), name + " 쿼리가 실행되지 않았습니다.");
+
+            for (String sql : statements) {
+                String plan = explain(sql);
+                if (plan.contains("tableScan")) {
+                    violations.add(name + " -> " + plan);
+                }
+            }
+        });
+
+        // then
+        assertTrue(violations.isEmpty(), "인덱스를 사용하지 않는 쿼리:\n" + String.join("\n", violations));
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                // 실행 계획은 준비 시점에 결정되므로 바인딩 값은 의미 없음
+                int parameterCount = statement.getParameterMetaData().getParameterCount();
+                for (int i = 1; i <= parameterCount; i++) {
+                    statement.setObject(i, null);
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    return resultSet.getString(1);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,234 @@
+package com.cMall.feedShop.review.infrastructure.search;
+
+import com.cMall.feedShop.review.domain.entity.Cushion;
+import com.cMall.feedShop.review.domain.entity.Review;
+import com.cMall.feedShop.review.domain.entity.ReviewSnapshot;
+import com.cMall.feedShop.review.domain.entity.ReviewStatus;
+import com.cMall.feedShop.review.domain.entity.SizeFit;
+import com.cMall.feedShop.review.domain.entity.Stability;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReviewSearchIndexTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private ReviewSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ReviewSearchIndex();
+        index.index(snapshot(review(1L, 1L, "무난한 운동화", "디자인은 예쁜데 발볼이 좁아요", 3, SizeFit.SMALL, 1)));
+        index.index(snapshot(review(2L, 1L, "편한 신발", "정말편한신발 쿠션이 좋고 편한 착화감", 5, SizeFit.PERFECT, 2)));
+        index.index(snapshot(review(3L, 1L, "러닝용 추천", "장거리 러닝에도 발이 편한 편이에요", 4, SizeFit.PERFECT, 3)));
+        index.index(snapshot(review(4L, 2L, "편한 신발", "다른 상품 리뷰", 5, SizeFit.PERFECT, 4)));
+    }
+
+    @Test
+    @DisplayName("Given Korean keyword_When search_Then match inside compound words and rank by relevance")
+    void givenKoreanKeyword_whenSearch_thenMatchInsideCompoundWordsAndRankByRelevance() {
+        // when
+        ReviewSearchIndex.Hits hits = index.search(criteria(1L, "편한"), 0, 10);
+
+        // then
+        assertEquals(List.of(2L, 3L), hits.reviewIds());
+        assertEquals(2L, hits.total());
+    }
+
+    @Test
+    @DisplayName("Given several keywords_When search_Then only reviews containing every keyword match")
+    void givenSeveralKeywords_whenSearch_thenOnlyReviewsContainingEveryKeywordMatch() {
+        // when
+        ReviewSearchIndex.Hits hits = index.search(criteria(1L, "편한 러닝"), 0, 10);
+
+        // then
+        assertEquals(List.of(3L), hits.reviewIds());
+    }
+
+    @Test
+    @DisplayName("Given filters without keyword_When search_Then return matching reviews newest first")
+    void givenFiltersWithoutKeyword_whenSearch_thenReturnMatchingReviewsNewestFirst() {
+        // given
+        ReviewSearchIndex.Criteria criteria = new ReviewSearchIndex.Criteria(
+                1L, null, 4, 5, SizeFit.PERFECT, null, null);
+
+        // when
+        ReviewSearchIndex.Hits hits = index.search(criteria, 0, 10);
+
+        // then
+        assertEquals(List.of(3L, 2L), hits.reviewIds());
+    }
+
+    @Test
+    @DisplayName("Given more hits than page size_When search second page_Then return next ids and full total")
+    void givenMoreHitsThanPageSize_whenSearchSecondPage_thenReturnNextIdsAndFullTotal() {
+        // when
+        ReviewSearchIndex.Hits first = index.search(criteria(1L, null), 0, 2);
+        ReviewSearchIndex.Hits second = index.search(criteria(1L, null), 2, 2);
+
+        // then
+        assertEquals(List.of(3L, 2L), first.reviewIds());
+        assertEquals(List.of(1L), second.reviewIds());
+        assertEquals(3L, second.total());
+    }
+
+    @Test
+    @DisplayName("Given indexed review_When it becomes inactive_Then it is removed from results")
+    void givenIndexedReview_whenItBecomesInactive_thenItIsRemovedFromResults() {
+        // given
+        Review review = review(2L, 1L, "편한 신발", "정말편한신발 쿠션이 좋고 편한 착화감", 5, SizeFit.PERFECT, 2);
+        review.delete();
+
+        // when
+        index.index(snapshot(review));
+
+        // then
+        assertEquals(List.of(3L), index.search(criteria(1L, "편한"), 0, 10).reviewIds());
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    @DisplayName("Given indexed reviews_When write and read snapshot_Then restored index returns same results")
+    void givenIndexedReviews_whenWriteAndReadSnapshot_thenRestoredIndexReturnsSameResults() throws IOException {
+        // given
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        index.writeTo(new DataOutputStream(bytes));
+
+        // when
+        ReviewSearchIndex restored = new ReviewSearchIndex();
+        restored.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        // then
+        assertEquals(index.size(), restored.size());
+        assertEquals(index.search(criteria(1L, "편한"), 0, 10), restored.search(criteria(1L, "편한"), 0, 10));
+        assertEquals(index.search(criteria(2L, null), 0, 10), restored.search(criteria(2L, null), 0, 10));
+    }
+
+    @Test
+    @DisplayName("Given facet filter_When query facets_Then return newest page and counts computed without own facet")
+    void givenFacetFilter_whenQueryFacets_thenReturnNewestPageAndCountsComputedWithoutOwnFacet() {
+        // given
+        ReviewSearchIndex.FacetFilter filter = new ReviewSearchIndex.FacetFilter(4, 5, SizeFit.PERFECT, null, null);
+
+        // when
+        ReviewSearchIndex.FacetPage page = index.facets(1L, filter, 0, 10);
+
+        // then
+        assertEquals(List.of(3L, 2L), page.reviewIds());
+        assertEquals(2L, page.total());
+        // 평점 건수는 사이즈 조건(PERFECT)만 적용
+        assertEquals(Map.of(5, 1L, 4, 1L, 3, 0L, 2, 0L, 1, 0L), page.ratingCounts());
+        // 사이즈 건수는 평점 조건(4~5)만 적용
+        assertEquals(2L, page.sizeFitCounts().get(SizeFit.PERFECT));
+        assertEquals(0L, page.sizeFitCounts().get(SizeFit.SMALL));
+        assertEquals(SizeFit.values().length, page.sizeFitCounts().size());
+        assertEquals(2L, page.cushioningCounts().get(Cushion.NORMAL));
+    }
+
+    @Test
+    @DisplayName("Given reviews committed out of id order_When query facets_Then page stays newest first")
+    void givenReviewsCommittedOutOfIdOrder_whenQueryFacets_thenPageStaysNewestFirst() {
+        // given
+        index.index(snapshot(review(11L, 1L, "늦게 커밋", "내용", 5, SizeFit.PERFECT, 11)));
+        index.index(snapshot(review(10L, 1L, "먼저 작성", "내용", 5, SizeFit.PERFECT, 10)));
+        ReviewSearchIndex.FacetFilter none = new ReviewSearchIndex.FacetFilter(null, null, null, null, null);
+
+        // when
+        ReviewSearchIndex.FacetPage first = index.facets(1L, none, 0, 2);
+        ReviewSearchIndex.FacetPage second = index.facets(1L, none, 2, 2);
+
+        // then
+        assertEquals(List.of(11L, 10L), first.reviewIds());
+        assertEquals(List.of(3L, 2L), second.reviewIds());
+        assertEquals(5L, second.total());
+    }
+
+    @Test
+    @DisplayName("Given many reviews removed_When facets compact_Then counts and order still match remaining reviews")
+    void givenManyReviewsRemoved_whenFacetsCompact_thenCountsAndOrderStillMatchRemainingReviews() {
+        // given
+        for (long reviewId = 100; reviewId < 300; reviewId++) {
+            index.index(snapshot(review(reviewId, 3L, "제목", "내용", (int) (reviewId % 5) + 1, SizeFit.PERFECT, 100)));
+        }
+
+        // when - 마지막 3건만 남기고 제거
+        for (long reviewId = 100; reviewId < 297; reviewId++) {
+            index.remove(reviewId);
+        }
+        ReviewSearchIndex.FacetPage page = index.facets(3L,
+                new ReviewSearchIndex.FacetFilter(null, null, null, null, null), 0, 10);
+
+        // then
+        assertEquals(List.of(299L, 298L, 297L), page.reviewIds());
+        assertEquals(3L, page.sizeFitCounts().get(SizeFit.PERFECT));
+        assertEquals(1L, page.ratingCounts().get(5));
+    }
+
+    @Test
+    @DisplayName("Given mixed Korean and English text_When tokenize_Then split on script change and use Korean bigrams")
+    void givenMixedKoreanAndEnglishText_whenTokenize_thenSplitOnScriptChangeAndUseKoreanBigrams() {
+        // when
+        List<String> tokens = ReviewTokenizer.tokenize("나이키AIR 발볼이, 굿!");
+
+        // then
+        assertEquals(List.of("나이", "이키", "air", "발볼", "볼이", "굿"), tokens);
+    }
+
+    @Test
+    @DisplayName("Given one-character Korean keyword_When search_Then match it at any position inside longer words")
+    void givenOneCharacterKoreanKeyword_whenSearch_thenMatchItAtAnyPositionInsideLongerWords() {
+        // when - "발볼이", "신발", "발이" 모두 "발" 을 포함
+        ReviewSearchIndex.Hits hits = index.search(criteria(1L, "발"), 0, 10);
+
+        // then
+        assertEquals(3L, hits.total());
+        assertTrue(hits.reviewIds().containsAll(List.of(1L, 2L, 3L)));
+    }
+
+    @Test
+    @DisplayName("Given Korean word_When tokenize for index_Then add unigrams after bigrams")
+    void givenKoreanWord_whenTokenizeForIndex_thenAddUnigramsAfterBigrams() {
+        // when
+        List<String> tokens = ReviewTokenizer.tokenizeForIndex("발볼이 굿 AIR");
+
+        // then
+        assertEquals(List.of("발볼", "볼이", "발", "볼", "이", "굿", "air"), tokens);
+    }
+
+    private ReviewSearchIndex.Criteria criteria(Long productId, String keyword) {
+        return new ReviewSearchIndex.Criteria(productId, keyword, null, null, null, null, null);
+    }
+
+    private ReviewSnapshot snapshot(Review review) {
+        return ReviewSnapshot.of(review);
+    }
+
+    private Review review(Long reviewId, Long productId, String title, String content, int rating,
+                          SizeFit sizeFit, int minutesAfterBase) {
+        return Review.builder()
+                .reviewId(reviewId)
+                .reviewTitle(title)
+                .content(content)
+                .rating(rating)
+                .userId(reviewId)
+                .productId(productId)
+                .sizeFit(sizeFit)
+                .cushioning(Cushion.NORMAL)
+                .stability(Stability.STABLE)
+                .status(ReviewStatus.ACTIVE)
+                .createdAt(BASE_TIME.plusMinutes(minutesAfterBase))
+                .build();
+    }
+}
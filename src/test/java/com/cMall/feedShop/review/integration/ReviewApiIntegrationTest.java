@@ -4,6 +4,8 @@ import com.cMall.feedShop.review.application.dto.request.ReviewCreateRequest;
 import com.cMall.feedShop.review.domain.entity.SizeFit;
 import com.cMall.feedShop.review.domain.entity.Cushion;
 import com.cMall.feedShop.review.domain.entity.Stability;
+import com.cMall.feedShop.user.domain.enums.UserRole;
+import com.cMall.feedShop.user.infrastructure.security.WithMockUserPrincipal;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -11,7 +13,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
-import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
@@ -40,7 +41,7 @@ class ReviewApiIntegrationTest {
 
     @Test
     @DisplayName("API Integration: 리뷰 상세 조회 워크플로우")
-    @WithMockUser
+    @WithMockUserPrincipal
     void reviewDetailWorkflow() throws Exception {
         // 1. CREATE - 리뷰 생성
         ReviewCreateRequest createRequest = ReviewCreateRequest.builder()
@@ -89,7 +90,7 @@ class ReviewApiIntegrationTest {
 
     @Test
     @DisplayName("API Integration: 상품별 리뷰 조회")
-    @WithMockUser
+    @WithMockUserPrincipal(role = UserRole.ROLE_ADMIN) // 여러 사용자 ID로 등록
     void productReviewsWorkflow() throws Exception {
         Long productId = 1L;
 
@@ -112,7 +113,7 @@ class ReviewApiIntegrationTest {
 
     @Test
     @DisplayName("API Integration: 에러 케이스 처리")
-    @WithMockUser
+    @WithMockUserPrincipal
     void errorCasesHandling() throws Exception {
         // 1. 존재하지 않는 리뷰 조회
         mockMvc.perform(get("/api/reviews/{reviewId}", 99999L)
@@ -153,7 +154,7 @@ class ReviewApiIntegrationTest {
 
     @Test
     @DisplayName("API Integration: 유효성 검사 에러")
-    @WithMockUser
+    @WithMockUserPrincipal
     void validationErrorHandling() throws Exception {
         // 잘못된 평점으로 리뷰 생성 시도
         ReviewCreateRequest invalidRequest = ReviewCreateRequest.builder()
@@ -178,6 +179,32 @@ class ReviewApiIntegrationTest {
                 .andDo(print());
     }
 
+    @Test
+    @DisplayName("API Integration: 다른 사용자 ID로 리뷰 등록 시 403")
+    @WithMockUserPrincipal(userId = 2L)
+    void createReviewForAnotherUserIsForbidden() throws Exception {
+        ReviewCreateRequest request = ReviewCreateRequest.builder()
+                .userId(1L)
+                .productId(1L)
+                .reviewTitle("남의 리뷰")
+                .rating(5)
+                .content("테스트 내용")
+                .sizeFit(SizeFit.PERFECT)
+                .cushioning(Cushion.VERY_SOFT)
+                .stability(Stability.VERY_STABLE)
+                .imageUrls(new ArrayList<>())
+                .build();
+
+        // authentication.principal.userId(2) != 경로의 userId(1)
+        mockMvc.perform(post("/api/users/{userId}/reviews", 1L)
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.success").value(false))
+                .andDo(print());
+    }
+
     // 헬퍼 메서드
     private void createReviewViaApi(Long userId, Long productId, int rating,
                                     SizeFit sizeFit, Cushion cushioning, Stability stability) throws Exception {
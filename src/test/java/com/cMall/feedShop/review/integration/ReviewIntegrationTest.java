@@ -1,11 +1,13 @@
 package com.cMall.feedShop.review.integration;
 
+import com.cMall.feedShop.common.exception.ErrorCode;
 import com.cMall.feedShop.review.application.ReviewService;
 import com.cMall.feedShop.review.application.ReviewStatisticsService;
 import com.cMall.feedShop.review.application.dto.request.ReviewCreateRequest;
 import com.cMall.feedShop.review.application.dto.response.ReviewCreateResponse;
 import com.cMall.feedShop.review.application.dto.response.ReviewDetailResponse;
 import com.cMall.feedShop.review.application.dto.response.ReviewStatisticsResponse;
+import com.cMall.feedShop.review.application.exception.ReviewException;
 import com.cMall.feedShop.review.domain.entity.*;
 import com.cMall.feedShop.review.domain.repository.ReviewRepository;
 import com.cMall.feedShop.review.domain.repository.ReviewImageRepository;
@@ -204,13 +206,29 @@ public class ReviewIntegrationTest {
         // Given: 첫 번째 리뷰 작성
         reviewService.createReview(perfectShoeRequest);
 
-        // When & Then: 같은 사용자가 같은 상품에 다시 리뷰 작성 시도
-        IllegalArgumentException exception = assertThrows(
-                IllegalArgumentException.class,
+        // When & Then: 같은 사용자가 같은 상품에 다시 리뷰 작성 시도 (활성 리뷰 유니크 제약)
+        ReviewException exception = assertThrows(
+                ReviewException.ReviewAlreadyExistsException.class,
                 () -> reviewService.createReview(perfectShoeRequest)
         );
 
-        assertEquals("이미 해당 상품에 대한 리뷰를 작성하셨습니다.", exception.getMessage());
+        assertEquals(ErrorCode.REVIEW_ALREADY_EXISTS, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("Integration: 삭제한 리뷰는 중복 제약에서 빠져 다시 작성 가능")
+    void reReviewAfterDeletion() {
+        // Given: 리뷰 작성 후 삭제
+        ReviewCreateResponse first = reviewService.createReview(perfectShoeRequest);
+        reviewService.deleteReview(first.getReviewId(), perfectShoeRequest.getUserId());
+
+        // When: 같은 상품에 다시 리뷰 작성
+        ReviewCreateResponse second = reviewService.createReview(perfectShoeRequest);
+
+        // Then
+        assertNotEquals(first.getReviewId(), second.getReviewId());
+        assertTrue(reviewRepository.findById(first.getReviewId()).orElseThrow().isDeleted());
+        assertTrue(reviewRepository.findById(second.getReviewId()).orElseThrow().isActive());
     }
 
     @Test
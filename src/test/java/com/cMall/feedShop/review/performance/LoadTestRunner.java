@@ -0,0 +1,126 @@
+package com.cMall.feedShop.review.performance;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 부하 테스트 실행기
+ * 고정 크기 스레드 풀에서 작업을 동시에 시작시키고, 작업별 지연 시간(p50/p95/p99)과 처리량을 집계합니다.
+ */
+final class LoadTestRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestRunner.class);
+    private static final long TIMEOUT_MINUTES = 5;
+
+    private LoadTestRunner() {
+    }
+
+    @FunctionalInterface
+    interface Operation {
+        void execute(int index) throws Exception;
+    }
+
+    static Result run(String name, int threadCount, int operationCount, Operation operation) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch ready = new CountDownLatch(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger next = new AtomicInteger();
+        long[] latencies = new long[operationCount];
+        List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+
+        for (int t = 0; t < threadCount; t++) {
+            executor.execute(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                int index;
+                while ((index = next.getAndIncrement()) < operationCount) {
+                    long begin = System.nanoTime();
+                    try {
+                        operation.execute(index);
+                    } catch (Throwable e) {
+                        errors.add(e);
+                    } finally {
+                        latencies[index] = System.nanoTime() - begin;
+                    }
+                }
+            });
+        }
+
+        ready.await();
+        long begin = System.nanoTime();
+        start.countDown();
+        executor.shutdown();
+        if (!executor.awaitTermination(TIMEOUT_MINUTES, TimeUnit.MINUTES)) {
+            executor.shutdownNow();
+            throw new IllegalStateException(name + " 부하 테스트가 " + TIMEOUT_MINUTES + "분 안에 끝나지 않았습니다.");
+        }
+
+        Result result = new Result(name, threadCount, latencies, System.nanoTime() - begin, List.copyOf(errors));
+        log.info(result.report());
+        return result;
+    }
+
+    static final class Result {
+
+        private final String name;
+        private final int threadCount;
+        private final long[] sortedLatencies;
+        private final long elapsedNanos;
+        private final List<Throwable> errors;
+
+        private Result(String name, int threadCount, long[] latencies, long elapsedNanos, List<Throwable> errors) {
+            this.name = name;
+            this.threadCount = threadCount;
+            this.sortedLatencies = latencies.clone();
+            Arrays.sort(this.sortedLatencies);
+            this.elapsedNanos = elapsedNanos;
+            this.errors = errors;
+        }
+
+        int operationCount() {
+            return sortedLatencies.length;
+        }
+
+        List<Throwable> errors() {
+            return errors;
+        }
+
+        /**
+         * 백분위 지연 시간 (nearest-rank, ms)
+         */
+        double percentileMillis(double percentile) {
+            if (sortedLatencies.length == 0) {
+                return 0.0;
+            }
+            int rank = (int) Math.ceil(percentile / 100.0 * sortedLatencies.length);
+            int index = Math.min(Math.max(rank, 1), sortedLatencies.length) - 1;
+            return sortedLatencies[index] / 1_000_000.0;
+        }
+
+        double throughputPerSecond() {
+            return elapsedNanos == 0 ? 0.0 : operationCount() * 1_000_000_000.0 / elapsedNanos;
+        }
+
+        String report() {
+            return String.format(
+                    "[부하 테스트] %s - 스레드: %d, 요청: %d, 실패: %d, 소요: %dms, 처리량: %.1f ops/s, p50: %.2fms, p95: %.2fms, p99: %.2fms",
+                    name, threadCount, operationCount(), errors.size(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    throughputPerSecond(), percentileMillis(50), percentileMillis(95), percentileMillis(99));
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.cMall.feedShop.review.performance;
+
+import com.cMall.feedShop.review.application.ReviewImportFormat;
+import com.cMall.feedShop.review.application.ReviewImportService;
+import com.cMall.feedShop.review.application.dto.request.ReviewCreateRequest;
+import com.cMall.feedShop.review.application.dto.request.ReviewUpdateRequest;
+import com.cMall.feedShop.review.application.dto.response.ReviewCreateResponse;
+import com.cMall.feedShop.review.application.dto.response.ReviewImportResponse;
+import com.cMall.feedShop.review.domain.entity.Cushion;
+import com.cMall.feedShop.review.domain.entity.ReviewStatus;
+import com.cMall.feedShop.review.domain.entity.SizeFit;
+import com.cMall.feedShop.review.domain.entity.Stability;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 리뷰 대량 작성/상태 변경 부하 테스트
+ * 이미지가 포함된 작성, 수정/숨김/삭제/복구가 동시에 몰릴 때 지연 시간과 처리량을 출력하고 집계 불변식을 검증합니다.
+ * 관리자 일괄 등록(JDBC 배치 쓰기)의 처리량과 결과도 같은 불변식으로 검증합니다.
+ */
+class ReviewBulkOperationTest extends ReviewLoadTestSupport {
+
+    private static final int PRODUCT_COUNT = 10;
+    private static final int REVIEW_COUNT = 600;
+    private static final int IMAGES_PER_REVIEW = 3;
+
+    @Autowired
+    private ReviewImportService reviewImportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Given bulk create requests with images_When run concurrently_Then reviews images and stats are consistent")
+    void givenBulkCreateRequestsWithImages_whenRunConcurrently_thenReviewsImagesAndStatsAreConsistent() throws InterruptedException {
+        // given
+        initializeStats(PRODUCT_COUNT);
+
+        // when
+        LoadTestRunner.Result result = LoadTestRunner.run("createReview (이미지 " + IMAGES_PER_REVIEW + "장)",
+                THREAD_COUNT, REVIEW_COUNT, index -> reviewService.createReview(requestWithImages(index)));
+
+        // then
+        assertTrue(result.errors().isEmpty(), () -> "실패한 요청: " + result.errors());
+        assertEquals(REVIEW_COUNT, reviewRepository.count());
+        assertEquals((long) REVIEW_COUNT * IMAGES_PER_REVIEW, reviewImageRepository.count());
+        assertStatsMatchReviews(PRODUCT_COUNT);
+    }
+
+    @Test
+    @DisplayName("Given stored reviews_When update hide delete restore run concurrently_Then stats match remaining active reviews")
+    void givenStoredReviews_whenStatusChangesRunConcurrently_thenStatsMatchRemainingActiveReviews() throws InterruptedException {
+        // given
+        initializeStats(PRODUCT_COUNT);
+        AtomicLongArray reviewIds = new AtomicLongArray(REVIEW_COUNT);
+        LoadTestRunner.Result seed = LoadTestRunner.run("createReview (시드)", THREAD_COUNT, REVIEW_COUNT, index -> {
+            ReviewCreateResponse response = reviewService.createReview(uniqueRequest(index, PRODUCT_COUNT));
+            reviewIds.set(index, response.getReviewId());
+        });
+        assertTrue(seed.errors().isEmpty(), () -> "실패한 요청: " + seed.errors());
+
+        // when - 리뷰마다 한 가지 작업만 수행 (같은 리뷰에 대한 동시 수정은 이 테스트 범위 밖)
+        LoadTestRunner.Result result = LoadTestRunner.run("update/hide/delete/restore", THREAD_COUNT, REVIEW_COUNT, index -> {
+            long reviewId = reviewIds.get(index);
+            switch (index % 4) {
+                case 0 -> reviewService.updateReview(reviewId, ReviewUpdateRequest.builder()
+                        .rating(index % 5 + 1)
+                        .sizeFit(SizeFit.values()[index % SizeFit.values().length])
+                        .cushioning(Cushion.values()[(index + 1) % Cushion.values().length])
+                        .stability(Stability.values()[(index + 2) % Stability.values().length])
+                        .build());
+                case 1 -> reviewService.hideReview(reviewId);
+                case 2 -> reviewService.deleteReview(reviewId, index + 1L);
+                default -> {
+                    reviewService.hideReview(reviewId);
+                    reviewService.restoreReview(reviewId);
+                }
+            }
+        });
+
+        // then
+        assertTrue(result.errors().isEmpty(), () -> "실패한 요청: " + result.errors());
+        Map<ReviewStatus, Long> countsByStatus = reviewRepository.findAll().stream()
+                .collect(Collectors.groupingBy(review -> review.getStatus(), Collectors.counting()));
+        assertEquals((long) REVIEW_COUNT / 2, countsByStatus.get(ReviewStatus.ACTIVE));
+        assertEquals((long) REVIEW_COUNT / 4, countsByStatus.get(ReviewStatus.HIDDEN));
+        assertEquals((long) REVIEW_COUNT / 4, countsByStatus.get(ReviewStatus.DELETED));
+        assertStatsMatchReviews(PRODUCT_COUNT);
+    }
+
+    @Test
+    @DisplayName("Given import file with images and an already reviewed row_When import_Then others are stored and stats are rebuilt")
+    void givenImportFileWithImagesAndAlreadyReviewedRow_whenImport_thenOthersAreStoredAndStatsAreRebuilt() throws IOException {
+        // given - 첫 행과 같은 (userId, productId) 리뷰가 이미 있음
+        initializeStats(PRODUCT_COUNT);
+        reviewService.createReview(uniqueRequest(0, PRODUCT_COUNT));
+        List<ReviewCreateRequest> requests = IntStream.range(0, REVIEW_COUNT)
+                .mapToObj(this::requestWithImages)
+                .collect(Collectors.toList());
+        byte[] file = objectMapper.writeValueAsBytes(Map.of("reviews", requests));
+
+        // when
+        ReviewImportResponse response = reviewImportService.importReviews(new ByteArrayInputStream(file), ReviewImportFormat.JSON);
+
+        // then
+        assertTrue(response.isCompleted());
+        assertEquals(REVIEW_COUNT - 1, response.getImportedRows());
+        assertEquals(1, response.getFailedRows());
+        assertEquals(1L, response.getErrors().get(0).getRow());
+        assertEquals(REVIEW_COUNT, reviewRepository.count());
+        assertEquals((long) (REVIEW_COUNT - 1) * IMAGES_PER_REVIEW, reviewImageRepository.count());
+        assertStatsMatchReviews(PRODUCT_COUNT);
+    }
+
+    private ReviewCreateRequest requestWithImages(int index) {
+        List<String> imageUrls = IntStream.range(0, IMAGES_PER_REVIEW)
+                .mapToObj(order -> "https://cdn.example.com/reviews/" + index + "/" + order + ".jpg")
+                .collect(Collectors.toList());
+        return uniqueRequest(index, PRODUCT_COUNT).toBuilder()
+                .imageUrls(imageUrls)
+                .build();
+    }
+}
@@ -0,0 +1,98 @@
+package com.cMall.feedShop.review.performance;
+
+import com.cMall.feedShop.review.application.dto.response.ProductReviewSummaryResponse;
+import com.cMall.feedShop.review.application.exception.ReviewException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 리뷰 작성/조회 동시성 부하 테스트
+ * 서비스 계층으로 수백 건의 요청을 동시에 보내 지연 시간과 처리량을 출력하고, 동시 실행 후의 불변식을 검증합니다.
+ */
+class ReviewConcurrencyTest extends ReviewLoadTestSupport {
+
+    private static final int PRODUCT_COUNT = 20;
+    private static final int CREATE_COUNT = 400;
+    private static final int READ_COUNT = 1000;
+
+    @Test
+    @DisplayName("Given concurrent create requests_When run_Then every review is stored and stats stay consistent")
+    void givenConcurrentCreateRequests_whenRun_thenEveryReviewIsStoredAndStatsStayConsistent() throws InterruptedException {
+        // given
+        initializeStats(PRODUCT_COUNT);
+
+        // when
+        LoadTestRunner.Result result = LoadTestRunner.run("createReview", THREAD_COUNT, CREATE_COUNT,
+                index -> reviewService.createReview(uniqueRequest(index, PRODUCT_COUNT)));
+
+        // then
+        assertTrue(result.errors().isEmpty(), () -> "실패한 요청: " + result.errors());
+        assertEquals(CREATE_COUNT, reviewRepository.count());
+        assertStatsMatchReviews(PRODUCT_COUNT);
+    }
+
+    @Test
+    @DisplayName("Given stored reviews_When concurrent product review reads_Then every response has full totals")
+    void givenStoredReviews_whenConcurrentProductReviewReads_thenEveryResponseHasFullTotals() throws InterruptedException {
+        // given
+        initializeStats(PRODUCT_COUNT);
+        for (int index = 0; index < CREATE_COUNT; index++) {
+            reviewService.createReview(uniqueRequest(index, PRODUCT_COUNT));
+        }
+        long expectedPerProduct = CREATE_COUNT / PRODUCT_COUNT;
+
+        // when
+        LoadTestRunner.Result result = LoadTestRunner.run("getProductReviews", THREAD_COUNT, READ_COUNT, index -> {
+            long productId = index % PRODUCT_COUNT + 1;
+            ProductReviewSummaryResponse response = reviewService.getProductReviews(productId, PageRequest.of(0, 20));
+            assertEquals(expectedPerProduct, response.getTotalReviews());
+            assertEquals(expectedPerProduct, response.getRecentReviews().size());
+        });
+
+        // then
+        assertTrue(result.errors().isEmpty(), () -> "실패한 요청: " + result.errors());
+    }
+
+    @Test
+    @DisplayName("Given mixed create and read load_When run_Then stats stay consistent with reviews")
+    void givenMixedCreateAndReadLoad_whenRun_thenStatsStayConsistentWithReviews() throws InterruptedException {
+        // given
+        initializeStats(PRODUCT_COUNT);
+
+        // when - 짝수 인덱스는 작성, 홀수 인덱스는 조회
+        LoadTestRunner.Result result = LoadTestRunner.run("createReview + getProductReviews", THREAD_COUNT, CREATE_COUNT * 2,
+                index -> {
+                    if (index % 2 == 0) {
+                        reviewService.createReview(uniqueRequest(index / 2, PRODUCT_COUNT));
+                    } else {
+                        reviewService.getProductReviews((long) (index % PRODUCT_COUNT + 1), PageRequest.of(0, 20));
+                    }
+                });
+
+        // then
+        assertTrue(result.errors().isEmpty(), () -> "실패한 요청: " + result.errors());
+        assertEquals(CREATE_COUNT, reviewRepository.count());
+        assertStatsMatchReviews(PRODUCT_COUNT);
+    }
+
+    @Test
+    @DisplayName("Given concurrent duplicate create requests_When run_Then only one active review per user and product")
+    void givenConcurrentDuplicateCreateRequests_whenRun_thenOnlyOneActiveReviewPerUserAndProduct() throws InterruptedException {
+        // given
+        initializeStats(1);
+
+        // when - 같은 사용자가 같은 상품에 동시에 리뷰 작성
+        LoadTestRunner.Result result = LoadTestRunner.run("duplicate createReview", THREAD_COUNT, THREAD_COUNT * 2,
+                index -> reviewService.createReview(duplicateRequest(index)));
+
+        // then - 한 건만 저장되고 나머지는 활성 리뷰 유니크 제약으로 거절
+        assertEquals(THREAD_COUNT * 2 - 1, result.errors().size());
+        assertTrue(result.errors().stream().allMatch(ReviewException.ReviewAlreadyExistsException.class::isInstance),
+                () -> "예상하지 못한 실패: " + result.errors());
+        assertEquals(1L, countActiveReviews(1L, 1L));
+        assertStatsMatchReviews(1);
+    }
+}
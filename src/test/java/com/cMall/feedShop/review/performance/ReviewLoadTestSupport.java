@@ -0,0 +1,125 @@
+package com.cMall.feedShop.review.performance;
+
+import com.cMall.feedShop.review.application.ProductReviewStatsService;
+import com.cMall.feedShop.review.application.ReviewService;
+import com.cMall.feedShop.review.application.dto.request.ReviewCreateRequest;
+import com.cMall.feedShop.review.domain.entity.ProductReviewStats;
+import com.cMall.feedShop.review.domain.entity.ReviewAggregate;
+import com.cMall.feedShop.review.domain.entity.ReviewStatus;
+import com.cMall.feedShop.review.domain.repository.ProductReviewStatsRepository;
+import com.cMall.feedShop.review.domain.repository.ReviewImageRepository;
+import com.cMall.feedShop.review.domain.repository.ReviewRepository;
+import com.cMall.feedShop.review.fixture.SampleReviewData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 리뷰 부하 테스트 공통 설정
+ * - 테스트 트랜잭션 없이 실제 커밋/잠금 경합을 그대로 태우고, 매 테스트 전후로 테이블을 비웁니다.
+ * - 다른 통합 테스트와 섞이지 않도록 별도 H2 메모리 DB 를 사용하고, SQL 디버그 로그는 끕니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reviewload;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;LOCK_TIMEOUT=10000",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.com.cMall.feedShop=INFO",
+        "logging.level.org.springframework.web=INFO",
+        "logging.level.org.springframework.security=INFO",
+        "review.stats.rebuild-cron=-"
+})
+abstract class ReviewLoadTestSupport {
+
+    protected static final int THREAD_COUNT = 32;
+
+    protected static final List<ReviewCreateRequest> TEMPLATES = SampleReviewData.load();
+
+    @Autowired
+    protected ReviewService reviewService;
+
+    @Autowired
+    protected ProductReviewStatsService productReviewStatsService;
+
+    @Autowired
+    protected ReviewRepository reviewRepository;
+
+    @Autowired
+    protected ReviewImageRepository reviewImageRepository;
+
+    @Autowired
+    protected ProductReviewStatsRepository productReviewStatsRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    @AfterEach
+    void cleanUp() {
+        reviewImageRepository.deleteAllInBatch();
+        reviewRepository.deleteAllInBatch();
+        productReviewStatsRepository.deleteAllInBatch();
+        cacheManager.getCacheNames().forEach(name -> Objects.requireNonNull(cacheManager.getCache(name)).clear());
+    }
+
+    /**
+     * (userId, productId) 가 겹치지 않는 작성 요청 - 사용자마다 상품 하나씩
+     */
+    protected ReviewCreateRequest uniqueRequest(int index, int productCount) {
+        return SampleReviewData.request(TEMPLATES, index, index + 1L, index % productCount + 1L);
+    }
+
+    /**
+     * 모두 같은 (userId, productId) 인 작성 요청
+     */
+    protected ReviewCreateRequest duplicateRequest(int index) {
+        return SampleReviewData.request(TEMPLATES, index, 1L, 1L);
+    }
+
+    /**
+     * 증분 갱신 경로를 타도록 상품별 집계 행을 미리 만듭니다.
+     */
+    protected void initializeStats(long productCount) {
+        for (long productId = 1; productId <= productCount; productId++) {
+            productReviewStatsService.rebuild(productId);
+        }
+    }
+
+    /**
+     * 불변식: 증분 갱신된 집계 행 == reviews 테이블에서 다시 집계한 값
+     */
+    protected void assertStatsMatchReviews(long productCount) {
+        for (long productId = 1; productId <= productCount; productId++) {
+            ReviewAggregate stored = productReviewStatsRepository.findById(productId)
+                    .map(ProductReviewStats::toAggregate)
+                    .orElseThrow();
+            ReviewAggregate recomputed = ReviewAggregate.from(productId,
+                    reviewRepository.findFacetCountsByProductIdAndStatus(productId, ReviewStatus.ACTIVE));
+
+            String message = "productId=" + productId + " 집계 불일치";
+            assertEquals(recomputed.getTotalReviews(), stored.getTotalReviews(), message);
+            assertEquals(recomputed.getRatingSum(), stored.getRatingSum(), message);
+            assertEquals(recomputed.getRatingDistribution(), stored.getRatingDistribution(), message);
+            assertEquals(recomputed.getSizeFitDistribution(), stored.getSizeFitDistribution(), message);
+            assertEquals(recomputed.getCushioningDistribution(), stored.getCushioningDistribution(), message);
+            assertEquals(recomputed.getStabilityDistribution(), stored.getStabilityDistribution(), message);
+        }
+    }
+
+    protected long countActiveReviews(long userId, long productId) {
+        return reviewRepository.findAll().stream()
+                .filter(review -> review.getUserId().equals(userId))
+                .filter(review -> review.getProductId().equals(productId))
+                .filter(review -> review.getStatus() == ReviewStatus.ACTIVE)
+                .count();
+    }
+}
@@ -0,0 +1,82 @@
+package com.cMall.feedShop.review.performance;
+
+import com.cMall.feedShop.review.application.ReviewSearchIndexer;
+import com.cMall.feedShop.review.application.dto.request.ReviewSearchRequest;
+import com.cMall.feedShop.review.application.dto.response.ReviewSearchResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 리뷰 검색 부하 테스트
+ * 색인 검색과 리뷰 작성(커밋 후 색인 반영)을 동시에 실행해 지연 시간과 처리량을 출력하고, 색인 건수가 DB 와 일치하는지 검증합니다.
+ */
+class ReviewSearchPerformanceTest extends ReviewLoadTestSupport {
+
+    private static final int PRODUCT_COUNT = 20;
+    private static final int CREATE_COUNT = 400;
+    private static final int SEARCH_COUNT = 2000;
+    private static final String[] KEYWORDS = {"편한", "쿠션", "사이즈", "디자인", null};
+
+    @Autowired
+    private ReviewSearchIndexer reviewSearchIndexer;
+
+    @Test
+    @DisplayName("Given indexed reviews_When concurrent keyword searches_Then every page is full and totals are consistent")
+    void givenIndexedReviews_whenConcurrentKeywordSearches_thenEveryPageIsFullAndTotalsAreConsistent() throws InterruptedException {
+        // given - 다른 테스트가 테이블을 직접 비운 흔적이 남지 않도록 색인을 DB 기준으로 다시 만듦
+        for (int index = 0; index < CREATE_COUNT; index++) {
+            reviewService.createReview(uniqueRequest(index, PRODUCT_COUNT));
+        }
+        reviewSearchIndexer.rebuild();
+
+        // when
+        LoadTestRunner.Result result = LoadTestRunner.run("searchReviews", THREAD_COUNT, SEARCH_COUNT, index -> {
+            ReviewSearchResponse response = reviewService.searchReviews(
+                    searchRequest(index % PRODUCT_COUNT + 1L, KEYWORDS[index % KEYWORDS.length]), PageRequest.of(0, 10));
+            assertEquals(Math.min(10, response.getTotalElements()), response.getContent().size());
+        });
+
+        // then
+        assertTrue(result.errors().isEmpty(), () -> "실패한 요청: " + result.errors());
+        assertEquals(CREATE_COUNT, reviewSearchIndexer.size());
+    }
+
+    @Test
+    @DisplayName("Given mixed create and search load_When run_Then every committed review is searchable")
+    void givenMixedCreateAndSearchLoad_whenRun_thenEveryCommittedReviewIsSearchable() throws InterruptedException {
+        // given
+        reviewSearchIndexer.rebuild();
+
+        // when - 짝수 인덱스는 작성, 홀수 인덱스는 검색
+        LoadTestRunner.Result result = LoadTestRunner.run("createReview + searchReviews", THREAD_COUNT, CREATE_COUNT * 2,
+                index -> {
+                    if (index % 2 == 0) {
+                        reviewService.createReview(uniqueRequest(index / 2, PRODUCT_COUNT));
+                    } else {
+                        reviewService.searchReviews(
+                                searchRequest(index % PRODUCT_COUNT + 1L, KEYWORDS[index % KEYWORDS.length]),
+                                PageRequest.of(0, 10));
+                    }
+                });
+
+        // then
+        assertTrue(result.errors().isEmpty(), () -> "실패한 요청: " + result.errors());
+        assertEquals(CREATE_COUNT, reviewSearchIndexer.size());
+        long searchable = 0;
+        for (long productId = 1; productId <= PRODUCT_COUNT; productId++) {
+            searchable += reviewService.searchReviews(searchRequest(productId, null), PageRequest.of(0, 1)).getTotalElements();
+        }
+        assertEquals(CREATE_COUNT, searchable);
+    }
+
+    private ReviewSearchRequest searchRequest(Long productId, String keyword) {
+        ReviewSearchRequest request = new ReviewSearchRequest();
+        request.setProductId(productId);
+        request.setKeyword(keyword);
+        return request;
+    }
+}
@@ -5,6 +5,8 @@ import com.cMall.feedShop.review.application.dto.request.ReviewUpdateRequest;
 import com.cMall.feedShop.review.domain.entity.SizeFit;
 import com.cMall.feedShop.review.domain.entity.Cushion;
 import com.cMall.feedShop.review.domain.entity.Stability;
+import com.cMall.feedShop.user.domain.enums.UserRole;
+import com.cMall.feedShop.user.infrastructure.security.WithMockUserPrincipal;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -13,7 +15,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
-import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
@@ -66,7 +67,7 @@ class ReviewValidationTest {
 
     @Test
     @DisplayName("Validation: 필수 필드 누락 검증")
-    @WithMockUser
+    @WithMockUserPrincipal
     void validateRequiredFields() throws Exception {
         // 1. userId 누락
         ReviewCreateRequest noUserIdRequest = ReviewCreateRequest.builder()
@@ -132,7 +133,7 @@ class ReviewValidationTest {
 
     @Test
     @DisplayName("Validation: 평점 범위 검증 (1-5점)")
-    @WithMockUser
+    @WithMockUserPrincipal
     void validateRatingRange() throws Exception {
         // 1. 평점이 0인 경우
         ReviewCreateRequest zeroRatingRequest = validRequest.toBuilder()
@@ -176,7 +177,7 @@ class ReviewValidationTest {
 
     @Test
     @DisplayName("Validation: 텍스트 길이 제한 검증")
-    @WithMockUser
+    @WithMockUserPrincipal
     void validateTextLengthLimits() throws Exception {
         // 1. 리뷰 제목 길이 초과 (100자 초과)
         String longTitle = "이것은 매우 긴 리뷰 제목입니다. ".repeat(10); // 100자 초과
@@ -209,7 +210,7 @@ class ReviewValidationTest {
 
     @Test
     @DisplayName("Validation: 이미지 URL 개수 제한 검증")
-    @WithMockUser
+    @WithMockUserPrincipal
     void validateImageUrlLimit() throws Exception {
         // 6개의 이미지 URL (5개 초과)
         List<String> tooManyImageUrls = List.of(
@@ -258,7 +259,7 @@ class ReviewValidationTest {
 
     @Test
     @DisplayName("Validation: enum 값 검증")
-    @WithMockUser
+    @WithMockUserPrincipal
     void validateEnumValues() throws Exception {
         // 잘못된 JSON으로 enum 검증 (직접 JSON 문자열 사용)
         String invalidEnumJson = """
@@ -285,7 +286,7 @@ class ReviewValidationTest {
 
     @Test
     @DisplayName("Validation: 경계값 테스트")
-    @WithMockUser
+    @WithMockUserPrincipal(role = UserRole.ROLE_ADMIN) // 여러 사용자 ID로 등록
     void validateBoundaryValues() throws Exception {
         // 1. 최소 유효 평점 (1점)
         ReviewCreateRequest minRatingRequest = validRequest.toBuilder()
@@ -375,7 +376,7 @@ class ReviewValidationTest {
 
     @Test
     @DisplayName("Validation: 빈 값과 null 값 처리")
-    @WithMockUser
+    @WithMockUserPrincipal(role = UserRole.ROLE_ADMIN) // 여러 사용자 ID로 등록
     void validateEmptyAndNullValues() throws Exception {
         // 1. 빈 문자열 제목
         ReviewCreateRequest emptyTitleRequest = validRequest.toBuilder()
@@ -418,7 +419,7 @@ class ReviewValidationTest {
 
     @Test
     @DisplayName("Validation: 특수 문자 및 유니코드 처리")
-    @WithMockUser
+    @WithMockUserPrincipal(role = UserRole.ROLE_ADMIN) // 여러 사용자 ID로 등록
     void validateSpecialCharactersAndUnicode() throws Exception {
         // 1. 특수 문자가 포함된 제목
         ReviewCreateRequest specialCharsRequest = validRequest.toBuilder()
@@ -7,7 +7,9 @@ import com.cMall.feedShop.user.application.dto.response.UserLoginResponse;
 import com.cMall.feedShop.user.domain.enums.UserRole;
 import com.cMall.feedShop.user.domain.model.User;
 import com.cMall.feedShop.user.domain.repository.UserRepository;
+import com.cMall.feedShop.user.domain.enums.UserStatus;
 import com.cMall.feedShop.user.infrastructure.security.JwtTokenProvider;
+import com.cMall.feedShop.user.infrastructure.security.RefreshTokenManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -47,6 +49,9 @@ class UserAuthServiceTest {
     @Mock // Mock 객체 생성
     private AuthenticationManager authenticationManager;
 
+    @Mock
+    private RefreshTokenManager refreshTokenManager;
+
     @InjectMocks // Mock 객체들을 주입받을 테스트 대상 서비스
     private UserAuthService userAuthService;
 
@@ -84,12 +89,12 @@ class UserAuthServiceTest {
         Authentication mockAuthentication = mock(Authentication.class);
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                 .thenReturn(mockAuthentication);
+        // CustomUserDetailsService 가 조회한 User 가 인증 결과의 principal 로 전달됨
+        when(mockAuthentication.getPrincipal()).thenReturn(testUser);
 
-        when(userRepository.findByEmail(loginRequest.getEmail()))
-                .thenReturn(Optional.of(testUser));
-
-        when(jwtTokenProvider.generateAccessToken(testUser.getEmail(), testUser.getRole().name()))
+        when(jwtTokenProvider.generateAccessToken(testUser.getId(), testUser.getEmail(), testUser.getRole().name(), null))
                 .thenReturn(dummyToken);
+        when(refreshTokenManager.issue(testUser.getId())).thenReturn("dummy_refresh_token");
 
         // when (실행): 테스트 대상 메서드 호출
         UserLoginResponse response = userAuthService.login(loginRequest);
@@ -99,11 +104,12 @@ class UserAuthServiceTest {
         assertEquals(testUser.getLoginId(), response.getLoginId()); // 로그인 ID 일치 확인
         assertEquals(testUser.getRole(), response.getRole());       // 역할 일치 확인
         assertEquals(dummyToken, response.getToken());              // 토큰 일치 확인
+        assertEquals("dummy_refresh_token", response.getRefreshToken());
 
         // Mock 객체의 메서드가 예상대로 호출되었는지 검증
         verify(authenticationManager, times(1)).authenticate(any(UsernamePasswordAuthenticationToken.class));
-        verify(userRepository, times(1)).findByEmail(loginRequest.getEmail());
-        verify(jwtTokenProvider, times(1)).generateAccessToken(testUser.getEmail(), testUser.getRole().name());
+        verifyNoInteractions(userRepository); // 인증 과정에서 조회한 User 를 재사용하므로 추가 조회 없음
+        verify(jwtTokenProvider, times(1)).generateAccessToken(testUser.getId(), testUser.getEmail(), testUser.getRole().name(), null);
     }
 
     @Test
@@ -124,7 +130,7 @@ class UserAuthServiceTest {
         // Mock 객체 호출 검증
         verify(authenticationManager, times(1)).authenticate(any(UsernamePasswordAuthenticationToken.class));
         verify(userRepository, never()).findByEmail(anyString()); // 사용자를 찾지 못했으므로 호출되지 않음
-        verify(jwtTokenProvider, never()).generateAccessToken(anyString(), anyString()); // 토큰 생성도 호출되지 않음
+        verify(jwtTokenProvider, never()).generateAccessToken(any(), anyString(), anyString(), any()); // 토큰 생성도 호출되지 않음
     }
 
     @Test
@@ -146,6 +152,43 @@ class UserAuthServiceTest {
         // Mock 객체 호출 검증
         verify(authenticationManager, times(1)).authenticate(any(UsernamePasswordAuthenticationToken.class));
         verify(userRepository, never()).findByEmail(anyString()); // 인증 실패로 User 조회가 진행되지 않음
-        verify(jwtTokenProvider, never()).generateAccessToken(anyString(), anyString()); // 토큰 생성도 호출되지 않음
+        verify(jwtTokenProvider, never()).generateAccessToken(any(), anyString(), anyString(), any()); // 토큰 생성도 호출되지 않음
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 재발급 - 회전된 리프레시 토큰과 새 액세스 토큰 반환")
+    void refresh_success_rotatesToken() {
+        // given
+        when(refreshTokenManager.rotate("old_refresh_token"))
+                .thenReturn(new RefreshTokenManager.Rotation(1L, "new_refresh_token"));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(jwtTokenProvider.generateAccessToken(testUser.getId(), testUser.getEmail(), testUser.getRole().name(), null))
+                .thenReturn(dummyToken);
+
+        // when
+        UserLoginResponse response = userAuthService.refresh("old_refresh_token");
+
+        // then
+        assertEquals(dummyToken, response.getToken());
+        assertEquals("new_refresh_token", response.getRefreshToken());
+        verify(refreshTokenManager, never()).revoke(anyString());
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 재발급 실패 - 비활성 계정이면 새 토큰도 폐기")
+    void refresh_fail_inactiveUser() {
+        // given
+        testUser.setStatus(UserStatus.BLOCKED);
+        when(refreshTokenManager.rotate("old_refresh_token"))
+                .thenReturn(new RefreshTokenManager.Rotation(1L, "new_refresh_token"));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+
+        // when & then
+        BusinessException thrown = assertThrows(BusinessException.class,
+                () -> userAuthService.refresh("old_refresh_token"));
+
+        assertEquals(ErrorCode.UNAUTHORIZED, thrown.getErrorCode());
+        verify(refreshTokenManager, times(1)).revoke("new_refresh_token");
+        verify(jwtTokenProvider, never()).generateAccessToken(any(), anyString(), anyString(), any());
     }
 }
@@ -0,0 +1,122 @@
+package com.cMall.feedShop.user.infrastructure.security;
+
+import com.cMall.feedShop.common.exception.BusinessException;
+import com.cMall.feedShop.common.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedBCryptPasswordEncoderTest {
+
+    @Test
+    @DisplayName("Given raw password_When encode and matches on hashing pool_Then behaves like BCrypt and records metrics")
+    void givenRawPassword_whenEncodeAndMatchesOnHashingPool_thenBehavesLikeBCryptAndRecordsMetrics() throws Exception {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        BoundedBCryptPasswordEncoder encoder = new BoundedBCryptPasswordEncoder(4, 2, 8, Duration.ofSeconds(5), registry);
+
+        try {
+            // when
+            String encoded = encoder.encode("password123!");
+
+            // then
+            assertTrue(encoded.startsWith("$2a$04$"));
+            assertTrue(encoder.matches("password123!", encoded));
+            assertFalse(encoder.matches("wrong-password", encoded));
+            assertEquals(1, registry.get(BoundedBCryptPasswordEncoder.METRIC_PREFIX + ".duration")
+                    .tag("operation", "encode").timer().count());
+            assertEquals(2, registry.get(BoundedBCryptPasswordEncoder.METRIC_PREFIX + ".duration")
+                    .tag("operation", "matches").timer().count());
+        } finally {
+            encoder.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("Given stored hash with different cost_When upgradeEncoding_Then rehash is required")
+    void givenStoredHashWithDifferentCost_whenUpgradeEncoding_thenRehashIsRequired() throws Exception {
+        // given
+        String cost4Hash = new BCryptPasswordEncoder(4).encode("password123!");
+        String cost6Hash = new BCryptPasswordEncoder(6).encode("password123!");
+        BoundedBCryptPasswordEncoder encoder = new BoundedBCryptPasswordEncoder(5, 1, 1, Duration.ofSeconds(5), null);
+
+        try {
+            // when & then
+            assertTrue(encoder.upgradeEncoding(cost4Hash));
+            assertTrue(encoder.upgradeEncoding(cost6Hash));
+            assertFalse(encoder.upgradeEncoding(new BCryptPasswordEncoder(5).encode("password123!")));
+            assertFalse(encoder.upgradeEncoding(null));
+        } finally {
+            encoder.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("Given saturated hashing pool_When another request arrives_Then reject fast with 503")
+    void givenSaturatedHashingPool_whenAnotherRequestArrives_thenRejectFastWith503() throws Exception {
+        // given - 스레드 1개 + 대기 큐 1칸을 모두 채움
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new BlockingPasswordEncoder(started, release);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        BoundedBCryptPasswordEncoder encoder =
+                new BoundedBCryptPasswordEncoder(blocking, 10, 1, 1, Duration.ofSeconds(5), registry);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+
+        try {
+            callers.submit(() -> encoder.encode("running"));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            callers.submit(() -> encoder.encode("queued"));
+            waitUntilQueued(encoder);
+
+            // when
+            BusinessException exception = assertThrows(BusinessException.class, () -> encoder.encode("rejected"));
+
+            // then
+            assertEquals(ErrorCode.SERVICE_UNAVAILABLE, exception.getErrorCode());
+            assertEquals(1.0, registry.get(BoundedBCryptPasswordEncoder.METRIC_PREFIX + ".rejected").counter().count());
+            assertNotNull(registry.find("executor.queued").tag("name", "password.hashing").gauge());
+        } finally {
+            release.countDown();
+            callers.shutdownNow();
+            encoder.destroy();
+        }
+    }
+
+    private static void waitUntilQueued(BoundedBCryptPasswordEncoder encoder) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (encoder.getQueueSize() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, encoder.getQueueSize());
+    }
+
+    private record BlockingPasswordEncoder(CountDownLatch started, CountDownLatch release) implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return rawPassword.toString().equals(encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.cMall.feedShop.user.infrastructure.security;
+
+import com.cMall.feedShop.user.domain.enums.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class JwtAuthenticationFilterTest {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "secretKey",
+                "test_jwt_secret_key_for_testing_which_should_be_at_least_256_bit_long_string");
+        ReflectionTestUtils.setField(provider, "accessTokenExpiration", 3_600_000L);
+        ReflectionTestUtils.setField(provider, "refreshTokenExpiration", 1_209_600_000L);
+        provider.init();
+        jwtTokenProvider = spy(provider);
+
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, 100, Duration.ofMinutes(5), null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Given valid access token_When repeated requests_Then principal comes from claims and token is verified once")
+    void givenValidAccessToken_whenRepeatedRequests_thenPrincipalComesFromClaimsAndTokenIsVerifiedOnce() throws Exception {
+        // given
+        String token = jwtTokenProvider.generateAccessToken(1L, "test@example.com", "ROLE_USER", "tester");
+
+        // when
+        Authentication first = doFilter(token);
+        Authentication second = doFilter(token);
+
+        // then
+        assertNotNull(first);
+        assertTrue(first.isAuthenticated());
+        UserPrincipal principal = assertInstanceOf(UserPrincipal.class, first.getPrincipal());
+        assertEquals(1L, principal.getUserId());
+        assertEquals("test@example.com", principal.getEmail());
+        assertEquals(UserRole.ROLE_USER, principal.getRole());
+        assertEquals("tester", principal.getNickname());
+        assertEquals("ROLE_USER", first.getAuthorities().iterator().next().getAuthority());
+        assertSame(first, second);
+        verify(jwtTokenProvider, times(1)).parseClaims(anyString());
+    }
+
+    @Test
+    @DisplayName("Given tampered or refresh token_When filter_Then leave request unauthenticated")
+    void givenTamperedOrRefreshToken_whenFilter_thenLeaveRequestUnauthenticated() throws Exception {
+        // given
+        String token = jwtTokenProvider.generateAccessToken(1L, "test@example.com", "ROLE_USER", null);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+        String refreshToken = jwtTokenProvider.generateRefreshToken("test@example.com");
+
+        // when & then
+        assertNull(doFilter(tampered));
+        assertNull(doFilter(refreshToken));
+        assertNull(doFilter(null));
+    }
+
+    private Authentication doFilter(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/reviews/1");
+        if (token != null) {
+            request.addHeader("Authorization", "Bearer " + token);
+        }
+        AtomicReference<Authentication> seen = new AtomicReference<>();
+        filter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> seen.set(SecurityContextHolder.getContext().getAuthentication()));
+        return seen.get();
+    }
+}
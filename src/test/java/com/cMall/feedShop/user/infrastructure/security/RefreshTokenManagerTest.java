@@ -0,0 +1,260 @@
+package com.cMall.feedShop.user.infrastructure.security;
+
+import com.cMall.feedShop.common.exception.BusinessException;
+import com.cMall.feedShop.common.exception.ErrorCode;
+import com.cMall.feedShop.user.domain.model.RefreshToken;
+import com.cMall.feedShop.user.domain.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class RefreshTokenManagerTest {
+
+    private static final long TTL_MILLIS = 60_000L;
+    private static final int MAX_PENDING_WRITES = 10;
+    private static final int MAX_FLUSH_ATTEMPTS = 3;
+
+    private RefreshTokenRepository refreshTokenRepository;
+    private MutableClock clock;
+    private RefreshTokenManager manager;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenRepository = mock(RefreshTokenRepository.class);
+        clock = new MutableClock(1_700_000_000_000L);
+        manager = new RefreshTokenManager(refreshTokenRepository, mock(PlatformTransactionManager.class),
+                TTL_MILLIS, 100, MAX_PENDING_WRITES, MAX_FLUSH_ATTEMPTS, clock, null);
+    }
+
+    @Test
+    @DisplayName("Given rotated token_When old token is reused_Then revoke whole family")
+    void givenRotatedToken_whenOldTokenIsReused_thenRevokeWholeFamily() {
+        // given
+        String first = manager.issue(1L);
+        RefreshTokenManager.Rotation rotation = manager.rotate(first);
+
+        // when
+        BusinessException reused = assertThrows(BusinessException.class, () -> manager.rotate(first));
+
+        // then
+        assertEquals(1L, rotation.userId());
+        assertNotEquals(first, rotation.refreshToken());
+        assertEquals(ErrorCode.UNAUTHORIZED, reused.getErrorCode());
+        assertThrows(BusinessException.class, () -> manager.rotate(rotation.refreshToken()));
+        assertEquals(0, manager.size());
+    }
+
+    @Test
+    @DisplayName("Given logged out or expired token_When rotate_Then reject")
+    void givenLoggedOutOrExpiredToken_whenRotate_thenReject() {
+        // given
+        String loggedOut = manager.issue(1L);
+        String otherSession = manager.issue(1L);
+        String expiring = manager.issue(2L);
+
+        // when
+        manager.revoke(loggedOut);
+        clock.advance(TTL_MILLIS / 2);
+        RefreshTokenManager.Rotation stillValid = manager.rotate(otherSession);
+        clock.advance(TTL_MILLIS / 2);
+
+        // then
+        assertThrows(BusinessException.class, () -> manager.rotate(loggedOut));
+        assertThrows(BusinessException.class, () -> manager.rotate(expiring));
+        assertNotNull(manager.rotate(stillValid.refreshToken()));
+        assertThrows(BusinessException.class, () -> manager.rotate("unknown-token"));
+    }
+
+    @Test
+    @DisplayName("Given expired tokens_When sweep_Then remove from memory and delete expired rows in batches")
+    void givenExpiredTokens_whenSweep_thenRemoveFromMemoryAndDeleteExpiredRowsInBatches() {
+        // given
+        manager.issue(1L);
+        manager.issue(2L);
+        clock.advance(TTL_MILLIS);
+        manager.issue(3L);
+        when(refreshTokenRepository.findExpiredTokenHashes(anyLong(), any()))
+                .thenReturn(List.of("expired-1", "expired-2"));
+
+        // when
+        manager.sweepExpired();
+
+        // then
+        assertEquals(1, manager.size());
+        verify(refreshTokenRepository).deleteAllByIdInBatch(List.of("expired-1", "expired-2"));
+    }
+
+    @Test
+    @DisplayName("Given pending writes_When flush_Then apply insert, mark used and delete in one batch")
+    @SuppressWarnings("unchecked")
+    void givenPendingWrites_whenFlush_thenApplyInsertMarkUsedAndDeleteInOneBatch() {
+        // given
+        String first = manager.issue(1L);
+        manager.rotate(first);
+        String loggedOut = manager.issue(2L);
+        manager.revoke(loggedOut);
+
+        // when
+        manager.flush();
+
+        // then
+        ArgumentCaptor<List<RefreshToken>> inserts = ArgumentCaptor.forClass(List.class);
+        verify(refreshTokenRepository).saveAll(inserts.capture());
+        assertEquals(3, inserts.getValue().size());
+        verify(refreshTokenRepository).markUsed(argThat(hashes -> hashes.size() == 1));
+        verify(refreshTokenRepository).deleteByFamilyIdIn(argThat(familyIds -> familyIds.size() == 1));
+        assertEquals(0, manager.pendingWriteCount());
+    }
+
+    @Test
+    @DisplayName("Given token issued on another instance_When rotate_Then load it by hash and mark used conditionally")
+    void givenTokenIssuedOnAnotherInstance_whenRotate_thenLoadItByHashAndMarkUsedConditionally() {
+        // given
+        String rawToken = "issued-on-other-instance";
+        String hash = TokenHashes.sha256(rawToken);
+        when(refreshTokenRepository.findById(hash))
+                .thenReturn(Optional.of(new RefreshToken(hash, 7L, 3L, clock.millis() + TTL_MILLIS, false)));
+        when(refreshTokenRepository.markUsedIfUnused(hash)).thenReturn(1);
+
+        // when
+        RefreshTokenManager.Rotation rotation = manager.rotate(rawToken);
+
+        // then
+        assertEquals(3L, rotation.userId());
+        verify(refreshTokenRepository).markUsedIfUnused(hash);
+        assertEquals(2, manager.size());
+    }
+
+    @Test
+    @DisplayName("Given token already used on another instance_When rotate_Then treat as reuse and delete the family")
+    void givenTokenAlreadyUsedOnAnotherInstance_whenRotate_thenTreatAsReuseAndDeleteTheFamily() {
+        // given - 이 인스턴스 캐시에는 아직 미사용으로 남아 있음
+        String rawToken = manager.issue(1L);
+        manager.flush();
+        String hash = TokenHashes.sha256(rawToken);
+        when(refreshTokenRepository.markUsedIfUnused(hash)).thenReturn(0);
+
+        // when
+        BusinessException reused = assertThrows(BusinessException.class, () -> manager.rotate(rawToken));
+
+        // then
+        assertEquals(ErrorCode.UNAUTHORIZED, reused.getErrorCode());
+        assertEquals(0, manager.size());
+        manager.flush();
+        verify(refreshTokenRepository).deleteByFamilyIdIn(argThat(familyIds -> familyIds.size() == 1));
+    }
+
+    @Test
+    @DisplayName("Given database failure_When flush_Then keep writes for next attempt")
+    void givenDatabaseFailure_whenFlush_thenKeepWritesForNextAttempt() {
+        // given
+        manager.issue(1L);
+        when(refreshTokenRepository.saveAll(any())).thenThrow(new IllegalStateException("db down"));
+
+        // when
+        manager.flush();
+
+        // then
+        assertEquals(1, manager.pendingWriteCount());
+    }
+
+    @Test
+    @DisplayName("Given batch failing up to the attempt limit_When flush_Then write rows one by one and drop the failing row")
+    @SuppressWarnings("unchecked")
+    void givenBatchFailingUpToAttemptLimit_whenFlush_thenWriteRowsOneByOneAndDropTheFailingRow() {
+        // given - userId 2 의 행만 계속 실패
+        manager.issue(1L);
+        manager.issue(2L);
+        when(refreshTokenRepository.saveAll(any())).thenAnswer(invocation -> {
+            List<RefreshToken> tokens = invocation.getArgument(0);
+            if (tokens.stream().anyMatch(token -> token.getUserId() == 2L)) {
+                throw new IllegalStateException("bad row");
+            }
+            return tokens;
+        });
+
+        // when
+        for (int attempt = 1; attempt < MAX_FLUSH_ATTEMPTS; attempt++) {
+            manager.flush();
+            assertEquals(2, manager.pendingWriteCount());
+        }
+        manager.flush();
+
+        // then
+        assertEquals(0, manager.pendingWriteCount());
+        ArgumentCaptor<List<RefreshToken>> saved = ArgumentCaptor.forClass(List.class);
+        verify(refreshTokenRepository, times(MAX_FLUSH_ATTEMPTS + 2)).saveAll(saved.capture());
+        List<RefreshToken> written = saved.getAllValues().get(MAX_FLUSH_ATTEMPTS);
+        assertEquals(1, written.size());
+        assertEquals(1L, written.get(0).getUserId());
+    }
+
+    @Test
+    @DisplayName("Given pending writes at the limit_When issue_Then reject with service unavailable and expose the backlog gauge")
+    void givenPendingWritesAtTheLimit_whenIssue_thenRejectWithServiceUnavailableAndExposeTheBacklogGauge() {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        manager = new RefreshTokenManager(refreshTokenRepository, mock(PlatformTransactionManager.class),
+                TTL_MILLIS, 100, MAX_PENDING_WRITES, MAX_FLUSH_ATTEMPTS, clock, registry);
+        String loggedIn = manager.issue(1L);
+        for (int i = 1; i < MAX_PENDING_WRITES; i++) {
+            manager.issue((long) i + 1);
+        }
+
+        // when
+        BusinessException rejected = assertThrows(BusinessException.class, () -> manager.issue(99L));
+
+        // then
+        assertEquals(ErrorCode.SERVICE_UNAVAILABLE, rejected.getErrorCode());
+        assertEquals(MAX_PENDING_WRITES, registry.get(RefreshTokenManager.PENDING_WRITES_METRIC).gauge().value());
+        manager.revoke(loggedIn);
+        assertEquals(MAX_PENDING_WRITES + 1, manager.pendingWriteCount());
+    }
+
+    private static final class MutableClock extends Clock {
+        private long millis;
+
+        private MutableClock(long millis) {
+            this.millis = millis;
+        }
+
+        void advance(long delta) {
+            millis += delta;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
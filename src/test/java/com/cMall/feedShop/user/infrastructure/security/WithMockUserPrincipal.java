@@ -0,0 +1,28 @@
+package com.cMall.feedShop.user.infrastructure.security;
+
+import com.cMall.feedShop.user.domain.enums.UserRole;
+import org.springframework.security.test.context.support.WithSecurityContext;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테스트용 인증 주체 설정
+ * JwtAuthenticationFilter 와 같은 UserPrincipal 을 SecurityContext 에 넣어
+ * authentication.principal.userId 를 쓰는 @PreAuthorize 를 그대로 검증할 수 있게 합니다.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@WithSecurityContext(factory = WithMockUserPrincipalSecurityContextFactory.class)
+public @interface WithMockUserPrincipal {
+
+    long userId() default 1L;
+
+    String email() default "test@example.com";
+
+    UserRole role() default UserRole.ROLE_USER;
+
+    String nickname() default "tester";
+}
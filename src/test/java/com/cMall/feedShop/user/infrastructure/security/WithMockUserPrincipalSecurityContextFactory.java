@@ -0,0 +1,19 @@
+package com.cMall.feedShop.user.infrastructure.security;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.test.context.support.WithSecurityContextFactory;
+
+public class WithMockUserPrincipalSecurityContextFactory implements WithSecurityContextFactory<WithMockUserPrincipal> {
+
+    @Override
+    public SecurityContext createSecurityContext(WithMockUserPrincipal annotation) {
+        UserPrincipal principal = new UserPrincipal(annotation.userId(), annotation.email(),
+                annotation.role(), annotation.nickname());
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities()));
+        return context;
+    }
+}